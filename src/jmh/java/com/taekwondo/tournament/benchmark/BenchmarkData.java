@@ -0,0 +1,71 @@
+package com.taekwondo.tournament.benchmark;
+
+import com.taekwondo.tournament.model.Club;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Data shaped like a large regional competition, generated from a fixed seed so runs are comparable.
+ */
+final class BenchmarkData {
+
+    static final int CLUBS = 50;
+    static final int PARTICIPANTS = 2000;
+    static final int MATS = 12;
+
+    private BenchmarkData() {
+    }
+
+    static List<Club> clubs() {
+        List<Club> clubs = new ArrayList<>();
+        for (int i = 0; i < CLUBS; i++) {
+            Club club = new Club();
+            club.setName("Taekwondo Club " + i);
+            club.setLocation("City " + i % 20);
+            clubs.add(club);
+        }
+        return clubs;
+    }
+
+    static List<Participant> participants(List<Club> clubs) {
+        Random random = new Random(42);
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(6 + random.nextInt(30));
+            participant.setGender(Gender.values()[random.nextInt(Gender.values().length)]);
+            participant.setSkillLevel(SkillLevel.values()[random.nextInt(SkillLevel.values().length)]);
+            participant.setClub(clubs.get(random.nextInt(clubs.size())));
+            participants.add(participant);
+        }
+        return participants;
+    }
+
+    static Tournament tournament() {
+        Tournament tournament = new Tournament();
+        tournament.setName("Benchmark Open");
+        tournament.setDate(LocalDate.of(2025, 6, 1));
+        tournament.setNumberOfMats(MATS);
+        for (Gender gender : Gender.values()) {
+            for (SkillLevel level : SkillLevel.values()) {
+                for (int age = 6; age < 36; age += 6) {
+                    Tournament.TournamentCategory category = new Tournament.TournamentCategory();
+                    category.setGender(gender);
+                    category.setSkillLevel(level);
+                    category.setMinAge(age);
+                    category.setMaxAge(age + 5);
+                    tournament.getCategories().add(category);
+                }
+            }
+        }
+        return tournament;
+    }
+}
@@ -0,0 +1,68 @@
+package com.taekwondo.tournament.benchmark;
+
+import com.taekwondo.tournament.service.MatScheduler;
+import com.taekwondo.tournament.service.MatScheduler.Slot;
+import com.taekwondo.tournament.service.MatScheduler.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatSchedulerBenchmark {
+
+    private static final long DURATION_SECONDS = 360;
+    private static final long REST_SECONDS = 1200;
+
+    // Full 128-athlete brackets, 127 matches each: 40 of them make a 5,080 match tournament
+    @Param({"8", "40"})
+    public int brackets;
+
+    @Param({"12"})
+    public int mats;
+
+    private MatScheduler scheduler;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        scheduler = new MatScheduler(REST_SECONDS);
+        tasks = new ArrayList<>();
+        long nextId = 1;
+        for (int bracket = 0; bracket < brackets; bracket++) {
+            long participant = (long) bracket * 1000;
+            long[] previous = null;
+            for (int size = 128; size > 1; size /= 2) {
+                long[] round = new long[size / 2];
+                for (int i = 0; i < round.length; i++) {
+                    round[i] = nextId++;
+                    long[] participants = previous == null ? new long[]{participant++, participant++} : new long[0];
+                    long[] predecessors = previous == null ? new long[0] : new long[]{previous[2 * i], previous[2 * i + 1]};
+                    tasks.add(new Task(round[i], participants, predecessors, DURATION_SECONDS));
+                }
+                previous = round;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Slot> schedule() {
+        return scheduler.schedule(tasks, mats);
+    }
+}
@@ -0,0 +1,109 @@
+package com.taekwondo.tournament.benchmark;
+
+import com.taekwondo.tournament.TaekwondoTournamentApplication;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.model.Club;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.ClubRepository;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import com.taekwondo.tournament.service.BracketService;
+import com.taekwondo.tournament.service.MatSchedulingService;
+import com.taekwondo.tournament.service.MatchService;
+import com.taekwondo.tournament.service.ParticipantService;
+import com.taekwondo.tournament.service.RegistrationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths against in-memory H2 holding a generated and scheduled competition
+ * of {@value BenchmarkData#PARTICIPANTS} registered athletes on {@value BenchmarkData#MATS} mats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MatchRepository matchRepository;
+    private MatchService matchService;
+    private ParticipantService participantService;
+    private Long tournamentId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaekwondoTournamentApplication.class)
+            .profiles("test")
+            // Arguments rather than default properties so they win over the test profile's SQL logging
+            .run("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                "--logging.level.com.taekwondo=WARN", "--logging.level.org.springframework=WARN",
+                "--logging.level.org.hibernate=WARN");
+        matchRepository = context.getBean(MatchRepository.class);
+        matchService = context.getBean(MatchService.class);
+        participantService = context.getBean(ParticipantService.class);
+
+        List<Club> clubs = context.getBean(ClubRepository.class).saveAll(BenchmarkData.clubs());
+        List<Participant> participants = context.getBean(ParticipantRepository.class)
+            .saveAll(BenchmarkData.participants(clubs));
+        Tournament tournament = context.getBean(TournamentRepository.class).save(BenchmarkData.tournament());
+        tournamentId = tournament.getId();
+        // Brackets are drawn from the tournament's entrants only
+        RegistrationService registrationService = context.getBean(RegistrationService.class);
+        List<CompletableFuture<?>> registrations = participants.stream()
+            .<CompletableFuture<?>>map(participant -> registrationService.submitRegistration(participant.getId(), tournamentId))
+            .toList();
+        registrationService.flush();
+        registrations.forEach(CompletableFuture::join);
+        context.getBean(BracketService.class).generateBrackets(tournamentId);
+        context.getBean(MatSchedulingService.class).scheduleTournament(tournamentId);
+        if (matchRepository.findByTournamentId(tournamentId).isEmpty()) {
+            throw new IllegalStateException("Benchmark tournament " + tournamentId + " has no matches");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MatchDTO> tournamentScheduleFromDatabase() {
+        return matchRepository.findByTournamentId(tournamentId).stream().map(MatchDTO::from).toList();
+    }
+
+    @Benchmark
+    public List<MatchDTO> matScheduleFromDatabase() {
+        return matchRepository.findByTournamentIdAndMatNumber(tournamentId, 1).stream().map(MatchDTO::from).toList();
+    }
+
+    @Benchmark
+    public List<MatchDTO> tournamentScheduleCached() {
+        return matchService.getMatchesByTournament(tournamentId);
+    }
+
+    @Benchmark
+    public List<ParticipantDTO> participantsWithClubs() {
+        return participantService.getAllParticipants();
+    }
+}
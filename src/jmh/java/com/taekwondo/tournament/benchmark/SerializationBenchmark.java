@@ -0,0 +1,109 @@
+package com.taekwondo.tournament.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.model.Club;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.Tournament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON rendering of the list payloads, using the same Jackson setup as the web layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<Club> clubs;
+    private List<Participant> participants;
+    private List<ParticipantDTO> participantDTOs;
+    private List<Match> matches;
+    private List<MatchDTO> matchDTOs;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        clubs = BenchmarkData.clubs();
+        for (int i = 0; i < clubs.size(); i++) {
+            clubs.get(i).setId((long) i + 1);
+        }
+        participants = BenchmarkData.participants(clubs);
+        for (int i = 0; i < participants.size(); i++) {
+            Participant participant = participants.get(i);
+            participant.setId((long) i + 1);
+            participant.getClub().getParticipants().add(participant);
+        }
+        participantDTOs = participants.stream().map(ParticipantDTO::from).toList();
+
+        Tournament tournament = BenchmarkData.tournament();
+        tournament.setId(1L);
+        LocalDateTime start = tournament.getDate().atTime(9, 0);
+        matches = new ArrayList<>();
+        for (int i = 0; i + 1 < participants.size(); i += 2) {
+            Match match = new Match();
+            match.setId((long) matches.size() + 1);
+            match.setTournament(tournament);
+            match.setRound(Match.Round.ROUND_OF_32);
+            match.setMatNumber(matches.size() % BenchmarkData.MATS + 1);
+            match.setMatchOrder(matches.size() / BenchmarkData.MATS + 1);
+            match.setMatchId("mat" + match.getMatNumber() + "-match" + match.getMatchOrder());
+            match.setScheduledTime(start.plusMinutes(6L * match.getMatchOrder()));
+            match.setParticipant1(participants.get(i));
+            match.setParticipant2(participants.get(i + 1));
+            matches.add(match);
+        }
+        matchDTOs = matches.stream().map(MatchDTO::from).toList();
+    }
+
+    @Benchmark
+    public byte[] matchEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(matches);
+    }
+
+    @Benchmark
+    public byte[] matchDTOs() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(matchDTOs);
+    }
+
+    @Benchmark
+    public byte[] participantEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(participants);
+    }
+
+    @Benchmark
+    public byte[] participantDTOs() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(participantDTOs);
+    }
+
+    @Benchmark
+    public byte[] clubsWithParticipants() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(clubs);
+    }
+}
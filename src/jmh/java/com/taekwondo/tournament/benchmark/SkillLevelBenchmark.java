@@ -0,0 +1,33 @@
+package com.taekwondo.tournament.benchmark;
+
+import com.taekwondo.tournament.model.SkillLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillLevelBenchmark {
+
+    // First and last entries bound the linear scan
+    @Param({"White Belt", "Black Belt"})
+    public String displayName;
+
+    @Benchmark
+    public SkillLevel fromDisplayName() {
+        return SkillLevel.fromDisplayName(displayName);
+    }
+}
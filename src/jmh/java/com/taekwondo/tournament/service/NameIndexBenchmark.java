@@ -0,0 +1,63 @@
+package com.taekwondo.tournament.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Next to NameIndex rather than in the benchmark package, as the index is package-private
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"ka", "ri", "mo", "sun", "le", "ta", "vin", "do", "ha", "jin",
+        "ne", "so", "ber", "lu", "mi", "ga", "ro", "zel", "an", "tor"};
+
+    @Param({"50000"})
+    public int names;
+
+    // One query per keystroke of a typeahead session
+    @Param({"k", "kar", "karimo", "karimo sun"})
+    public String keystroke;
+
+    private NameIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new NameIndex();
+        Random random = new Random(7);
+        for (int i = 0; i < names; i++) {
+            index.put(i, word(random) + " " + word(random));
+        }
+    }
+
+    @Benchmark
+    public List<NameIndex.Hit> search() {
+        return index.search(keystroke, 10);
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+}
@@ -2,8 +2,10 @@ package com.taekwondo.tournament;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TaekwondoTournamentApplication {
     public static void main(String[] args) {
         SpringApplication.run(TaekwondoTournamentApplication.class, args);
@@ -2,6 +2,8 @@ package com.taekwondo.tournament.config;
 
 import java.util.Arrays;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,6 +21,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.taekwondo.tournament.security.CustomUserDetailsService;
+import com.taekwondo.tournament.security.JwtAuthenticationCache;
 import com.taekwondo.tournament.security.JwtAuthenticationFilter;
 import com.taekwondo.tournament.security.JwtTokenProvider;
 
@@ -30,16 +33,18 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JwtTokenProvider tokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final JwtAuthenticationCache authenticationCache;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtTokenProvider tokenProvider, PasswordEncoder passwordEncoder) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtTokenProvider tokenProvider, PasswordEncoder passwordEncoder, JwtAuthenticationCache authenticationCache) {
         this.userDetailsService = userDetailsService;
         this.tokenProvider = tokenProvider;
         this.passwordEncoder = passwordEncoder;
+        this.authenticationCache = authenticationCache;
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(tokenProvider, userDetailsService);
+        return new JwtAuthenticationFilter(tokenProvider, userDetailsService, authenticationCache);
     }
 
     @Bean
@@ -77,6 +82,7 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authenticationProvider(authenticationProvider())
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/**").authenticated()
             )
@@ -0,0 +1,47 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.BracketSummaryDTO;
+import com.taekwondo.tournament.service.BracketService;
+import com.taekwondo.tournament.service.BracketTreeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/brackets")
+public class BracketController {
+
+    private final BracketService bracketService;
+    private final BracketTreeService bracketTreeService;
+
+    @Autowired
+    public BracketController(BracketService bracketService, BracketTreeService bracketTreeService) {
+        this.bracketService = bracketService;
+        this.bracketTreeService = bracketTreeService;
+    }
+
+    @PostMapping("/tournament/{tournamentId}")
+    public ResponseEntity<BracketSummaryDTO> generateBrackets(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(bracketService.generateBrackets(tournamentId));
+    }
+
+    @GetMapping("/tournament/{tournamentId}/categories")
+    public ResponseEntity<List<String>> getCategories(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(bracketTreeService.getCategories(tournamentId));
+    }
+
+    // The tree is served as the bytes rendered when it last changed
+    @GetMapping("/tournament/{tournamentId}")
+    public ResponseEntity<byte[]> getBracketTree(@PathVariable Long tournamentId, @RequestParam String category,
+                                                 WebRequest request) {
+        BracketTreeService.Tree tree = bracketTreeService.getTree(tournamentId, category);
+        return ConditionalResponses.withETag(request, tree.etag(),
+            () -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tree.json()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.CallBoardDTO;
+import com.taekwondo.tournament.service.CallBoardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/callboard")
+public class CallBoardController {
+
+    private final CallBoardService callBoardService;
+
+    @Autowired
+    public CallBoardController(CallBoardService callBoardService) {
+        this.callBoardService = callBoardService;
+    }
+
+    @GetMapping("/tournament/{tournamentId}")
+    public ResponseEntity<List<CallBoardDTO>> getBoards(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(callBoardService.getBoards(tournamentId));
+    }
+
+    @GetMapping("/tournament/{tournamentId}/mat/{matNumber}")
+    public ResponseEntity<CallBoardDTO> getBoard(@PathVariable Long tournamentId,
+                                                 @PathVariable Integer matNumber,
+                                                 @RequestParam(defaultValue = "3") int next) {
+        return ResponseEntity.ok(callBoardService.getBoard(tournamentId, matNumber, next));
+    }
+}
@@ -0,0 +1,29 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.ChangeFeedDTO;
+import com.taekwondo.tournament.service.ChangeJournal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Delta sync for the spectator and admin apps: pass the {@code version} of the previous response
+ * as {@code since}, or omit it to start from a snapshot.
+ */
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeController {
+
+    private final ChangeJournal changeJournal;
+
+    @Autowired
+    public ChangeController(ChangeJournal changeJournal) {
+        this.changeJournal = changeJournal;
+    }
+
+    @GetMapping
+    public ResponseEntity<ChangeFeedDTO> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                    @RequestParam(required = false) Long tournamentId) {
+        return ResponseEntity.ok(changeJournal.changesSince(since, tournamentId));
+    }
+}
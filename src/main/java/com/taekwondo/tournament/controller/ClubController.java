@@ -1,12 +1,16 @@
 package com.taekwondo.tournament.controller;
 
+import com.taekwondo.tournament.dto.CursorPageDTO;
 import com.taekwondo.tournament.model.Club;
 import com.taekwondo.tournament.service.ClubService;
+import com.taekwondo.tournament.service.NdjsonExportService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -18,10 +22,12 @@ public class ClubController {
 
     private static final Logger logger = LoggerFactory.getLogger(ClubController.class);
     private final ClubService clubService;
+    private final NdjsonExportService ndjsonExportService;
 
     @Autowired
-    public ClubController(ClubService clubService) {
+    public ClubController(ClubService clubService, NdjsonExportService ndjsonExportService) {
         this.clubService = clubService;
+        this.ndjsonExportService = ndjsonExportService;
     }
 
     @GetMapping("/test")
@@ -45,6 +51,20 @@ public class ClubController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<Club>> getClubsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(clubService.getClubsPage(after, size));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamClubs() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(ndjsonExportService::streamClubs);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Club> getClubById(@PathVariable Long id) {
         return clubService.getClubById(id)
@@ -0,0 +1,25 @@
+package com.taekwondo.tournament.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    // The tag is checked before the body is loaded, so a matching If-None-Match costs no query or serialization
+    static <T> ResponseEntity<T> withETag(WebRequest request, String etag, Supplier<ResponseEntity<T>> response) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ResponseEntity<T> entity = response.get();
+        if (!entity.getStatusCode().is2xxSuccessful()) {
+            return entity;
+        }
+        return ResponseEntity.status(entity.getStatusCode()).headers(entity.getHeaders()).eTag(etag).body(entity.getBody());
+    }
+}
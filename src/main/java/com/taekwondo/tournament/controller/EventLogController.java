@@ -0,0 +1,59 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.EventLogEntry;
+import com.taekwondo.tournament.dto.EventLogStatusDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.service.TournamentEventLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/event-log")
+public class EventLogController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final TournamentEventLog tournamentEventLog;
+
+    @Autowired
+    public EventLogController(TournamentEventLog tournamentEventLog) {
+        this.tournamentEventLog = tournamentEventLog;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EventLogEntry>> getEntries(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) Long tournamentId) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(tournamentEventLog.getEntries(since, boundedLimit, tournamentId));
+    }
+
+    // The matches as replayed from the log, e.g. to check the database against after a recovery
+    @GetMapping("/matches/{matchId}")
+    public ResponseEntity<MatchDTO> getMatch(@PathVariable Long matchId) {
+        return Optional.ofNullable(tournamentEventLog.getMatch(matchId))
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/tournaments/{tournamentId}/matches")
+    public ResponseEntity<List<MatchDTO>> getTournamentMatches(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(tournamentEventLog.getTournamentMatches(tournamentId));
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<EventLogStatusDTO> getStatus() {
+        return ResponseEntity.ok(tournamentEventLog.getStatus());
+    }
+
+    @PostMapping("/snapshot")
+    public ResponseEntity<EventLogStatusDTO> takeSnapshot() {
+        tournamentEventLog.snapshot();
+        return ResponseEntity.ok(tournamentEventLog.getStatus());
+    }
+}
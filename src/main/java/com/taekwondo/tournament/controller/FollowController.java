@@ -0,0 +1,42 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.FollowDTO;
+import com.taekwondo.tournament.dto.FollowRequestDTO;
+import com.taekwondo.tournament.service.FollowService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * The signed-in user's follows of participants, clubs and mats.
+ */
+@RestController
+@RequestMapping("/api/follows")
+public class FollowController {
+
+    private final FollowService followService;
+
+    @Autowired
+    public FollowController(FollowService followService) {
+        this.followService = followService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<FollowDTO>> getFollows(Authentication authentication) {
+        return ResponseEntity.ok(followService.getFollows(authentication.getName()));
+    }
+
+    @PostMapping
+    public ResponseEntity<FollowDTO> follow(Authentication authentication, @RequestBody FollowRequestDTO request) {
+        return ResponseEntity.ok(followService.follow(authentication.getName(), request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> unfollow(Authentication authentication, @PathVariable Long id) {
+        followService.unfollow(authentication.getName(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
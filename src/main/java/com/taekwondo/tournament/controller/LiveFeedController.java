@@ -0,0 +1,28 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.service.LiveFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/live")
+public class LiveFeedController {
+
+    private final LiveFeedService liveFeedService;
+
+    @Autowired
+    public LiveFeedController(LiveFeedService liveFeedService) {
+        this.liveFeedService = liveFeedService;
+    }
+
+    @GetMapping(value = "/matches", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(required = false) Long tournamentId,
+            @RequestParam(required = false) Integer matNumber,
+            @RequestParam(required = false) Long clubId,
+            @RequestParam(required = false) Long participantId) {
+        return liveFeedService.subscribe(tournamentId, matNumber, clubId, participantId);
+    }
+}
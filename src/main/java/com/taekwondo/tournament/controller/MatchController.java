@@ -1,10 +1,20 @@
 package com.taekwondo.tournament.controller;
 
+import com.taekwondo.tournament.dto.CacheStatsDTO;
+import com.taekwondo.tournament.dto.CursorPageDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.MatchResultDTO;
 import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.service.IdempotencyStore;
 import com.taekwondo.tournament.service.MatchService;
+import com.taekwondo.tournament.service.NdjsonExportService;
+import com.taekwondo.tournament.service.TournamentVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -13,61 +23,115 @@ import java.util.List;
 public class MatchController {
 
     private final MatchService matchService;
+    private final NdjsonExportService ndjsonExportService;
+    private final TournamentVersionService versionService;
+    private final IdempotencyStore idempotencyStore;
 
     @Autowired
-    public MatchController(MatchService matchService) {
+    public MatchController(MatchService matchService, NdjsonExportService ndjsonExportService,
+                           TournamentVersionService versionService, IdempotencyStore idempotencyStore) {
         this.matchService = matchService;
+        this.ndjsonExportService = ndjsonExportService;
+        this.versionService = versionService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @GetMapping
-    public ResponseEntity<List<Match>> getAllMatches() {
-        return ResponseEntity.ok(matchService.getAllMatches());
+    public ResponseEntity<List<MatchDTO>> getAllMatches(WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok(matchService.getAllMatches()));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<MatchDTO>> getMatchesPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok(matchService.getMatchesPage(after, size)));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMatches(WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonExportService::streamMatches));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Match> getMatchById(@PathVariable Long id) {
-        return matchService.getMatchById(id)
-            .map(ResponseEntity::ok)
-            .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Match> getMatchById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> matchService.getMatchById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build()));
     }
 
     @PostMapping
-    public ResponseEntity<Match> createMatch(@RequestBody Match match) {
-        return ResponseEntity.ok(matchService.createMatch(match));
+    public ResponseEntity<Match> createMatch(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                             @RequestBody Match match) {
+        return idempotencyStore.execute(idempotencyKey, "POST /api/matches", match,
+            () -> ResponseEntity.ok(matchService.createMatch(match)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Match> updateMatch(@PathVariable Long id, @RequestBody Match matchDetails) {
-        return ResponseEntity.ok(matchService.updateMatch(id, matchDetails));
+    public ResponseEntity<Match> updateMatch(@PathVariable Long id,
+                                             @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                             @RequestBody Match matchDetails) {
+        return idempotencyStore.execute(idempotencyKey, "PUT /api/matches/" + id, matchDetails,
+            () -> ResponseEntity.ok(matchService.updateMatch(id, matchDetails)));
+    }
+
+    @PutMapping("/{id}/result")
+    public ResponseEntity<Match> recordResult(@PathVariable Long id,
+                                              @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                              @RequestBody MatchResultDTO result) {
+        return idempotencyStore.execute(idempotencyKey, "PUT /api/matches/" + id + "/result", result,
+            () -> ResponseEntity.ok(matchService.recordResult(id, result.getWinnerId())));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteMatch(@PathVariable Long id) {
-        matchService.deleteMatch(id);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> deleteMatch(@PathVariable Long id, @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute(idempotencyKey, "DELETE /api/matches/" + id, null, () -> {
+            matchService.deleteMatch(id);
+            return ResponseEntity.ok().build();
+        });
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDTO> getScheduleCacheStats() {
+        return ResponseEntity.ok(matchService.getScheduleCacheStats());
     }
 
     @GetMapping("/tournament/{tournamentId}")
-    public ResponseEntity<List<Match>> getMatchesByTournament(@PathVariable Long tournamentId) {
-        return ResponseEntity.ok(matchService.getMatchesByTournament(tournamentId));
+    public ResponseEntity<List<MatchDTO>> getMatchesByTournament(@PathVariable Long tournamentId,
+                                                                 WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.tournamentETag(tournamentId),
+            () -> ResponseEntity.ok(matchService.getMatchesByTournament(tournamentId)));
     }
 
     @GetMapping("/tournament/{tournamentId}/round/{round}")
-    public ResponseEntity<List<Match>> getMatchesByTournamentAndRound(
+    public ResponseEntity<List<MatchDTO>> getMatchesByTournamentAndRound(
             @PathVariable Long tournamentId,
-            @PathVariable String round) {
-        return ResponseEntity.ok(matchService.getMatchesByTournamentAndRound(tournamentId, round));
+            @PathVariable String round,
+            WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.tournamentETag(tournamentId),
+            () -> ResponseEntity.ok(matchService.getMatchesByTournamentAndRound(tournamentId, round)));
     }
 
     @GetMapping("/tournament/{tournamentId}/mat/{matNumber}")
-    public ResponseEntity<List<Match>> getMatchesByTournamentAndMat(
+    public ResponseEntity<List<MatchDTO>> getMatchesByTournamentAndMat(
             @PathVariable Long tournamentId,
-            @PathVariable Integer matNumber) {
-        return ResponseEntity.ok(matchService.getMatchesByTournamentAndMat(tournamentId, matNumber));
+            @PathVariable Integer matNumber,
+            WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.tournamentETag(tournamentId),
+            () -> ResponseEntity.ok(matchService.getMatchesByTournamentAndMat(tournamentId, matNumber)));
     }
 
     @GetMapping("/participant/{participantId}")
-    public ResponseEntity<List<Match>> getMatchesByParticipant(@PathVariable Long participantId) {
-        return ResponseEntity.ok(matchService.getMatchesByParticipant(participantId));
+    public ResponseEntity<List<MatchDTO>> getMatchesByParticipant(@PathVariable Long participantId,
+                                                                  WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok(matchService.getMatchesByParticipant(participantId)));
     }
 } 
\ No newline at end of file
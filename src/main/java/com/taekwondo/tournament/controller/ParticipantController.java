@@ -1,13 +1,25 @@
 package com.taekwondo.tournament.controller;
 
+import com.taekwondo.tournament.dto.CursorPageDTO;
+import com.taekwondo.tournament.dto.ImportResultDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
 import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.service.IdempotencyStore;
+import com.taekwondo.tournament.service.NdjsonExportService;
+import com.taekwondo.tournament.service.ParticipantImportService;
 import com.taekwondo.tournament.service.ParticipantService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,10 +30,18 @@ public class ParticipantController {
 
     private static final Logger logger = LoggerFactory.getLogger(ParticipantController.class);
     private final ParticipantService participantService;
+    private final NdjsonExportService ndjsonExportService;
+    private final ParticipantImportService participantImportService;
+    private final IdempotencyStore idempotencyStore;
 
     @Autowired
-    public ParticipantController(ParticipantService participantService) {
+    public ParticipantController(ParticipantService participantService, NdjsonExportService ndjsonExportService,
+                                 ParticipantImportService participantImportService,
+                                 IdempotencyStore idempotencyStore) {
         this.participantService = participantService;
+        this.ndjsonExportService = ndjsonExportService;
+        this.participantImportService = participantImportService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @GetMapping("/test")
@@ -33,10 +53,10 @@ public class ParticipantController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Participant>> getAllParticipants() {
+    public ResponseEntity<List<ParticipantDTO>> getAllParticipants() {
         logger.info("Received request to get all participants");
         try {
-            List<Participant> participants = participantService.getAllParticipants();
+            List<ParticipantDTO> participants = participantService.getAllParticipants();
             logger.info("Successfully retrieved {} participants", participants.size());
             return ResponseEntity.ok(participants);
         } catch (Exception e) {
@@ -45,6 +65,20 @@ public class ParticipantController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<ParticipantDTO>> getParticipantsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(participantService.getParticipantsPage(after, size));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamParticipants() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(ndjsonExportService::streamParticipants);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Participant> getParticipantById(@PathVariable Long id) {
         logger.info("Received request to get participant with id: {}", id);
@@ -65,30 +99,70 @@ public class ParticipantController {
     }
 
     @PostMapping
-    public ResponseEntity<Participant> createParticipant(@RequestBody Participant participant) {
-        return ResponseEntity.ok(participantService.createParticipant(participant));
+    public ResponseEntity<Participant> createParticipant(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                         @RequestBody Participant participant) {
+        return idempotencyStore.execute(idempotencyKey, "POST /api/participants", participant,
+            () -> ResponseEntity.ok(participantService.createParticipant(participant)));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportResultDTO> importParticipantsCsv(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                                 InputStream body) {
+        return idempotencyStore.executeStreaming(idempotencyKey, "POST /api/participants/import", body, in -> {
+            try {
+                return ResponseEntity.ok(participantImportService.importCsv(in));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResultDTO> importParticipantsJson(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                                  InputStream body) {
+        return idempotencyStore.executeStreaming(idempotencyKey, "POST /api/participants/import", body, in -> {
+            try {
+                return ResponseEntity.ok(participantImportService.importJson(in));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Participant> updateParticipant(@PathVariable Long id, @RequestBody Participant participantDetails) {
-        return ResponseEntity.ok(participantService.updateParticipant(id, participantDetails));
+    public ResponseEntity<Participant> updateParticipant(@PathVariable Long id,
+                                                         @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                         @RequestBody Participant participantDetails) {
+        return idempotencyStore.execute(idempotencyKey, "PUT /api/participants/" + id, participantDetails,
+            () -> ResponseEntity.ok(participantService.updateParticipant(id, participantDetails)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteParticipant(@PathVariable Long id) {
-        participantService.deleteParticipant(id);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> deleteParticipant(@PathVariable Long id, @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute(idempotencyKey, "DELETE /api/participants/" + id, null, () -> {
+            participantService.deleteParticipant(id);
+            return ResponseEntity.ok().build();
+        });
     }
 
     @GetMapping("/club/{clubId}")
-    public ResponseEntity<List<Participant>> getParticipantsByClub(@PathVariable Long clubId) {
+    public ResponseEntity<List<ParticipantDTO>> getParticipantsByClub(@PathVariable Long clubId) {
         return ResponseEntity.ok(participantService.getParticipantsByClub(clubId));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Participant>> getParticipantsByGenderAndSkillLevel(
-            @RequestParam String gender,
-            @RequestParam String skillLevel) {
-        return ResponseEntity.ok(participantService.getParticipantsByGenderAndSkillLevel(gender, skillLevel));
+    public ResponseEntity<List<ParticipantDTO>> getParticipantsByCategory(
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String skillLevel,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge) {
+        return ResponseEntity.ok(participantService.getParticipantsByCategory(gender, skillLevel, minAge, maxAge));
+    }
+
+    @GetMapping("/{id}/categories")
+    public ResponseEntity<List<Tournament.TournamentCategory>> getCategoriesForParticipant(
+            @PathVariable Long id,
+            @RequestParam Long tournamentId) {
+        return ResponseEntity.ok(participantService.getCategoriesForParticipant(id, tournamentId));
     }
 } 
\ No newline at end of file
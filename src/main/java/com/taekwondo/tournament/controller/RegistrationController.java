@@ -0,0 +1,56 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.dto.TournamentRegistrationDTO;
+import com.taekwondo.tournament.service.IdempotencyStore;
+import com.taekwondo.tournament.service.RegistrationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/registrations")
+public class RegistrationController {
+
+    private final RegistrationService registrationService;
+    private final IdempotencyStore idempotencyStore;
+
+    @Autowired
+    public RegistrationController(RegistrationService registrationService, IdempotencyStore idempotencyStore) {
+        this.registrationService = registrationService;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @PostMapping
+    public ResponseEntity<TournamentRegistrationDTO> register(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody TournamentRegistrationDTO registration) {
+        return idempotencyStore.execute(idempotencyKey, "POST /api/registrations", registration,
+            () -> ResponseEntity.ok(registrationService.register(
+                registration.getParticipantId(), registration.getTournamentId())));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> unregister(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestParam Long participantId,
+            @RequestParam Long tournamentId) {
+        // The request is identified by its parameters
+        List<Long> request = List.of(participantId, tournamentId);
+        return idempotencyStore.execute(idempotencyKey, "DELETE /api/registrations", request, () -> {
+            registrationService.unregister(participantId, tournamentId);
+            return ResponseEntity.ok().build();
+        });
+    }
+
+    /**
+     * Entrants of the tournament; {@code category} is a category label such as "Female 12-14 Blue Belt".
+     */
+    @GetMapping("/tournament/{tournamentId}")
+    public ResponseEntity<List<ParticipantDTO>> getEntrants(@PathVariable Long tournamentId,
+                                                            @RequestParam(required = false) String category) {
+        return ResponseEntity.ok(registrationService.getEntrants(tournamentId, category));
+    }
+}
@@ -0,0 +1,43 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.ConflictReportDTO;
+import com.taekwondo.tournament.dto.RebalanceRequestDTO;
+import com.taekwondo.tournament.dto.RebalanceResultDTO;
+import com.taekwondo.tournament.dto.ScheduleSummaryDTO;
+import com.taekwondo.tournament.service.MatSchedulingService;
+import com.taekwondo.tournament.service.ScheduleConflictService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/schedule")
+public class ScheduleController {
+
+    private final MatSchedulingService matSchedulingService;
+    private final ScheduleConflictService scheduleConflictService;
+
+    @Autowired
+    public ScheduleController(MatSchedulingService matSchedulingService,
+                              ScheduleConflictService scheduleConflictService) {
+        this.matSchedulingService = matSchedulingService;
+        this.scheduleConflictService = scheduleConflictService;
+    }
+
+    @PostMapping("/tournament/{tournamentId}")
+    public ResponseEntity<ScheduleSummaryDTO> scheduleTournament(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(matSchedulingService.scheduleTournament(tournamentId));
+    }
+
+    @PostMapping("/tournament/{tournamentId}/rebalance")
+    public ResponseEntity<RebalanceResultDTO> rebalance(@PathVariable Long tournamentId,
+                                                        @RequestBody(required = false) RebalanceRequestDTO request) {
+        return ResponseEntity.ok(matSchedulingService.rebalance(tournamentId,
+            request != null ? request : new RebalanceRequestDTO()));
+    }
+
+    @GetMapping("/tournament/{tournamentId}/conflicts")
+    public ResponseEntity<ConflictReportDTO> getConflicts(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(scheduleConflictService.getReport(tournamentId));
+    }
+}
@@ -0,0 +1,49 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.LiveScoreDTO;
+import com.taekwondo.tournament.dto.ScoringEventDTO;
+import com.taekwondo.tournament.model.MatchEvent;
+import com.taekwondo.tournament.service.ScoringService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/matches/{matchId}")
+public class ScoringController {
+
+    private final ScoringService scoringService;
+
+    @Autowired
+    public ScoringController(ScoringService scoringService) {
+        this.scoringService = scoringService;
+    }
+
+    @PostMapping("/events")
+    public ResponseEntity<Map<String, Integer>> submitEvents(@PathVariable Long matchId,
+                                                             @RequestBody List<ScoringEventDTO> events) {
+        int accepted = scoringService.ingest(matchId, events);
+        if (accepted < events.size()) {
+            // Tablets resend the events after the accepted prefix
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("accepted", accepted));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("accepted", accepted));
+    }
+
+    @GetMapping("/events")
+    public ResponseEntity<List<MatchEvent>> getStoredEvents(@PathVariable Long matchId) {
+        return ResponseEntity.ok(scoringService.getStoredEvents(matchId));
+    }
+
+    @GetMapping("/score")
+    public ResponseEntity<LiveScoreDTO> getLiveScore(@PathVariable Long matchId) {
+        return ResponseEntity.ok(scoringService.getLiveScore(matchId));
+    }
+}
@@ -0,0 +1,29 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.NameSearchResultDTO;
+import com.taekwondo.tournament.service.NameSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final NameSearchService nameSearchService;
+
+    @Autowired
+    public SearchController(NameSearchService nameSearchService) {
+        this.nameSearchService = nameSearchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<NameSearchResultDTO>> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) NameSearchResultDTO.Type type,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(nameSearchService.search(query, type, limit));
+    }
+}
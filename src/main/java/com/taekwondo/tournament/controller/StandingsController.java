@@ -0,0 +1,36 @@
+package com.taekwondo.tournament.controller;
+
+import com.taekwondo.tournament.dto.StandingsDTO;
+import com.taekwondo.tournament.service.StandingsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/standings")
+public class StandingsController {
+
+    private final StandingsService standingsService;
+
+    @Autowired
+    public StandingsController(StandingsService standingsService) {
+        this.standingsService = standingsService;
+    }
+
+    // Hall screens poll this; the tag only changes when a result moves the standings
+    @GetMapping("/tournament/{tournamentId}")
+    public ResponseEntity<StandingsDTO> getStandings(@PathVariable Long tournamentId, WebRequest request) {
+        return ConditionalResponses.withETag(request, standingsService.etag(tournamentId),
+            () -> ResponseEntity.ok(standingsService.getStandings(tournamentId)));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Integer> rebuild(@RequestParam(required = false) List<Long> tournamentId) {
+        return ResponseEntity.ok(tournamentId != null
+            ? standingsService.rebuild(tournamentId)
+            : standingsService.rebuildAll());
+    }
+}
@@ -1,11 +1,18 @@
 package com.taekwondo.tournament.controller;
 
+import com.taekwondo.tournament.dto.CursorPageDTO;
 import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.service.IdempotencyStore;
+import com.taekwondo.tournament.service.NdjsonExportService;
 import com.taekwondo.tournament.service.TournamentService;
+import com.taekwondo.tournament.service.TournamentVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -15,50 +22,87 @@ import java.util.List;
 public class TournamentController {
 
     private final TournamentService tournamentService;
+    private final NdjsonExportService ndjsonExportService;
+    private final TournamentVersionService versionService;
+    private final IdempotencyStore idempotencyStore;
 
     @Autowired
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService, NdjsonExportService ndjsonExportService,
+                                TournamentVersionService versionService, IdempotencyStore idempotencyStore) {
         this.tournamentService = tournamentService;
+        this.ndjsonExportService = ndjsonExportService;
+        this.versionService = versionService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @GetMapping
-    public ResponseEntity<List<Tournament>> getAllTournaments() {
-        return ResponseEntity.ok(tournamentService.getAllTournaments());
+    public ResponseEntity<List<Tournament>> getAllTournaments(WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok(tournamentService.getAllTournaments()));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<Tournament>> getTournamentsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok(tournamentService.getTournamentsPage(after, size)));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTournaments(WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonExportService::streamTournaments));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Tournament> getTournamentById(@PathVariable Long id) {
-        return tournamentService.getTournamentById(id)
-            .map(ResponseEntity::ok)
-            .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Tournament> getTournamentById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.tournamentETag(id),
+            () -> tournamentService.getTournamentById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build()));
     }
 
     @PostMapping
-    public ResponseEntity<Tournament> createTournament(@RequestBody Tournament tournament) {
-        return ResponseEntity.ok(tournamentService.createTournament(tournament));
+    public ResponseEntity<Tournament> createTournament(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                       @RequestBody Tournament tournament) {
+        return idempotencyStore.execute(idempotencyKey, "POST /api/tournaments", tournament,
+            () -> ResponseEntity.ok(tournamentService.createTournament(tournament)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Tournament> updateTournament(@PathVariable Long id, @RequestBody Tournament tournamentDetails) {
-        return ResponseEntity.ok(tournamentService.updateTournament(id, tournamentDetails));
+    public ResponseEntity<Tournament> updateTournament(@PathVariable Long id,
+                                                       @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                       @RequestBody Tournament tournamentDetails) {
+        return idempotencyStore.execute(idempotencyKey, "PUT /api/tournaments/" + id, tournamentDetails,
+            () -> ResponseEntity.ok(tournamentService.updateTournament(id, tournamentDetails)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTournament(@PathVariable Long id) {
-        tournamentService.deleteTournament(id);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> deleteTournament(@PathVariable Long id, @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute(idempotencyKey, "DELETE /api/tournaments/" + id, null, () -> {
+            tournamentService.deleteTournament(id);
+            return ResponseEntity.ok().build();
+        });
     }
 
     @GetMapping("/date/{date}")
     public ResponseEntity<List<Tournament>> getTournamentsByDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        return ResponseEntity.ok(tournamentService.getTournamentsByDate(date));
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok(tournamentService.getTournamentsByDate(date)));
     }
 
     @GetMapping("/date-range")
     public ResponseEntity<List<Tournament>> getTournamentsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ResponseEntity.ok(tournamentService.getTournamentsByDateRange(startDate, endDate));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest request) {
+        return ConditionalResponses.withETag(request, versionService.globalETag(),
+            () -> ResponseEntity.ok(tournamentService.getTournamentsByDateRange(startDate, endDate)));
     }
 } 
\ No newline at end of file
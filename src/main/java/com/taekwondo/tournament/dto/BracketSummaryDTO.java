@@ -0,0 +1,18 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class BracketSummaryDTO {
+    private Long tournamentId;
+    private int categoryCount;
+    private int participantCount;
+    private int matchCount;
+    private long durationMillis;
+    private Map<String, Integer> matchesPerCategory = new LinkedHashMap<>();
+    // Categories left undrawn because they exceed the bracket size, with their participant counts
+    private Map<String, Integer> skippedCategories = new LinkedHashMap<>();
+}
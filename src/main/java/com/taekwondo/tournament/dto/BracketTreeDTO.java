@@ -0,0 +1,79 @@
+package com.taekwondo.tournament.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taekwondo.tournament.model.Match;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One category's whole bracket, earliest round first. Empty fields are left out to keep the payload small.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BracketTreeDTO {
+    private Long tournamentId;
+    private String category;
+    private List<Round> rounds;
+
+    @Data
+    @NoArgsConstructor
+    public static class Round {
+        private Match.Round round;
+        private List<Node> matches;
+
+        public static Round of(Match.Round round, List<Node> matches) {
+            Round dto = new Round();
+            dto.setRound(round);
+            dto.setMatches(matches);
+            return dto;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Node {
+        private Long id;
+        private Integer position;
+        private Integer matNumber;
+        private LocalDateTime scheduledTime;
+        private LocalDateTime completedAt;
+        private Long participant1Id;
+        private String participant1Name;
+        private Long participant2Id;
+        private String participant2Name;
+        private Long winnerId;
+        // The match the winner advances to, and the participant slot (1 or 2) filled there
+        private Long nextMatchId;
+        private Integer nextMatchSlot;
+
+        public static Node from(MatchDTO match) {
+            Node node = new Node();
+            node.setId(match.getId());
+            node.setPosition(match.getBracketPosition());
+            node.setMatNumber(match.getMatNumber());
+            node.setScheduledTime(match.getScheduledTime());
+            node.setCompletedAt(match.getCompletedAt());
+            node.setParticipant1Id(match.getParticipant1Id());
+            node.setParticipant1Name(match.getParticipant1Name());
+            node.setParticipant2Id(match.getParticipant2Id());
+            node.setParticipant2Name(match.getParticipant2Name());
+            node.setWinnerId(match.getWinnerId());
+            node.setNextMatchId(match.getNextMatchId());
+            node.setNextMatchSlot(match.getNextMatchSlot());
+            return node;
+        }
+    }
+
+    public static BracketTreeDTO of(Long tournamentId, String category, List<Round> rounds) {
+        BracketTreeDTO dto = new BracketTreeDTO();
+        dto.setTournamentId(tournamentId);
+        dto.setCategory(category);
+        dto.setRounds(rounds);
+        return dto;
+    }
+}
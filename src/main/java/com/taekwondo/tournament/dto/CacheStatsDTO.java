@@ -0,0 +1,27 @@
+package com.taekwondo.tournament.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Data;
+
+@Data
+public class CacheStatsDTO {
+    private String name;
+    private long entries;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long invalidationCount;
+
+    public static CacheStatsDTO of(String name, long entries, CacheStats stats, long invalidationCount) {
+        CacheStatsDTO dto = new CacheStatsDTO();
+        dto.setName(name);
+        dto.setEntries(entries);
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setInvalidationCount(invalidationCount);
+        return dto;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CallBoardDTO {
+    private Long tournamentId;
+    private Integer matNumber;
+    private MatchDTO nowFighting;
+    private MatchDTO onDeck;
+    private MatchDTO inTheHole;
+    private List<MatchDTO> queue;
+    private int pendingCount;
+
+    public static CallBoardDTO of(Long tournamentId, Integer matNumber, List<MatchDTO> queue, int pendingCount) {
+        CallBoardDTO dto = new CallBoardDTO();
+        dto.setTournamentId(tournamentId);
+        dto.setMatNumber(matNumber);
+        dto.setNowFighting(queue.size() > 0 ? queue.get(0) : null);
+        dto.setOnDeck(queue.size() > 1 ? queue.get(1) : null);
+        dto.setInTheHole(queue.size() > 2 ? queue.get(2) : null);
+        dto.setQueue(queue);
+        dto.setPendingCount(pendingCount);
+        return dto;
+    }
+}
@@ -0,0 +1,40 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The latest change to one row since the client's cursor.
+ */
+@Data
+@NoArgsConstructor
+public class ChangeDTO {
+    private long version;
+    private EntityType entityType;
+    private Long id;
+    /** A deleted tournament takes its matches with it. */
+    private boolean deleted;
+    /**
+     * Tournaments only: all of the tournament's matches were replaced, e.g. by bracket generation or
+     * scheduling. Its current matches follow in the same response; any others the client holds are gone.
+     */
+    private boolean matchesReplaced;
+    /** The current row as returned by the entity's endpoints; null for deletions. */
+    private Object data;
+
+    public enum EntityType {
+        MATCH, PARTICIPANT, CLUB, TOURNAMENT
+    }
+
+    public static ChangeDTO of(long version, EntityType entityType, Long id, boolean deleted,
+                               boolean matchesReplaced, Object data) {
+        ChangeDTO dto = new ChangeDTO();
+        dto.setVersion(version);
+        dto.setEntityType(entityType);
+        dto.setId(id);
+        dto.setDeleted(deleted);
+        dto.setMatchesReplaced(matchesReplaced);
+        dto.setData(data);
+        return dto;
+    }
+}
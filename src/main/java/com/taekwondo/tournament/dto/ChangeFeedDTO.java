@@ -0,0 +1,26 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ChangeFeedDTO {
+    private long since;
+    /** The cursor for the next request. */
+    private long version;
+    /** The cursor was too old: {@code changes} holds every current row and replaces the client's state. */
+    private boolean snapshot;
+    private List<ChangeDTO> changes;
+
+    public static ChangeFeedDTO of(long since, long version, boolean snapshot, List<ChangeDTO> changes) {
+        ChangeFeedDTO dto = new ChangeFeedDTO();
+        dto.setSince(since);
+        dto.setVersion(version);
+        dto.setSnapshot(snapshot);
+        dto.setChanges(changes);
+        return dto;
+    }
+}
@@ -0,0 +1,21 @@
+package com.taekwondo.tournament.dto;
+
+import com.taekwondo.tournament.model.Club;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ClubDTO {
+    private Long id;
+    private String name;
+    private String location;
+
+    public static ClubDTO from(Club club) {
+        ClubDTO dto = new ClubDTO();
+        dto.setId(club.getId());
+        dto.setName(club.getName());
+        dto.setLocation(club.getLocation());
+        return dto;
+    }
+}
@@ -0,0 +1,25 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ConflictReportDTO {
+    private Long tournamentId;
+    private int scheduledMatches;
+    private int participants;
+    private int minRestMinutes;
+    private List<ScheduleConflictDTO> conflicts;
+
+    public static ConflictReportDTO of(Long tournamentId, int scheduledMatches, int participants,
+                                       int minRestMinutes, List<ScheduleConflictDTO> conflicts) {
+        ConflictReportDTO dto = new ConflictReportDTO();
+        dto.setTournamentId(tournamentId);
+        dto.setScheduledMatches(scheduledMatches);
+        dto.setParticipants(participants);
+        dto.setMinRestMinutes(minRestMinutes);
+        dto.setConflicts(conflicts);
+        return dto;
+    }
+}
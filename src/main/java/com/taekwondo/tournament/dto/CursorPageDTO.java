@@ -0,0 +1,35 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+public class CursorPageDTO<T> {
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private List<T> items;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public static Pageable pageRequest(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), Sort.by("id"));
+    }
+
+    public static <T> CursorPageDTO<T> of(Slice<T> slice, Function<T, Long> idExtractor) {
+        CursorPageDTO<T> page = new CursorPageDTO<>();
+        page.setItems(slice.getContent());
+        page.setHasNext(slice.hasNext());
+        if (slice.hasContent()) {
+            page.setNextCursor(idExtractor.apply(slice.getContent().get(slice.getNumberOfElements() - 1)));
+        }
+        return page;
+    }
+}
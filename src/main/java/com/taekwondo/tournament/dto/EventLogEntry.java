@@ -0,0 +1,36 @@
+package com.taekwondo.tournament.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventLogEntry {
+    private long sequence;
+    private Instant timestamp;
+    private Type type;
+    private Long tournamentId;
+    private MatchDTO match;
+    private List<MatchDTO> matches;
+    private ParticipantDTO participant;
+    private List<ParticipantDTO> participants;
+    private Integer previousMatNumber;
+    private Long previousWinnerId;
+
+    public enum Type {
+        TOURNAMENT_CREATED, TOURNAMENT_UPDATED, TOURNAMENT_DELETED,
+        BRACKETS_GENERATED, TOURNAMENT_SCHEDULED,
+        MATCH_CREATED, MATCH_UPDATED, MAT_REASSIGNED, RESULT_RECORDED, MATCH_DELETED,
+        PARTICIPANT_CREATED, PARTICIPANT_UPDATED, PARTICIPANT_DELETED, PARTICIPANTS_IMPORTED
+    }
+
+    public EventLogEntry(Type type, Long tournamentId) {
+        this.type = type;
+        this.tournamentId = tournamentId;
+    }
+}
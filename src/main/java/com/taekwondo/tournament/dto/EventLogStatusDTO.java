@@ -0,0 +1,16 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+@Data
+public class EventLogStatusDTO {
+    private boolean enabled;
+    private long lastSequence;
+    private long snapshotSequence;
+    private int segmentCount;
+    private long logBytes;
+    private long replayedEvents;
+    private long recoveryMillis;
+    private int matches;
+    private int participants;
+}
@@ -0,0 +1,25 @@
+package com.taekwondo.tournament.dto;
+
+import com.taekwondo.tournament.model.Follow;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+public class FollowDTO {
+    private Long id;
+    private Follow.TargetType targetType;
+    private String topic;
+    private Instant createdAt;
+
+    public static FollowDTO from(Follow follow) {
+        FollowDTO dto = new FollowDTO();
+        dto.setId(follow.getId());
+        dto.setTargetType(follow.getTargetType());
+        dto.setTopic(follow.getTopic());
+        dto.setCreatedAt(follow.getCreatedAt());
+        return dto;
+    }
+}
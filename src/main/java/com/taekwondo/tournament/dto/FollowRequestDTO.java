@@ -0,0 +1,13 @@
+package com.taekwondo.tournament.dto;
+
+import com.taekwondo.tournament.model.Follow;
+import lombok.Data;
+
+@Data
+public class FollowRequestDTO {
+    private Follow.TargetType targetType;
+    /** The participant or club id; for a mat, the tournament id. */
+    private Long targetId;
+    /** Only for mats. */
+    private Integer matNumber;
+}
@@ -0,0 +1,29 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ImportResultDTO {
+    private int totalRows;
+    private int imported;
+    private int failed;
+    private int clubsCreated;
+    private long durationMillis;
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addError(int row, String message) {
+        failed++;
+        errors.add(new RowError(row, message));
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String message;
+    }
+}
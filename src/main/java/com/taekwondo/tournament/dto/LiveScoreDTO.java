@@ -0,0 +1,18 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+@Data
+public class LiveScoreDTO {
+    private Long matchId;
+    private Long tournamentId;
+    private Integer matNumber;
+    private Long participant1Id;
+    private Long participant2Id;
+    private int score1;
+    private int score2;
+    private int penalties1;
+    private int penalties2;
+    private int roundNumber;
+    private long eventCount;
+}
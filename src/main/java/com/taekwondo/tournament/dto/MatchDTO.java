@@ -0,0 +1,71 @@
+package com.taekwondo.tournament.dto;
+
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.BeanUtils;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class MatchDTO {
+    private Long id;
+    private String matchId;
+    private Long tournamentId;
+    private String category;
+    private Match.Round round;
+    private Integer bracketPosition;
+    private Integer matNumber;
+    private Integer matchOrder;
+    private LocalDateTime scheduledTime;
+    private LocalDateTime predictedStartTime;
+    private LocalDateTime completedAt;
+    private Long participant1Id;
+    private String participant1Name;
+    private Long participant1ClubId;
+    private Long participant2Id;
+    private String participant2Name;
+    private Long participant2ClubId;
+    private Long winnerId;
+    private Long nextMatchId;
+    private Integer nextMatchSlot;
+
+    public static MatchDTO from(Match match) {
+        MatchDTO dto = new MatchDTO();
+        dto.setId(match.getId());
+        dto.setMatchId(match.getMatchId());
+        dto.setTournamentId(match.getTournament() != null ? match.getTournament().getId() : null);
+        dto.setCategory(match.getCategory());
+        dto.setRound(match.getRound());
+        dto.setBracketPosition(match.getBracketPosition());
+        dto.setMatNumber(match.getMatNumber());
+        dto.setMatchOrder(match.getMatchOrder());
+        dto.setScheduledTime(match.getScheduledTime());
+        dto.setCompletedAt(match.getCompletedAt());
+        Participant participant1 = match.getParticipant1();
+        if (participant1 != null) {
+            dto.setParticipant1Id(participant1.getId());
+            dto.setParticipant1Name(participant1.getName());
+            dto.setParticipant1ClubId(participant1.getClub() != null ? participant1.getClub().getId() : null);
+        }
+        Participant participant2 = match.getParticipant2();
+        if (participant2 != null) {
+            dto.setParticipant2Id(participant2.getId());
+            dto.setParticipant2Name(participant2.getName());
+            dto.setParticipant2ClubId(participant2.getClub() != null ? participant2.getClub().getId() : null);
+        }
+        dto.setWinnerId(match.getWinner() != null ? match.getWinner().getId() : null);
+        dto.setNextMatchId(match.getNextMatchId());
+        dto.setNextMatchSlot(match.getNextMatchSlot());
+        return dto;
+    }
+
+    public MatchDTO withPredictedStartTime(LocalDateTime predictedStartTime) {
+        MatchDTO copy = new MatchDTO();
+        BeanUtils.copyProperties(this, copy);
+        copy.setPredictedStartTime(predictedStartTime);
+        return copy;
+    }
+}
@@ -0,0 +1,8 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+@Data
+public class MatchResultDTO {
+    private Long winnerId;
+}
@@ -0,0 +1,27 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+@Data
+public class NameSearchResultDTO {
+    private Type type;
+    private Long id;
+    private String name;
+    /** The participant's club; null for clubs. */
+    private String clubName;
+    private double score;
+
+    public enum Type {
+        PARTICIPANT, CLUB
+    }
+
+    public static NameSearchResultDTO of(Type type, Long id, String name, String clubName, double score) {
+        NameSearchResultDTO dto = new NameSearchResultDTO();
+        dto.setType(type);
+        dto.setId(id);
+        dto.setName(name);
+        dto.setClubName(clubName);
+        dto.setScore(score);
+        return dto;
+    }
+}
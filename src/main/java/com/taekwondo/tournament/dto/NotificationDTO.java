@@ -0,0 +1,31 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything that changed for one user's follows during one notification window.
+ */
+@Data
+@NoArgsConstructor
+public class NotificationDTO {
+    private Long userId;
+    /** The followed topics the changes came through. */
+    private Set<String> topics;
+    /** The latest state of each changed match, in order of first change. */
+    private List<MatchDTO> matches;
+    /** Match changes coalesced into this notification. */
+    private int changes;
+
+    public static NotificationDTO of(Long userId, Set<String> topics, List<MatchDTO> matches, int changes) {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setUserId(userId);
+        dto.setTopics(topics);
+        dto.setMatches(matches);
+        dto.setChanges(changes);
+        return dto;
+    }
+}
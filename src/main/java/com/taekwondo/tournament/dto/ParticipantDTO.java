@@ -0,0 +1,29 @@
+package com.taekwondo.tournament.dto;
+
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ParticipantDTO {
+    private Long id;
+    private String name;
+    private Integer age;
+    private Gender gender;
+    private SkillLevel skillLevel;
+    private ClubDTO club;
+
+    public static ParticipantDTO from(Participant participant) {
+        ParticipantDTO dto = new ParticipantDTO();
+        dto.setId(participant.getId());
+        dto.setName(participant.getName());
+        dto.setAge(participant.getAge());
+        dto.setGender(participant.getGender());
+        dto.setSkillLevel(participant.getSkillLevel());
+        dto.setClub(participant.getClub() != null ? ClubDTO.from(participant.getClub()) : null);
+        return dto;
+    }
+}
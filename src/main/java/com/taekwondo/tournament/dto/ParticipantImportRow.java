@@ -0,0 +1,21 @@
+package com.taekwondo.tournament.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One athlete from a registration file. Values are kept as text so that bad cells
+ * can be reported per row instead of failing the whole upload.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ParticipantImportRow {
+    private String name;
+    private String age;
+    private String gender;
+    private String skillLevel;
+    private String club;
+    private String clubLocation;
+}
@@ -0,0 +1,22 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+public class PredictedStartsDTO {
+    private Long tournamentId;
+    private Integer matNumber;
+    /** Pending matches of the mat in mat order, by match id. */
+    private Map<Long, LocalDateTime> predictedStartTimes;
+
+    public static PredictedStartsDTO of(Long tournamentId, Integer matNumber, Map<Long, LocalDateTime> starts) {
+        PredictedStartsDTO dto = new PredictedStartsDTO();
+        dto.setTournamentId(tournamentId);
+        dto.setMatNumber(matNumber);
+        dto.setPredictedStartTimes(starts);
+        return dto;
+    }
+}
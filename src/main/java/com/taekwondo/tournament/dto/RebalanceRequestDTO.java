@@ -0,0 +1,20 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+public class RebalanceRequestDTO {
+    /** Defaults to the current time. */
+    private LocalDateTime now;
+    /** Extra minutes before a mat can take its next match, e.g. while its scoreboard is repaired. */
+    private Map<Integer, Integer> matDelayMinutes = new HashMap<>();
+    private Set<Integer> offlineMats = new HashSet<>();
+    /** Leave the match currently on each working mat where it is. */
+    private boolean keepCurrentMatches = true;
+}
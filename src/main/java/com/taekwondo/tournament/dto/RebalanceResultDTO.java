@@ -0,0 +1,18 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+public class RebalanceResultDTO {
+    private Long tournamentId;
+    private int remainingMatches;
+    private int keptMatches;
+    private int updatedMatches;
+    private Set<Integer> offlineMats;
+    private LocalDateTime lastMatchEnd;
+    private long computeMillis;
+    private long durationMillis;
+}
@@ -0,0 +1,23 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ScheduleConflictDTO {
+    private Long participantId;
+    private Type type;
+    private Long matchId;
+    private Integer matNumber;
+    private LocalDateTime scheduledTime;
+    private Long otherMatchId;
+    private Integer otherMatNumber;
+    private LocalDateTime otherScheduledTime;
+    /** Minutes between the end of the earlier match and the start of the later one; negative when they overlap. */
+    private long restMinutes;
+
+    public enum Type {
+        DOUBLE_BOOKED, SHORT_REST
+    }
+}
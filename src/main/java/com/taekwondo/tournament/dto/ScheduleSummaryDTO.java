@@ -0,0 +1,15 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ScheduleSummaryDTO {
+    private Long tournamentId;
+    private int matchCount;
+    private int numberOfMats;
+    private LocalDateTime firstMatchStart;
+    private LocalDateTime lastMatchEnd;
+    private long durationMillis;
+}
@@ -0,0 +1,17 @@
+package com.taekwondo.tournament.dto;
+
+import com.taekwondo.tournament.model.MatchEvent;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class ScoringEventDTO {
+    private MatchEvent.Type type;
+    private Long participantId;
+    // Optional; defaults to the standard value for the technique
+    private Integer points;
+    private Integer roundNumber;
+    private String judge;
+    private Instant occurredAt;
+}
@@ -0,0 +1,53 @@
+package com.taekwondo.tournament.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Medal table of a tournament, per club and per participant. Rows are ordered by gold, then silver,
+ * then bronze medals, then wins; rows with equal medals and wins share a rank.
+ */
+@Data
+@NoArgsConstructor
+public class StandingsDTO {
+    private Long tournamentId;
+    private List<ClubStanding> clubs;
+    private List<ParticipantStanding> participants;
+
+    @Data
+    @NoArgsConstructor
+    public static class ClubStanding {
+        private int rank;
+        private Long clubId;
+        private String clubName;
+        private int gold;
+        private int silver;
+        private int bronze;
+        private int wins;
+        private int losses;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class ParticipantStanding {
+        private int rank;
+        private Long participantId;
+        private String participantName;
+        private Long clubId;
+        private int gold;
+        private int silver;
+        private int bronze;
+        private int wins;
+        private int losses;
+    }
+
+    public static StandingsDTO of(Long tournamentId, List<ClubStanding> clubs, List<ParticipantStanding> participants) {
+        StandingsDTO dto = new StandingsDTO();
+        dto.setTournamentId(tournamentId);
+        dto.setClubs(clubs);
+        dto.setParticipants(participants);
+        return dto;
+    }
+}
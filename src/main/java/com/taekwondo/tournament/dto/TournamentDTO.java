@@ -0,0 +1,31 @@
+package com.taekwondo.tournament.dto;
+
+import com.taekwondo.tournament.model.Tournament;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TournamentDTO {
+    private Long id;
+    private String name;
+    private LocalDate date;
+    private Integer numberOfMats;
+    private Integer maxParticipants;
+    private List<Tournament.TournamentCategory> categories;
+
+    public static TournamentDTO from(Tournament tournament) {
+        TournamentDTO dto = new TournamentDTO();
+        dto.setId(tournament.getId());
+        dto.setName(tournament.getName());
+        dto.setDate(tournament.getDate());
+        dto.setNumberOfMats(tournament.getNumberOfMats());
+        dto.setMaxParticipants(tournament.getMaxParticipants());
+        dto.setCategories(new ArrayList<>(tournament.getCategories()));
+        return dto;
+    }
+}
@@ -2,8 +2,19 @@ package com.taekwondo.tournament.dto;
 
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 public class TournamentRegistrationDTO {
     private Long participantId;
     private Long tournamentId;
-} 
\ No newline at end of file
+    private LocalDateTime registrationDate;
+
+    public static TournamentRegistrationDTO of(Long participantId, Long tournamentId, LocalDateTime registrationDate) {
+        TournamentRegistrationDTO dto = new TournamentRegistrationDTO();
+        dto.setParticipantId(participantId);
+        dto.setTournamentId(tournamentId);
+        dto.setRegistrationDate(registrationDate);
+        return dto;
+    }
+}
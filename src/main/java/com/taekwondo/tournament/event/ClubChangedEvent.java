@@ -0,0 +1,14 @@
+package com.taekwondo.tournament.event;
+
+import com.taekwondo.tournament.dto.ClubDTO;
+import lombok.Value;
+
+@Value
+public class ClubChangedEvent {
+    Type type;
+    ClubDTO club;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,14 @@
+package com.taekwondo.tournament.event;
+
+import lombok.Value;
+
+@Value
+public class FollowChangedEvent {
+    Type type;
+    Long userId;
+    String topic;
+
+    public enum Type {
+        FOLLOWED, UNFOLLOWED
+    }
+}
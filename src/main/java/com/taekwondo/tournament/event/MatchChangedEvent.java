@@ -0,0 +1,16 @@
+package com.taekwondo.tournament.event;
+
+import com.taekwondo.tournament.dto.MatchDTO;
+import lombok.Value;
+
+@Value
+public class MatchChangedEvent {
+    Type type;
+    MatchDTO match;
+    Integer previousMatNumber;
+    Long previousWinnerId;
+
+    public enum Type {
+        CREATED, UPDATED, RESULT_RECORDED, DELETED
+    }
+}
@@ -0,0 +1,14 @@
+package com.taekwondo.tournament.event;
+
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import lombok.Value;
+
+@Value
+public class ParticipantChangedEvent {
+    Type type;
+    ParticipantDTO participant;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,15 @@
+package com.taekwondo.tournament.event;
+
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Participants created together by one import batch, published once instead of a CREATED
+ * {@link ParticipantChangedEvent} per row.
+ */
+@Value
+public class ParticipantsImportedEvent {
+    List<ParticipantDTO> participants;
+}
@@ -0,0 +1,54 @@
+package com.taekwondo.tournament.event;
+
+import com.taekwondo.tournament.dto.MatchDTO;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class Topics {
+
+    private Topics() {
+    }
+
+    public static String tournament(Long tournamentId) {
+        return "tournament:" + tournamentId;
+    }
+
+    public static String mat(Long tournamentId, Integer matNumber) {
+        return "mat:" + tournamentId + ":" + matNumber;
+    }
+
+    public static String club(Long clubId) {
+        return "club:" + clubId;
+    }
+
+    public static String participant(Long participantId) {
+        return "participant:" + participantId;
+    }
+
+    public static Set<String> forMatch(MatchDTO match, Integer previousMatNumber) {
+        Set<String> topics = new LinkedHashSet<>();
+        if (match.getTournamentId() != null) {
+            topics.add(tournament(match.getTournamentId()));
+            if (match.getMatNumber() != null) {
+                topics.add(mat(match.getTournamentId(), match.getMatNumber()));
+            }
+            if (previousMatNumber != null) {
+                topics.add(mat(match.getTournamentId(), previousMatNumber));
+            }
+        }
+        if (match.getParticipant1Id() != null) {
+            topics.add(participant(match.getParticipant1Id()));
+        }
+        if (match.getParticipant2Id() != null) {
+            topics.add(participant(match.getParticipant2Id()));
+        }
+        if (match.getParticipant1ClubId() != null) {
+            topics.add(club(match.getParticipant1ClubId()));
+        }
+        if (match.getParticipant2ClubId() != null) {
+            topics.add(club(match.getParticipant2ClubId()));
+        }
+        return topics;
+    }
+}
@@ -0,0 +1,16 @@
+package com.taekwondo.tournament.event;
+
+import lombok.Value;
+
+/**
+ * Published when many matches of a tournament change at once, e.g. when brackets are regenerated.
+ */
+@Value
+public class TournamentChangedEvent {
+    Long tournamentId;
+    Type type;
+
+    public enum Type {
+        CREATED, UPDATED, BRACKETS_GENERATED, SCHEDULED, DELETED
+    }
+}
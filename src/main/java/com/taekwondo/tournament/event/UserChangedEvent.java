@@ -0,0 +1,13 @@
+package com.taekwondo.tournament.event;
+
+import lombok.Value;
+
+@Value
+public class UserChangedEvent {
+    Type type;
+    String username;
+
+    public enum Type {
+        UPDATED, DELETED
+    }
+}
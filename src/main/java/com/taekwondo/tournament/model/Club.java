@@ -16,7 +16,8 @@ import java.util.List;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Club {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clubs_id_seq")
+    @SequenceGenerator(name = "clubs_id_seq", sequenceName = "clubs_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Club name is required")
@@ -0,0 +1,42 @@
+package com.taekwondo.tournament.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "follows",
+    uniqueConstraints = @UniqueConstraint(name = "uk_follows_user_topic", columnNames = {"user_id", "topic"}),
+    indexes = @Index(name = "idx_follows_user", columnList = "user_id"))
+@Data
+@NoArgsConstructor
+public class Follow {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // A plain id: the follow registry is loaded in bulk and never navigates to the user
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TargetType targetType;
+
+    /** The live feed topic of the target, e.g. {@code club:12} or {@code mat:3:2}. */
+    @NotNull
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    public enum TargetType {
+        PARTICIPANT, CLUB, MAT
+    }
+}
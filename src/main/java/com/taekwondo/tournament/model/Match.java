@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -11,9 +12,11 @@ import java.time.LocalDateTime;
 @Table(name = "matches")
 @Data
 @NoArgsConstructor
+@DynamicUpdate
 public class Match {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matches_id_seq")
+    @SequenceGenerator(name = "matches_id_seq", sequenceName = "matches_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true)
@@ -47,7 +50,18 @@ public class Match {
 
     private LocalDateTime scheduledTime;
 
+    private LocalDateTime completedAt;
+
+    private String category;
+
+    private Integer bracketPosition;
+
+    // Match the winner advances to, and which participant slot (1 or 2) it fills there
+    private Long nextMatchId;
+
+    private Integer nextMatchSlot;
+
     public enum Round {
-        QUARTER_FINAL, SEMI_FINAL, FINAL
+        ROUND_OF_128, ROUND_OF_64, ROUND_OF_32, ROUND_OF_16, QUARTER_FINAL, SEMI_FINAL, FINAL
     }
 } 
\ No newline at end of file
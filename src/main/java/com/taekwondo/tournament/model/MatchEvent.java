@@ -0,0 +1,68 @@
+package com.taekwondo.tournament.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "match_events", indexes = @Index(name = "idx_match_events_match", columnList = "match_id"))
+@Data
+@NoArgsConstructor
+public class MatchEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_events_id_seq")
+    @SequenceGenerator(name = "match_events_id_seq", sequenceName = "match_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    // Plain ids rather than associations: events are written in bulk and never navigated
+    @NotNull
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    private Integer matNumber;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Type type;
+
+    // The athlete who performed the technique or received the penalty
+    private Long participantId;
+
+    private Integer points;
+
+    private Integer roundNumber;
+
+    private String judge;
+
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private Instant receivedAt;
+
+    public enum Type {
+        PUNCH(1),
+        BODY_KICK(2),
+        HEAD_KICK(3),
+        TURNING_BODY_KICK(4),
+        TURNING_HEAD_KICK(5),
+        PENALTY(1),
+        ROUND_END(0);
+
+        private final int defaultPoints;
+
+        Type(int defaultPoints) {
+            this.defaultPoints = defaultPoints;
+        }
+
+        public int getDefaultPoints() {
+            return defaultPoints;
+        }
+    }
+}
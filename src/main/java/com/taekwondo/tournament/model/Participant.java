@@ -14,7 +14,8 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Participant {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participants_id_seq")
+    @SequenceGenerator(name = "participants_id_seq", sequenceName = "participants_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
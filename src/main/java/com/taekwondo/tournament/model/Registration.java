@@ -0,0 +1,39 @@
+package com.taekwondo.tournament.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * A participant's entry into a tournament. Plain ids rather than associations: entries are
+ * admitted in memory and written in batches, never navigated.
+ */
+@Entity
+@Table(name = "participant_tournaments")
+@IdClass(Registration.Key.class)
+@Data
+@NoArgsConstructor
+public class Registration {
+    @Id
+    @Column(name = "participant_id")
+    private Long participantId;
+
+    @Id
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "registration_date")
+    private LocalDateTime registrationDate;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long participantId;
+        private Long tournamentId;
+    }
+}
@@ -29,6 +29,10 @@ public class Tournament {
     @Min(value = 1, message = "Number of mats must be at least 1")
     private Integer numberOfMats;
 
+    // Null means registration is not capped
+    @Min(value = 1, message = "Maximum participants must be at least 1")
+    private Integer maxParticipants;
+
     @ElementCollection
     @CollectionTable(name = "tournament_categories",
             joinColumns = @JoinColumn(name = "tournament_id"))
@@ -51,5 +55,26 @@ public class Tournament {
 
         @Enumerated(EnumType.STRING)
         private SkillLevel skillLevel;
+
+        public boolean includes(Participant participant) {
+            if (gender != null && gender != participant.getGender()) {
+                return false;
+            }
+            if (skillLevel != null && skillLevel != participant.getSkillLevel()) {
+                return false;
+            }
+            Integer age = participant.getAge();
+            if (minAge != null && (age == null || age < minAge)) {
+                return false;
+            }
+            return maxAge == null || (age != null && age <= maxAge);
+        }
+
+        public String getLabel() {
+            String genderLabel = gender != null ? gender.name() : "Open";
+            String ageLabel = (minAge != null ? minAge : 0) + "-" + (maxAge != null ? maxAge : 99);
+            String levelLabel = skillLevel != null ? skillLevel.getDisplayName() : "All Levels";
+            return genderLabel + " " + ageLabel + " " + levelLabel;
+        }
     }
 } 
\ No newline at end of file
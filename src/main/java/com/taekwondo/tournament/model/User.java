@@ -3,10 +3,13 @@ package com.taekwondo.tournament.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Entity
 @Table(name = "users")
 @Data
@@ -30,10 +33,14 @@ public class User {
     @Size(min = 6, message = "Password must be at least 6 characters long")
     private String password;
 
-    @NotBlank(message = "Role is required")
+    @NotNull(message = "Role is required")
     @Enumerated(EnumType.STRING)
     private UserRole role;
 
+    // Tokens issued before this are rejected; unlike the in-memory revocations it survives a restart
+    @Column(name = "tokens_valid_after")
+    private Instant tokensValidAfter;
+
     public enum UserRole {
         ADMIN, ORGANIZER, JUDGE, PARTICIPANT
     }
@@ -1,10 +1,13 @@
 package com.taekwondo.tournament.repository;
 
 import com.taekwondo.tournament.model.Club;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, Long> {
     // Basic CRUD operations are automatically provided by JpaRepository
+    Slice<Club> findByIdGreaterThan(Long id, Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.taekwondo.tournament.repository;
+
+import com.taekwondo.tournament.model.Follow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+    List<Follow> findByUserIdOrderByCreatedAtAsc(Long userId);
+
+    Optional<Follow> findByUserIdAndTopic(Long userId, String topic);
+
+    @Query("SELECT f.topic AS topic, f.userId AS userId FROM Follow f")
+    List<SubscriptionRow> findAllSubscriptions();
+
+    interface SubscriptionRow {
+        String getTopic();
+
+        Long getUserId();
+    }
+}
@@ -0,0 +1,12 @@
+package com.taekwondo.tournament.repository;
+
+import com.taekwondo.tournament.model.MatchEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MatchEventRepository extends JpaRepository<MatchEvent, Long> {
+    List<MatchEvent> findByMatchIdOrderByIdAsc(Long matchId);
+}
@@ -1,15 +1,51 @@
 package com.taekwondo.tournament.repository;
 
 import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
+    // Read paths fetch both fighters and their clubs up front so mapping to MatchDTO issues no further selects
+    @Override
+    @EntityGraph(attributePaths = {"participant1.club", "participant2.club"})
+    List<Match> findAll();
+
+    @EntityGraph(attributePaths = {"participant1.club", "participant2.club"})
     List<Match> findByTournamentId(Long tournamentId);
-    List<Match> findByTournamentIdAndRound(Long tournamentId, String round);
+
+    @EntityGraph(attributePaths = {"participant1.club", "participant2.club"})
+    List<Match> findByTournamentIdAndRound(Long tournamentId, Match.Round round);
+
+    @EntityGraph(attributePaths = {"participant1.club", "participant2.club"})
     List<Match> findByTournamentIdAndMatNumber(Long tournamentId, Integer matNumber);
+
+    @EntityGraph(attributePaths = {"participant1.club", "participant2.club"})
     List<Match> findByParticipant1IdOrParticipant2Id(Long participant1Id, Long participant2Id);
-} 
\ No newline at end of file
+
+    @EntityGraph(attributePaths = {"participant1.club", "participant2.club"})
+    Slice<Match> findByIdGreaterThan(Long id, Pageable pageable);
+
+    boolean existsByNextMatchIdAndNextMatchSlot(Long nextMatchId, Integer nextMatchSlot);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from Match m where m.tournament.id = :tournamentId")
+    int deleteByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Modifying
+    @Query("update Match m set m.participant1 = :participant where m.id = :id and m.winner is null")
+    int assignParticipant1IfUndecided(@Param("id") Long id, @Param("participant") Participant participant);
+
+    @Modifying
+    @Query("update Match m set m.participant2 = :participant where m.id = :id and m.winner is null")
+    int assignParticipant2IfUndecided(@Param("id") Long id, @Param("participant") Participant participant);
+}
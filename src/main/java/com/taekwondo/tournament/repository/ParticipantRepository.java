@@ -1,13 +1,48 @@
 package com.taekwondo.tournament.repository;
 
+import com.taekwondo.tournament.model.Gender;
 import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
+    // Club is fetched in the same statement instead of one select per distinct club
+    @Override
+    @EntityGraph(attributePaths = "club")
+    List<Participant> findAll();
+
+    @EntityGraph(attributePaths = "club")
     List<Participant> findByClubId(Long clubId);
-    List<Participant> findByGenderAndSkillLevel(String gender, String skillLevel);
-} 
\ No newline at end of file
+
+    @EntityGraph(attributePaths = "club")
+    List<Participant> findByGenderAndSkillLevel(Gender gender, SkillLevel skillLevel);
+
+    @EntityGraph(attributePaths = "club")
+    List<Participant> findByIdIn(Collection<Long> ids);
+
+    // Only the columns category classification needs, without loading clubs
+    @Query("select p.id as id, p.gender as gender, p.skillLevel as skillLevel, p.age as age from Participant p")
+    List<ClassificationRow> findAllClassifications();
+
+    @EntityGraph(attributePaths = "club")
+    Slice<Participant> findByIdGreaterThan(Long id, Pageable pageable);
+
+    interface ClassificationRow {
+        Long getId();
+
+        Gender getGender();
+
+        SkillLevel getSkillLevel();
+
+        Integer getAge();
+    }
+}
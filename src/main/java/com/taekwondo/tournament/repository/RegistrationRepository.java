@@ -0,0 +1,15 @@
+package com.taekwondo.tournament.repository;
+
+import com.taekwondo.tournament.model.Registration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RegistrationRepository extends JpaRepository<Registration, Registration.Key> {
+    @Query("select r.participantId from Registration r where r.tournamentId = :tournamentId")
+    List<Long> findParticipantIdsByTournamentId(@Param("tournamentId") Long tournamentId);
+}
@@ -1,7 +1,10 @@
 package com.taekwondo.tournament.repository;
 
 import com.taekwondo.tournament.model.Tournament;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -11,4 +14,8 @@ import java.util.List;
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     List<Tournament> findByDate(LocalDate date);
     List<Tournament> findByDateBetween(LocalDate startDate, LocalDate endDate);
+    Slice<Tournament> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Query("select t.id from Tournament t")
+    List<Long> findAllIds();
 } 
\ No newline at end of file
@@ -23,6 +23,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         this.userService = userService;
     }
 
+    /**
+     * Checks a token against the user's stored cutoff, which outlives the in-memory revocations across
+     * restarts; tokens of users that no longer exist are revoked too.
+     */
+    public boolean isRevoked(String username, long issuedAtMillis) {
+        return userService.findByUsername(username)
+                .map(user -> user.getTokensValidAfter() != null
+                        && JwtAuthenticationCache.issuedBefore(issuedAtMillis, user.getTokensValidAfter().toEpochMilli()))
+                .orElse(true);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         logger.debug("Loading user by username: {}", username);
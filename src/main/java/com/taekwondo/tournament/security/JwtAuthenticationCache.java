@@ -0,0 +1,113 @@
+package com.taekwondo.tournament.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import com.taekwondo.tournament.event.UserChangedEvent;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class JwtAuthenticationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationCache.class);
+
+    public record CachedAuthentication(UserDetails userDetails, long issuedAtMillis, long expiresAtMillis) {
+    }
+
+    private final Cache<String, CachedAuthentication> verifiedTokens;
+    private final Cache<String, Long> revokedBefore;
+
+    public JwtAuthenticationCache(@Value("${app.jwt.cache.max-size:10000}") long maxSize,
+                                  @Value("${app.jwt.expiration}") long jwtExpirationInMs) {
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+                        long remaining = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        // A revocation only matters while tokens issued before it can still be valid
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(jwtExpirationInMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public CachedAuthentication get(String token) {
+        CachedAuthentication cached = verifiedTokens.getIfPresent(hash(token));
+        if (cached == null || cached.expiresAtMillis() <= System.currentTimeMillis()) {
+            return null;
+        }
+        // A request verified before a revocation may have cached its token after the revocation swept the cache
+        if (isRevoked(cached.userDetails().getUsername(), cached.issuedAtMillis())) {
+            return null;
+        }
+        return cached;
+    }
+
+    public void put(String token, CachedAuthentication authentication) {
+        verifiedTokens.put(hash(token), authentication);
+    }
+
+    // Token issue times are whole seconds, so tokens from the second of the revocation are accepted:
+    // a user who logs in again right after a change must not be locked out
+    public boolean isRevoked(String username, long issuedAtMillis) {
+        Long revokedAt = revokedBefore.getIfPresent(username);
+        return revokedAt != null && issuedBefore(issuedAtMillis, revokedAt);
+    }
+
+    static boolean issuedBefore(long issuedAtMillis, long revokedAtMillis) {
+        return issuedAtMillis < revokedAtMillis / 1000 * 1000;
+    }
+
+    public void revokeUser(String username) {
+        logger.debug("Revoking cached tokens for user: {}", username);
+        revokedBefore.put(username, System.currentTimeMillis());
+        verifiedTokens.asMap().values()
+                .removeIf(cached -> cached.userDetails().getUsername().equals(username));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        revokeUser(event.getUsername());
+    }
+
+    public long size() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
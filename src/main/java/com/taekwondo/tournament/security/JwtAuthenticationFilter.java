@@ -1,13 +1,15 @@
 package com.taekwondo.tournament.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -17,11 +19,14 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+    private final JwtAuthenticationCache authenticationCache;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService,
+                                   JwtAuthenticationCache authenticationCache) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.authenticationCache = authenticationCache;
     }
 
     @Override
@@ -30,15 +35,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (StringUtils.hasText(jwt)) {
+                UserDetails userDetails = authenticate(jwt);
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -47,6 +52,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails authenticate(String jwt) {
+        JwtAuthenticationCache.CachedAuthentication cached = authenticationCache.get(jwt);
+        if (cached != null) {
+            return cached.userDetails();
+        }
+
+        Claims claims;
+        try {
+            claims = tokenProvider.parseClaims(jwt);
+        } catch (RuntimeException e) {
+            logger.debug("Rejected invalid JWT: " + e.getMessage());
+            return null;
+        }
+        String username = claims.getSubject();
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        // Checked once per token: after a restart only the stored cutoff knows about earlier revocations
+        if (authenticationCache.isRevoked(username, issuedAt) || userDetailsService.isRevoked(username, issuedAt)) {
+            return null;
+        }
+
+        String roles = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+        UserDetails userDetails = StringUtils.hasText(roles)
+                ? new User(username, "", AuthorityUtils.commaSeparatedStringToAuthorityList(roles))
+                // Tokens issued before the role claim existed still need the user lookup
+                : userDetailsService.loadUserByUsername(username);
+
+        authenticationCache.put(jwt, new JwtAuthenticationCache.CachedAuthentication(
+                userDetails, issuedAt, claims.getExpiration().getTime()));
+        return userDetails;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -54,4 +90,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-} 
\ No newline at end of file
+}
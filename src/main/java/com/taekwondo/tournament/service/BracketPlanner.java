@@ -0,0 +1,93 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds the single-elimination draw for one category without touching the database,
+ * so that categories can be planned independently of each other.
+ */
+public class BracketPlanner {
+
+    public static final int MAX_BRACKET_SIZE = 128;
+
+    public record PlannedMatch(int roundIndex, int position, Match.Round round,
+                               Participant participant1, Participant participant2) {
+    }
+
+    public record BracketPlan(String category, int participantCount, List<List<PlannedMatch>> rounds) {
+
+        public int matchCount() {
+            return rounds.stream().mapToInt(List::size).sum();
+        }
+    }
+
+    public BracketPlan plan(String category, List<Participant> participants, long seed) {
+        int count = participants.size();
+        if (count > MAX_BRACKET_SIZE) {
+            throw new IllegalArgumentException("Category " + category + " has " + count
+                + " participants; brackets support at most " + MAX_BRACKET_SIZE);
+        }
+        if (count < 2) {
+            return new BracketPlan(category, count, List.of());
+        }
+
+        List<Participant> drawn = new ArrayList<>(participants);
+        Collections.shuffle(drawn, new Random(seed));
+
+        int size = Integer.highestOneBit(count - 1) << 1;
+        int roundCount = Integer.numberOfTrailingZeros(size);
+        int[] seedOrder = seedOrder(size);
+
+        // Entrants per slot of the round being built; null marks a bye
+        Participant[] slots = new Participant[size];
+        for (int i = 0; i < size; i++) {
+            int seedIndex = seedOrder[i] - 1;
+            slots[i] = seedIndex < count ? drawn.get(seedIndex) : null;
+        }
+
+        List<List<PlannedMatch>> rounds = new ArrayList<>(roundCount);
+        for (int roundIndex = 0; roundIndex < roundCount; roundIndex++) {
+            Match.Round round = roundFor(roundIndex, roundCount);
+            List<PlannedMatch> matches = new ArrayList<>(slots.length / 2);
+            Participant[] next = new Participant[slots.length / 2];
+            for (int position = 0; position < slots.length / 2; position++) {
+                Participant first = slots[2 * position];
+                Participant second = slots[2 * position + 1];
+                if (roundIndex == 0 && (first == null || second == null)) {
+                    // Byes only occur in the first round: the athlete goes straight through
+                    next[position] = first != null ? first : second;
+                } else {
+                    matches.add(new PlannedMatch(roundIndex, position, round, first, second));
+                }
+            }
+            rounds.add(matches);
+            slots = next;
+        }
+        return new BracketPlan(category, count, rounds);
+    }
+
+    static Match.Round roundFor(int roundIndex, int roundCount) {
+        Match.Round[] rounds = Match.Round.values();
+        return rounds[rounds.length - roundCount + roundIndex];
+    }
+
+    static int[] seedOrder(int size) {
+        int[] order = {1};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] expanded = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                expanded[2 * i] = order[i];
+                expanded[2 * i + 1] = length + 1 - order[i];
+            }
+            order = expanded;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,204 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.BracketSummaryDTO;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import com.taekwondo.tournament.service.BracketPlanner.BracketPlan;
+import com.taekwondo.tournament.service.BracketPlanner.PlannedMatch;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BracketService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BracketService.class);
+    private final TournamentRepository tournamentRepository;
+    private final ParticipantRepository participantRepository;
+    private final RegistrationService registrationService;
+    private final MatchRepository matchRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BracketPlanner planner = new BracketPlanner();
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public BracketService(TournamentRepository tournamentRepository,
+                          ParticipantRepository participantRepository,
+                          RegistrationService registrationService,
+                          MatchRepository matchRepository,
+                          EntityManager entityManager,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${app.bracket.parallelism:0}") int parallelism) {
+        this.tournamentRepository = tournamentRepository;
+        this.participantRepository = participantRepository;
+        this.registrationService = registrationService;
+        this.matchRepository = matchRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Transactional
+    public BracketSummaryDTO generateBrackets(Long tournamentId) {
+        long start = System.nanoTime();
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+            .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
+
+        List<Tournament.TournamentCategory> categories = new ArrayList<>(tournament.getCategories());
+        // Labels are for display only: an unset bound and its default render alike, e.g. "0-99"
+        categories.sort(Comparator.comparing(Tournament.TournamentCategory::getLabel)
+            .thenComparing(category -> category.getMinAge() != null)
+            .thenComparing(category -> category.getMaxAge() != null));
+        // Only the tournament's entrants are drawn; classification is answered by the category index
+        Map<Tournament.TournamentCategory, long[]> entrantIds = new LinkedHashMap<>();
+        for (Tournament.TournamentCategory category : categories) {
+            entrantIds.put(category, registrationService.getEntrantIds(tournamentId, category));
+        }
+        Map<Long, Participant> participants = participantRepository.findAllById(entrantIds.values().stream()
+                .flatMapToLong(Arrays::stream)
+                .boxed()
+                .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(Participant::getId, Function.identity()));
+        logger.info("Generating brackets for tournament {}: {} categories, {} entrants",
+            tournamentId, categories.size(), participants.size());
+
+        // Drawing is pure CPU work; only the persistence below needs the session
+        Map<Tournament.TournamentCategory, List<Participant>> entrants = new LinkedHashMap<>();
+        entrantIds.forEach((category, ids) -> entrants.put(category, Arrays.stream(ids)
+            .mapToObj(participants::get)
+            .filter(Objects::nonNull)
+            .toList()));
+        // One oversized category must not cost the draw of all the others
+        Map<String, Integer> oversized = new LinkedHashMap<>();
+        entrants.entrySet().removeIf(category -> {
+            if (category.getValue().size() <= BracketPlanner.MAX_BRACKET_SIZE) {
+                return false;
+            }
+            oversized.merge(category.getKey().getLabel(), category.getValue().size(), Integer::sum);
+            return true;
+        });
+        if (!oversized.isEmpty()) {
+            logger.warn("Skipping categories over {} participants in tournament {}: {}",
+                BracketPlanner.MAX_BRACKET_SIZE, tournamentId, oversized);
+        }
+        List<BracketPlan> plans = pool.submit(() -> entrants.entrySet().parallelStream()
+            .map(category -> planner.plan(category.getKey().getLabel(), category.getValue(),
+                Objects.hash(tournamentId, category.getKey().getLabel())))
+            .toList()).join();
+
+        int removed = matchRepository.deleteByTournamentId(tournamentId);
+        logger.debug("Removed {} existing matches for tournament {}", removed, tournamentId);
+
+        int matchCount = persist(tournament, plans);
+
+        BracketSummaryDTO summary = new BracketSummaryDTO();
+        summary.setTournamentId(tournamentId);
+        summary.setCategoryCount(plans.size());
+        summary.setParticipantCount(plans.stream().mapToInt(BracketPlan::participantCount).sum());
+        summary.setMatchCount(matchCount);
+        plans.forEach(plan -> summary.getMatchesPerCategory().merge(plan.category(), plan.matchCount(), Integer::sum));
+        summary.getSkippedCategories().putAll(oversized);
+        summary.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        logger.info("Generated {} matches for tournament {} in {} ms",
+            matchCount, tournamentId, summary.getDurationMillis());
+        eventPublisher.publishEvent(
+            new TournamentChangedEvent(tournamentId, TournamentChangedEvent.Type.BRACKETS_GENERATED));
+        return summary;
+    }
+
+    private int persist(Tournament tournament, List<BracketPlan> plans) {
+        int numberOfMats = tournament.getNumberOfMats() != null ? tournament.getNumberOfMats() : 1;
+        int[] nextOrderPerMat = new int[numberOfMats + 1];
+        int maxRounds = plans.stream().mapToInt(plan -> plan.rounds().size()).max().orElse(0);
+
+        // Initial placement: categories rotate over the mats and play round by round
+        List<List<Match[]>> matchesPerPlan = new ArrayList<>(plans.size());
+        for (BracketPlan plan : plans) {
+            List<Match[]> rounds = new ArrayList<>(plan.rounds().size());
+            int size = 1 << plan.rounds().size();
+            for (int roundIndex = 0; roundIndex < plan.rounds().size(); roundIndex++) {
+                rounds.add(new Match[size >> (roundIndex + 1)]);
+            }
+            matchesPerPlan.add(rounds);
+        }
+        for (int roundIndex = 0; roundIndex < maxRounds; roundIndex++) {
+            for (int planIndex = 0; planIndex < plans.size(); planIndex++) {
+                BracketPlan plan = plans.get(planIndex);
+                if (roundIndex >= plan.rounds().size()) {
+                    continue;
+                }
+                int matNumber = planIndex % numberOfMats + 1;
+                for (PlannedMatch planned : plan.rounds().get(roundIndex)) {
+                    Match match = new Match();
+                    match.setTournament(tournament);
+                    match.setCategory(plan.category());
+                    match.setRound(planned.round());
+                    match.setBracketPosition(planned.position());
+                    match.setParticipant1(planned.participant1());
+                    match.setParticipant2(planned.participant2());
+                    match.setMatNumber(matNumber);
+                    match.setMatchOrder(++nextOrderPerMat[matNumber]);
+                    matchesPerPlan.get(planIndex).get(roundIndex)[planned.position()] = match;
+                }
+            }
+        }
+
+        // Write from the finals backwards so every match can reference the already-identified next match
+        int total = 0;
+        for (int depth = 0; depth < maxRounds; depth++) {
+            List<Match> batch = new ArrayList<>();
+            for (List<Match[]> rounds : matchesPerPlan) {
+                int roundIndex = rounds.size() - 1 - depth;
+                if (roundIndex < 0) {
+                    continue;
+                }
+                Match[] next = roundIndex + 1 < rounds.size() ? rounds.get(roundIndex + 1) : null;
+                Match[] current = rounds.get(roundIndex);
+                for (int position = 0; position < current.length; position++) {
+                    Match match = current[position];
+                    if (match == null) {
+                        continue;
+                    }
+                    if (next != null) {
+                        match.setNextMatchId(next[position / 2].getId());
+                        match.setNextMatchSlot(position % 2 + 1);
+                    }
+                    batch.add(match);
+                }
+            }
+            matchRepository.saveAll(batch);
+            entityManager.flush();
+            total += batch.size();
+        }
+        entityManager.clear();
+        return total;
+    }
+}
@@ -0,0 +1,176 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.BracketTreeDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read model behind the bracket view: each category's whole tree, already serialized to JSON.
+ * A tournament's brackets are loaded on first view; after that a match change re-renders only
+ * the category it belongs to, and views are answered with the stored bytes.
+ */
+@Service
+public class BracketTreeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BracketTreeService.class);
+    private static final Comparator<MatchDTO> BRACKET_ORDER = Comparator
+        .comparing(MatchDTO::getRound, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(MatchDTO::getBracketPosition, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(MatchDTO::getId);
+
+    /** A rendered bracket and the entity tag that changes with every render. */
+    public record Tree(byte[] json, String etag) {
+    }
+
+    private final class TournamentTrees {
+        private final Long tournamentId;
+        // Guarded by this
+        private final Map<String, Map<Long, MatchDTO>> matchesByCategory = new TreeMap<>();
+        private final Map<Long, String> categoryOfMatch = new HashMap<>();
+        private final Map<String, Tree> trees = new ConcurrentHashMap<>();
+
+        private TournamentTrees(Long tournamentId, List<MatchDTO> matches) {
+            this.tournamentId = tournamentId;
+            matches.forEach(match -> put(match));
+            matchesByCategory.keySet().forEach(this::render);
+        }
+
+        private synchronized void apply(MatchDTO match, boolean deleted) {
+            String previous = categoryOfMatch.get(match.getId());
+            if (previous != null) {
+                Map<Long, MatchDTO> matches = matchesByCategory.get(previous);
+                matches.remove(match.getId());
+                categoryOfMatch.remove(match.getId());
+                if (matches.isEmpty()) {
+                    matchesByCategory.remove(previous);
+                    trees.remove(previous);
+                } else if (!previous.equals(match.getCategory()) || deleted) {
+                    render(previous);
+                }
+            }
+            if (!deleted && put(match)) {
+                render(match.getCategory());
+            }
+        }
+
+        private synchronized List<String> categories() {
+            return List.copyOf(matchesByCategory.keySet());
+        }
+
+        // Matches created outside bracket generation have no category and are not part of a tree
+        private boolean put(MatchDTO match) {
+            if (match.getCategory() == null) {
+                return false;
+            }
+            matchesByCategory.computeIfAbsent(match.getCategory(), category -> new HashMap<>()).put(match.getId(), match);
+            categoryOfMatch.put(match.getId(), match.getCategory());
+            return true;
+        }
+
+        private void render(String category) {
+            List<MatchDTO> matches = new ArrayList<>(matchesByCategory.get(category).values());
+            matches.sort(BRACKET_ORDER);
+            List<BracketTreeDTO.Round> rounds = new ArrayList<>();
+            Match.Round round = null;
+            List<BracketTreeDTO.Node> nodes = null;
+            for (MatchDTO match : matches) {
+                if (nodes == null || !Objects.equals(round, match.getRound())) {
+                    round = match.getRound();
+                    nodes = new ArrayList<>();
+                    rounds.add(BracketTreeDTO.Round.of(round, nodes));
+                }
+                nodes.add(BracketTreeDTO.Node.from(match));
+            }
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(BracketTreeDTO.of(tournamentId, category, rounds));
+                trees.put(category, new Tree(json, "\"" + epoch + "-b" + tournamentId + "-" + renders.incrementAndGet() + "\""));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private final MatchRepository matchRepository;
+    private final ObjectMapper objectMapper;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong renders = new AtomicLong();
+    private final TournamentModels<TournamentTrees> tournaments = new TournamentModels<>();
+
+    @Autowired
+    public BracketTreeService(MatchRepository matchRepository, ObjectMapper objectMapper) {
+        this.matchRepository = matchRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public Tree getTree(Long tournamentId, String category) {
+        Tree tree = trees(tournamentId).trees.get(category);
+        if (tree == null) {
+            throw new RuntimeException("Bracket not found for category '" + category + "' in tournament " + tournamentId);
+        }
+        return tree;
+    }
+
+    public List<String> getCategories(Long tournamentId) {
+        return trees(tournamentId).categories();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        MatchDTO match = event.getMatch();
+        TournamentTrees trees = tournaments.changed(match.getTournamentId());
+        if (trees != null) {
+            trees.apply(match, event.getType() == MatchChangedEvent.Type.DELETED);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        // Regenerated brackets and new schedules rewrite matches without a change per match
+        if (event.getType() != TournamentChangedEvent.Type.CREATED
+                && event.getType() != TournamentChangedEvent.Type.UPDATED) {
+            tournaments.invalidate(event.getTournamentId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        // Trees show participant names; renames are rare, so reload lazily
+        if (event.getType() != ParticipantChangedEvent.Type.CREATED) {
+            tournaments.invalidateAll();
+        }
+    }
+
+    private TournamentTrees trees(Long tournamentId) {
+        return tournaments.getOrLoad(tournamentId, id -> {
+            long start = System.nanoTime();
+            TournamentTrees loaded = new TournamentTrees(id,
+                matchRepository.findByTournamentId(id).stream().map(MatchDTO::from).toList());
+            logger.debug("Rendered {} brackets for tournament {} in {} ms", loaded.trees.size(), id,
+                (System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        });
+    }
+}
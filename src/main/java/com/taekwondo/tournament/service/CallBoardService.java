@@ -0,0 +1,288 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.CallBoardDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.PredictedStartsDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.Topics;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-mat queues of the matches still to be fought, in mat order. Each mat keeps its first
+ * {@code depth} matches as a ready-made board, so display screens are answered without sorting
+ * or touching the database; a tournament is loaded once on first access and then kept current
+ * from committed match changes, which are also pushed to the mat's live feed topic.
+ * <p>
+ * The queues also drive predicted start times: every completed match feeds a rolling estimate of
+ * match duration per mat and round, and a result re-predicts only the queue of its own mat.
+ */
+@Service
+public class CallBoardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CallBoardService.class);
+    private static final Comparator<MatchDTO> MAT_ORDER = Comparator
+        .comparing(MatchDTO::getMatchOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(MatchDTO::getId);
+
+    private static final class MatQueue {
+        private final TreeSet<MatchDTO> pending = new TreeSet<>(MAT_ORDER);
+        private LocalDateTime lastCompletedAt;
+        private volatile CallBoardDTO board;
+    }
+
+    /** Mutated only while holding its own monitor; boards are published through volatile fields. */
+    private final class TournamentBoard {
+        private final Long tournamentId;
+        private final Map<Integer, MatQueue> mats = new ConcurrentHashMap<>();
+        private final Map<Long, MatchDTO> pendingById = new HashMap<>();
+        private final Map<Long, LocalDateTime> predictedStarts = new ConcurrentHashMap<>();
+        private final MatThroughputEstimator throughput = new MatThroughputEstimator(defaultMatchSeconds, alpha);
+
+        private TournamentBoard(Long tournamentId, List<MatchDTO> matches) {
+            this.tournamentId = tournamentId;
+            // Replay finished matches in completion order so the estimates survive a restart
+            matches.stream()
+                .filter(match -> match.getCompletedAt() != null && match.getMatNumber() != null)
+                .sorted(Comparator.comparing(MatchDTO::getCompletedAt))
+                .forEach(match -> complete(queue(match.getMatNumber()), match));
+            matches.forEach(this::add);
+            mats.keySet().forEach(this::refresh);
+        }
+
+        /** Returns the mats whose board changed. */
+        private synchronized Set<Integer> apply(MatchDTO match, boolean deleted) {
+            Set<Integer> touched = new LinkedHashSet<>();
+            MatchDTO previous = pendingById.remove(match.getId());
+            if (previous != null) {
+                mats.get(previous.getMatNumber()).pending.remove(previous);
+                predictedStarts.remove(previous.getId());
+                touched.add(previous.getMatNumber());
+                if (!deleted && match.getWinnerId() != null && match.getCompletedAt() != null
+                        && match.getMatNumber() != null) {
+                    complete(queue(match.getMatNumber()), match);
+                    touched.add(match.getMatNumber());
+                }
+            }
+            if (!deleted && add(match)) {
+                touched.add(match.getMatNumber());
+            }
+            touched.removeIf(matNumber -> !refresh(matNumber));
+            return touched;
+        }
+
+        private boolean add(MatchDTO match) {
+            if (match.getWinnerId() != null || match.getMatNumber() == null) {
+                return false;
+            }
+            pendingById.put(match.getId(), match);
+            queue(match.getMatNumber()).pending.add(match);
+            return true;
+        }
+
+        private MatQueue queue(Integer matNumber) {
+            return mats.computeIfAbsent(matNumber, number -> new MatQueue());
+        }
+
+        /**
+         * A match runs from the previous change-over on its mat, or from its scheduled time when
+         * it is the first on the mat, until its result is recorded.
+         */
+        private void complete(MatQueue queue, MatchDTO match) {
+            LocalDateTime started = queue.lastCompletedAt != null ? queue.lastCompletedAt : match.getScheduledTime();
+            if (started != null && match.getCompletedAt().isAfter(started)) {
+                throughput.record(match.getMatNumber(), match.getRound(),
+                    Duration.between(started, match.getCompletedAt()).getSeconds());
+            }
+            if (queue.lastCompletedAt == null || match.getCompletedAt().isAfter(queue.lastCompletedAt)) {
+                queue.lastCompletedAt = match.getCompletedAt();
+            }
+        }
+
+        private boolean refresh(Integer matNumber) {
+            MatQueue queue = mats.get(matNumber);
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<MatchDTO> top = new ArrayList<>(Math.min(depth, queue.pending.size()));
+            LocalDateTime cursor = null;
+            for (MatchDTO match : queue.pending) {
+                long seconds = throughput.estimateSeconds(matNumber, match.getRound());
+                LocalDateTime start;
+                if (cursor == null) {
+                    // The first match started at the last change-over, unless it would be over by now
+                    LocalDateTime base = queue.lastCompletedAt != null ? queue.lastCompletedAt
+                        : match.getScheduledTime() != null ? match.getScheduledTime() : now;
+                    start = base.plusSeconds(seconds).isAfter(now) ? base : now;
+                } else {
+                    start = cursor;
+                }
+                cursor = start.plusSeconds(seconds);
+                predictedStarts.put(match.getId(), start);
+                if (top.size() < depth) {
+                    top.add(match.withPredictedStartTime(start));
+                }
+            }
+            CallBoardDTO board = CallBoardDTO.of(tournamentId, matNumber, List.copyOf(top), queue.pending.size());
+            if (board.equals(queue.board)) {
+                return false;
+            }
+            queue.board = board;
+            return true;
+        }
+
+        private CallBoardDTO board(Integer matNumber) {
+            MatQueue queue = mats.get(matNumber);
+            return queue != null ? queue.board : CallBoardDTO.of(tournamentId, matNumber, List.of(), 0);
+        }
+
+        private synchronized PredictedStartsDTO predictions(Integer matNumber) {
+            Map<Long, LocalDateTime> starts = new LinkedHashMap<>();
+            MatQueue queue = mats.get(matNumber);
+            if (queue != null) {
+                queue.pending.forEach(match -> starts.put(match.getId(), predictedStarts.get(match.getId())));
+            }
+            return PredictedStartsDTO.of(tournamentId, matNumber, starts);
+        }
+    }
+
+    private final MatchRepository matchRepository;
+    private final LiveFeedService liveFeedService;
+    private final int depth;
+    private final long defaultMatchSeconds;
+    private final double alpha;
+    private final Clock clock;
+    private final TournamentModels<TournamentBoard> boards = new TournamentModels<>();
+
+    public CallBoardService(MatchRepository matchRepository, LiveFeedService liveFeedService, int depth,
+                            long defaultMatchSeconds, double alpha, Clock clock) {
+        this.matchRepository = matchRepository;
+        this.liveFeedService = liveFeedService;
+        this.depth = depth;
+        this.defaultMatchSeconds = defaultMatchSeconds;
+        this.alpha = alpha;
+        this.clock = clock;
+    }
+
+    @Autowired
+    public CallBoardService(MatchRepository matchRepository,
+                            LiveFeedService liveFeedService,
+                            @Value("${app.callboard.depth:10}") int depth,
+                            @Value("${app.schedule.match-duration-minutes:6}") long matchDurationMinutes,
+                            @Value("${app.schedule.throughput-alpha:0.3}") double alpha) {
+        this(matchRepository, liveFeedService, depth, matchDurationMinutes * 60, alpha, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns the mat's next {@code count} matches, capped at the configured board depth.
+     */
+    public CallBoardDTO getBoard(Long tournamentId, Integer matNumber, int count) {
+        CallBoardDTO board = board(tournamentId).board(matNumber);
+        if (count >= board.getQueue().size()) {
+            return board;
+        }
+        return CallBoardDTO.of(tournamentId, matNumber, board.getQueue().subList(0, Math.max(count, 0)),
+            board.getPendingCount());
+    }
+
+    public List<CallBoardDTO> getBoards(Long tournamentId) {
+        TournamentBoard board = board(tournamentId);
+        return board.mats.keySet().stream()
+            .sorted()
+            .map(board::board)
+            .toList();
+    }
+
+    /**
+     * Copies of the given matches with their predicted start times. Tournaments whose queues are
+     * not loaded yet are returned as they are; a recorded result or a board view loads them.
+     */
+    public List<MatchDTO> withPredictedStarts(Long tournamentId, List<MatchDTO> matches) {
+        TournamentBoard board = boards.get(tournamentId);
+        if (board == null || board.predictedStarts.isEmpty()) {
+            return matches;
+        }
+        return matches.stream()
+            .map(match -> {
+                LocalDateTime predicted = board.predictedStarts.get(match.getId());
+                return predicted != null ? match.withPredictedStartTime(predicted) : match;
+            })
+            .toList();
+    }
+
+    // Runs before the schedule cache drops its entries, so reloaded schedules see the new predictions
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        MatchDTO match = event.getMatch();
+        TournamentBoard loaded = boards.changed(match.getTournamentId());
+        // A result means the tournament is running, so its queues are worth loading for predictions
+        TournamentBoard board = loaded == null && match.getTournamentId() != null
+            && event.getType() == MatchChangedEvent.Type.RESULT_RECORDED ? board(match.getTournamentId()) : loaded;
+        if (board == null) {
+            return;
+        }
+        Set<Integer> touched = board.apply(match, event.getType() == MatchChangedEvent.Type.DELETED);
+        touched.forEach(matNumber -> publish(board, matNumber));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        if (event.getType() == TournamentChangedEvent.Type.CREATED
+                || event.getType() == TournamentChangedEvent.Type.UPDATED) {
+            return;
+        }
+        TournamentBoard removed = boards.invalidate(event.getTournamentId());
+        if (removed != null && event.getType() != TournamentChangedEvent.Type.DELETED) {
+            // Screens are watching this tournament; reload now and push every mat's new board
+            TournamentBoard reloaded = board(event.getTournamentId());
+            reloaded.mats.keySet().forEach(matNumber -> publish(reloaded, matNumber));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        // Boards show participant names; renames are rare, so reload lazily
+        if (event.getType() != ParticipantChangedEvent.Type.CREATED) {
+            boards.invalidateAll();
+        }
+    }
+
+    private TournamentBoard board(Long tournamentId) {
+        return boards.getOrLoad(tournamentId, id -> {
+            TournamentBoard loaded = new TournamentBoard(id,
+                matchRepository.findByTournamentId(id).stream().map(MatchDTO::from).toList());
+            logger.debug("Loaded call boards for tournament {} ({} pending matches)", id, loaded.pendingById.size());
+            return loaded;
+        });
+    }
+
+    private void publish(TournamentBoard board, Integer matNumber) {
+        List<String> topics = List.of(Topics.mat(board.tournamentId, matNumber));
+        liveFeedService.publish(topics, "callboard", board.board(matNumber));
+        liveFeedService.publish(List.of(Topics.tournament(board.tournamentId), topics.get(0)),
+            "predictions", board.predictions(matNumber));
+    }
+}
@@ -0,0 +1,248 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.ChangeDTO;
+import com.taekwondo.tournament.dto.ChangeDTO.EntityType;
+import com.taekwondo.tournament.dto.ChangeFeedDTO;
+import com.taekwondo.tournament.dto.ClubDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.dto.TournamentDTO;
+import com.taekwondo.tournament.event.ClubChangedEvent;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.ParticipantsImportedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.ClubRepository;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Journal of committed changes behind the delta sync endpoint. Each change gets the next version
+ * and is kept in a fixed-size ring, so a client holding a recent cursor receives only the rows
+ * changed since, each once in its latest state. A cursor older than the ring, or from before a
+ * restart, gets a full snapshot instead.
+ * <p>
+ * Versions start from the boot time in microseconds, so cursors from an earlier run are always
+ * below the retained range.
+ */
+@Service
+public class ChangeJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeJournal.class);
+
+    // Tournament entries carry no row; it is read when the changes are served. An import batch is one
+    // entry without an id whose data lists the created participants.
+    private record Entry(long version, EntityType entityType, Long id, Long tournamentId, boolean deleted,
+                         boolean matchesReplaced, Object data) {
+    }
+
+    private record Key(EntityType entityType, Long id) {
+    }
+
+    private final MatchRepository matchRepository;
+    private final ParticipantRepository participantRepository;
+    private final ClubRepository clubRepository;
+    private final TournamentRepository tournamentRepository;
+    private final Entry[] ring;
+    private final long baseVersion;
+    // Last version handed out; guarded by the ring
+    private long version;
+
+    @Autowired
+    public ChangeJournal(MatchRepository matchRepository, ParticipantRepository participantRepository,
+                         ClubRepository clubRepository, TournamentRepository tournamentRepository,
+                         @Value("${app.changes.retention:10000}") int retention) {
+        this.matchRepository = matchRepository;
+        this.participantRepository = participantRepository;
+        this.clubRepository = clubRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.ring = new Entry[retention];
+        this.baseVersion = System.currentTimeMillis() * 1000;
+        this.version = baseVersion;
+    }
+
+    public long currentVersion() {
+        synchronized (ring) {
+            return version;
+        }
+    }
+
+    /**
+     * Rows changed after {@code since}, optionally limited to one tournament's matches; participants
+     * and clubs are always included.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDTO changesSince(long since, Long tournamentId) {
+        List<Entry> entries = new ArrayList<>();
+        long upTo;
+        boolean retained;
+        synchronized (ring) {
+            upTo = version;
+            long oldest = Math.max(baseVersion + 1, version - ring.length + 1);
+            retained = since >= oldest - 1 && since <= version;
+            for (long v = since + 1; retained && v <= upTo; v++) {
+                entries.add(ring[slot(v)]);
+            }
+        }
+        if (!retained) {
+            // Rows committed while the snapshot loads are sent again after it; applying them twice is harmless
+            return snapshot(since, upTo, tournamentId);
+        }
+        List<ChangeDTO> changes = resolve(compact(entries, tournamentId));
+        logger.debug("Served {} changes from {} journal entries since {}", changes.size(), entries.size(), since);
+        return ChangeFeedDTO.of(since, upTo, false, changes);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        MatchDTO match = event.getMatch();
+        boolean deleted = event.getType() == MatchChangedEvent.Type.DELETED;
+        append(EntityType.MATCH, match.getId(), match.getTournamentId(), deleted, false, deleted ? null : match);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        ParticipantDTO participant = event.getParticipant();
+        boolean deleted = event.getType() == ParticipantChangedEvent.Type.DELETED;
+        append(EntityType.PARTICIPANT, participant.getId(), null, deleted, false, deleted ? null : participant);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantsImported(ParticipantsImportedEvent event) {
+        // One slot per batch, so a large import does not push everything else out of the ring
+        append(EntityType.PARTICIPANT, null, null, false, false, event.getParticipants());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClubChanged(ClubChangedEvent event) {
+        ClubDTO club = event.getClub();
+        boolean deleted = event.getType() == ClubChangedEvent.Type.DELETED;
+        append(EntityType.CLUB, club.getId(), null, deleted, false, deleted ? null : club);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        // Bracket generation and scheduling rewrite matches in bulk without a change per match
+        boolean matchesReplaced = event.getType() == TournamentChangedEvent.Type.BRACKETS_GENERATED
+            || event.getType() == TournamentChangedEvent.Type.SCHEDULED;
+        append(EntityType.TOURNAMENT, event.getTournamentId(), event.getTournamentId(),
+            event.getType() == TournamentChangedEvent.Type.DELETED, matchesReplaced, null);
+    }
+
+    private void append(EntityType entityType, Long id, Long tournamentId, boolean deleted,
+                        boolean matchesReplaced, Object data) {
+        synchronized (ring) {
+            version++;
+            ring[slot(version)] = new Entry(version, entityType, id, tournamentId, deleted, matchesReplaced, data);
+        }
+    }
+
+    private int slot(long v) {
+        return (int) Math.floorMod(v, (long) ring.length);
+    }
+
+    /**
+     * Latest entry per row, ordered by the version of that entry.
+     */
+    private List<Entry> compact(List<Entry> entries, Long tournamentId) {
+        Map<Key, Entry> latest = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            if (tournamentId != null && entry.tournamentId() != null && !entry.tournamentId().equals(tournamentId)) {
+                continue;
+            }
+            // Import batches are kept as they are; a later change to one of their rows follows them
+            Key key = entry.id() != null ? new Key(entry.entityType(), entry.id()) : new Key(null, entry.version());
+            Entry previous = latest.remove(key);
+            if (previous != null && previous.matchesReplaced() && !entry.deleted() && !entry.matchesReplaced()) {
+                entry = new Entry(entry.version(), entry.entityType(), entry.id(), entry.tournamentId(),
+                    false, true, entry.data());
+            }
+            latest.put(key, entry);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private List<ChangeDTO> resolve(List<Entry> entries) {
+        List<Long> tournamentIds = entries.stream()
+            .filter(entry -> entry.entityType() == EntityType.TOURNAMENT && !entry.deleted())
+            .map(Entry::id)
+            .toList();
+        Map<Long, Tournament> tournaments = tournamentIds.isEmpty() ? Map.of()
+            : tournamentRepository.findAllById(tournamentIds).stream()
+                .collect(Collectors.toMap(Tournament::getId, Function.identity()));
+        // Matches of a tournament whose matches were replaced are served from the database below
+        Set<Long> replaced = entries.stream()
+            .filter(entry -> entry.matchesReplaced() && tournaments.containsKey(entry.id()))
+            .map(Entry::id)
+            .collect(Collectors.toSet());
+
+        List<ChangeDTO> changes = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            if (entry.entityType() == EntityType.MATCH && replaced.contains(entry.tournamentId())) {
+                continue;
+            }
+            if (entry.entityType() == EntityType.PARTICIPANT && entry.id() == null) {
+                for (Object row : (List<?>) entry.data()) {
+                    ParticipantDTO participant = (ParticipantDTO) row;
+                    changes.add(ChangeDTO.of(entry.version(), EntityType.PARTICIPANT, participant.getId(), false,
+                        false, participant));
+                }
+                continue;
+            }
+            if (entry.entityType() != EntityType.TOURNAMENT || entry.deleted()) {
+                changes.add(ChangeDTO.of(entry.version(), entry.entityType(), entry.id(), entry.deleted(),
+                    false, entry.data()));
+                continue;
+            }
+            Tournament tournament = tournaments.get(entry.id());
+            if (tournament == null) {
+                // Deleted after the cursor was taken; the deletion comes with the next request
+                continue;
+            }
+            boolean matchesReplaced = replaced.contains(entry.id());
+            changes.add(ChangeDTO.of(entry.version(), EntityType.TOURNAMENT, entry.id(), false, matchesReplaced,
+                TournamentDTO.from(tournament)));
+            if (matchesReplaced) {
+                matchRepository.findByTournamentId(entry.id()).forEach(match -> changes.add(
+                    ChangeDTO.of(entry.version(), EntityType.MATCH, match.getId(), false, false, MatchDTO.from(match))));
+            }
+        }
+        return changes;
+    }
+
+    private ChangeFeedDTO snapshot(long since, long upTo, Long tournamentId) {
+        List<ChangeDTO> changes = new ArrayList<>();
+        List<Tournament> tournaments = tournamentId != null
+            ? tournamentRepository.findById(tournamentId).map(List::of).orElse(List.of())
+            : tournamentRepository.findAll();
+        tournaments.forEach(tournament -> changes.add(ChangeDTO.of(upTo, EntityType.TOURNAMENT, tournament.getId(),
+            false, false, TournamentDTO.from(tournament))));
+        (tournamentId != null ? matchRepository.findByTournamentId(tournamentId) : matchRepository.findAll())
+            .forEach(match -> changes.add(ChangeDTO.of(upTo, EntityType.MATCH, match.getId(), false, false,
+                MatchDTO.from(match))));
+        participantRepository.findAll().forEach(participant -> changes.add(ChangeDTO.of(upTo,
+            EntityType.PARTICIPANT, participant.getId(), false, false, ParticipantDTO.from(participant))));
+        clubRepository.findAll().forEach(club -> changes.add(ChangeDTO.of(upTo, EntityType.CLUB, club.getId(),
+            false, false, ClubDTO.from(club))));
+        logger.info("Cursor {} is outside the journal, served a snapshot of {} rows", since, changes.size());
+        return ChangeFeedDTO.of(since, upTo, true, changes);
+    }
+}
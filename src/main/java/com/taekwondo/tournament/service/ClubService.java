@@ -1,8 +1,14 @@
 package com.taekwondo.tournament.service;
 
+import com.taekwondo.tournament.dto.ClubDTO;
+import com.taekwondo.tournament.dto.CursorPageDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.ClubChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
 import com.taekwondo.tournament.model.Club;
 import com.taekwondo.tournament.repository.ClubRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,10 +19,12 @@ import java.util.Optional;
 public class ClubService {
     
     private final ClubRepository clubRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public ClubService(ClubRepository clubRepository) {
+    public ClubService(ClubRepository clubRepository, ApplicationEventPublisher eventPublisher) {
         this.clubRepository = clubRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -29,9 +37,18 @@ public class ClubService {
         return clubRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<Club> getClubsPage(Long after, int size) {
+        return CursorPageDTO.of(
+            clubRepository.findByIdGreaterThan(after != null ? after : 0L, CursorPageDTO.pageRequest(size)),
+            Club::getId);
+    }
+
     @Transactional
     public Club createClub(Club club) {
-        return clubRepository.save(club);
+        Club saved = clubRepository.save(club);
+        eventPublisher.publishEvent(new ClubChangedEvent(ClubChangedEvent.Type.CREATED, ClubDTO.from(saved)));
+        return saved;
     }
 
     @Transactional
@@ -42,13 +59,21 @@ public class ClubService {
         club.setName(clubDetails.getName());
         club.setLocation(clubDetails.getLocation());
         
-        return clubRepository.save(club);
+        Club saved = clubRepository.save(club);
+        eventPublisher.publishEvent(new ClubChangedEvent(ClubChangedEvent.Type.UPDATED, ClubDTO.from(saved)));
+        return saved;
     }
 
     @Transactional
     public void deleteClub(Long id) {
         Club club = clubRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Club not found with id: " + id));
+        ClubDTO snapshot = ClubDTO.from(club);
+        // Members are removed with the club, so listeners hear about them as well
+        List<ParticipantDTO> members = club.getParticipants().stream().map(ParticipantDTO::from).toList();
         clubRepository.delete(club);
+        members.forEach(member -> eventPublisher.publishEvent(
+            new ParticipantChangedEvent(ParticipantChangedEvent.Type.DELETED, member)));
+        eventPublisher.publishEvent(new ClubChangedEvent(ClubChangedEvent.Type.DELETED, snapshot));
     }
 } 
\ No newline at end of file
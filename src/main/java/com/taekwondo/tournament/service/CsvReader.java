@@ -0,0 +1,116 @@
+package com.taekwondo.tournament.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader that pulls one record at a time, so large uploads are never held in memory.
+ * Supports quoted fields with embedded separators, quotes and line breaks; blank lines are skipped.
+ */
+class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private final char separator;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private boolean firstRead = true;
+
+    CsvReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /** Returns the next record, or null at end of input. */
+    List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean sawAnything = false;
+        int c;
+        while ((c = read()) != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+                sawAnything = true;
+            } else if (ch == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+                sawAnything = true;
+            } else if (ch == '\n' || ch == '\r') {
+                if (ch == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (sawAnything || field.length() > 0) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+            } else {
+                field.append(ch);
+                sawAnything = true;
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("CSV input ends inside a quoted field");
+        }
+        if (sawAnything || field.length() > 0) {
+            fields.add(field.toString());
+            return fields;
+        }
+        return null;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        do {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0) {
+                limit = 0;
+                position = 0;
+                return false;
+            }
+            limit = read;
+            position = 0;
+            if (firstRead) {
+                firstRead = false;
+                // Spreadsheet exports often start with a byte order mark
+                if (buffer[0] == '\uFEFF') {
+                    position = 1;
+                }
+            }
+        } while (position == limit);
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,80 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.event.FollowChangedEvent;
+import com.taekwondo.tournament.repository.FollowRepository;
+import com.taekwondo.tournament.repository.FollowRepository.SubscriptionRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index from topic to the users following it, so a match change finds its audience with
+ * one lookup per topic. Loaded from the database on first use and then kept current from
+ * committed follow changes.
+ */
+@Service
+public class FollowRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowRegistry.class);
+
+    private final FollowRepository followRepository;
+    private final Map<String, Set<Long>> subscribers = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @Autowired
+    public FollowRegistry(FollowRepository followRepository) {
+        this.followRepository = followRepository;
+    }
+
+    /**
+     * The users following the topic; a live view that must not be modified.
+     */
+    public Set<Long> subscribers(String topic) {
+        ensureLoaded();
+        return subscribers.getOrDefault(topic, Set.of());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFollowChanged(FollowChangedEvent event) {
+        synchronized (this) {
+            // Until the first load, the database already holds everything committed
+            if (!loaded) {
+                return;
+            }
+            if (event.getType() == FollowChangedEvent.Type.FOLLOWED) {
+                add(event.getTopic(), event.getUserId());
+            } else {
+                subscribers.computeIfPresent(event.getTopic(), (topic, users) -> {
+                    users.remove(event.getUserId());
+                    return users.isEmpty() ? null : users;
+                });
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                List<SubscriptionRow> rows = followRepository.findAllSubscriptions();
+                rows.forEach(row -> add(row.getTopic(), row.getUserId()));
+                loaded = true;
+                logger.info("Indexed {} follows over {} topics", rows.size(), subscribers.size());
+            }
+        }
+    }
+
+    private void add(String topic, Long userId) {
+        subscribers.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(userId);
+    }
+}
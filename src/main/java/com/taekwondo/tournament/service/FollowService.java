@@ -0,0 +1,126 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.FollowDTO;
+import com.taekwondo.tournament.dto.FollowRequestDTO;
+import com.taekwondo.tournament.event.FollowChangedEvent;
+import com.taekwondo.tournament.event.Topics;
+import com.taekwondo.tournament.model.Follow;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.model.User;
+import com.taekwondo.tournament.repository.ClubRepository;
+import com.taekwondo.tournament.repository.FollowRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import com.taekwondo.tournament.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class FollowService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowService.class);
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final ParticipantRepository participantRepository;
+    private final ClubRepository clubRepository;
+    private final TournamentRepository tournamentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public FollowService(FollowRepository followRepository, UserRepository userRepository,
+                         ParticipantRepository participantRepository, ClubRepository clubRepository,
+                         TournamentRepository tournamentRepository, ApplicationEventPublisher eventPublisher) {
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.participantRepository = participantRepository;
+        this.clubRepository = clubRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public List<FollowDTO> getFollows(String username) {
+        return followRepository.findByUserIdOrderByCreatedAtAsc(findUser(username).getId()).stream()
+            .map(FollowDTO::from)
+            .toList();
+    }
+
+    /**
+     * Follows the target; following it again returns the existing follow.
+     */
+    @Transactional
+    public FollowDTO follow(String username, FollowRequestDTO request) {
+        User user = findUser(username);
+        String topic = topicOf(request);
+        return followRepository.findByUserIdAndTopic(user.getId(), topic)
+            .map(FollowDTO::from)
+            .orElseGet(() -> {
+                Follow follow = new Follow();
+                follow.setUserId(user.getId());
+                follow.setTargetType(request.getTargetType());
+                follow.setTopic(topic);
+                follow.setCreatedAt(Instant.now());
+                Follow saved = followRepository.save(follow);
+                logger.info("User {} now follows {}", user.getId(), topic);
+                eventPublisher.publishEvent(new FollowChangedEvent(FollowChangedEvent.Type.FOLLOWED,
+                    user.getId(), topic));
+                return FollowDTO.from(saved);
+            });
+    }
+
+    @Transactional
+    public void unfollow(String username, Long followId) {
+        User user = findUser(username);
+        Follow follow = followRepository.findById(followId)
+            .filter(existing -> existing.getUserId().equals(user.getId()))
+            .orElseThrow(() -> new RuntimeException("Follow not found with id: " + followId));
+        followRepository.delete(follow);
+        logger.info("User {} no longer follows {}", user.getId(), follow.getTopic());
+        eventPublisher.publishEvent(new FollowChangedEvent(FollowChangedEvent.Type.UNFOLLOWED,
+            user.getId(), follow.getTopic()));
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
+    }
+
+    private String topicOf(FollowRequestDTO request) {
+        if (request.getTargetType() == null || request.getTargetId() == null) {
+            throw new IllegalArgumentException("Target type and id are required");
+        }
+        Long targetId = request.getTargetId();
+        return switch (request.getTargetType()) {
+            case PARTICIPANT -> {
+                if (!participantRepository.existsById(targetId)) {
+                    throw new RuntimeException("Participant not found with id: " + targetId);
+                }
+                yield Topics.participant(targetId);
+            }
+            case CLUB -> {
+                if (!clubRepository.existsById(targetId)) {
+                    throw new RuntimeException("Club not found with id: " + targetId);
+                }
+                yield Topics.club(targetId);
+            }
+            case MAT -> {
+                Tournament tournament = tournamentRepository.findById(targetId)
+                    .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + targetId));
+                Integer matNumber = request.getMatNumber();
+                int mats = tournament.getNumberOfMats() != null ? tournament.getNumberOfMats() : 1;
+                if (matNumber == null || matNumber < 1 || matNumber > mats) {
+                    throw new IllegalArgumentException("Mat number must be between 1 and " + mats);
+                }
+                yield Topics.mat(targetId, matNumber);
+            }
+        };
+    }
+}
@@ -0,0 +1,236 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the responses of writes sent with an {@code Idempotency-Key} header, so a client
+ * retrying after a dropped connection gets the original response instead of running the write
+ * again. Keys are scoped to the user and the endpoint, and remember a hash of the request body:
+ * reusing a key with a different body is answered with 422 Unprocessable Entity.
+ * <p>
+ * Keys are spread over independently locked stripes, each an insertion-ordered map; with a single
+ * time to live, the oldest entry of a stripe is always the first to expire, so eviction only
+ * looks at the head. Only successful responses are kept: a failed write may be retried.
+ */
+@Service
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+    public static final String HEADER = "Idempotency-Key";
+    static final int STRIPES = 64;
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final class Entry {
+        private final long expiresAt;
+        // Both null while the first request is still running
+        private ResponseEntity<?> response;
+        private String bodyHash;
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Stripe {
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    }
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final long ttlMillis;
+    private final int maxEntriesPerStripe;
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyStore(Duration ttl, int maxEntries, Clock clock, ObjectMapper objectMapper) {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / STRIPES);
+        this.clock = clock;
+        this.objectMapper = objectMapper;
+    }
+
+    @Autowired
+    public IdempotencyStore(@Value("${app.idempotency.ttl-minutes:60}") long ttlMinutes,
+                            @Value("${app.idempotency.max-entries:100000}") int maxEntries,
+                            ObjectMapper objectMapper) {
+        this(Duration.ofMinutes(ttlMinutes), maxEntries, Clock.systemUTC(), objectMapper);
+    }
+
+    /**
+     * Runs the write once per key. A repeated key with the same body gets the stored response, one
+     * with a different body gets 422, and a key whose first request is still running gets 409
+     * Conflict. Without a key the write simply runs.
+     * <p>
+     * {@code body} is whatever identifies the request besides the endpoint: the request body, or the
+     * query parameters of a write without one. It is hashed before the write runs.
+     */
+    public <T> ResponseEntity<T> execute(String key, String endpoint, Object body, Supplier<ResponseEntity<T>> write) {
+        if (key == null || key.isBlank()) {
+            return write.get();
+        }
+        String bodyHash = hash(body);
+        return execute(key, endpoint, () -> bodyHash, write);
+    }
+
+    /**
+     * Like {@link #execute(String, String, Object, Supplier)} for a streamed body: it is hashed while
+     * the write reads it, and a repeated request's body is read only to compare its hash.
+     */
+    public <T> ResponseEntity<T> executeStreaming(String key, String endpoint, InputStream body,
+                                                  Function<InputStream, ResponseEntity<T>> write) {
+        if (key == null || key.isBlank()) {
+            return write.apply(body);
+        }
+        DigestInputStream digesting = new DigestInputStream(body, sha256());
+        return execute(key, endpoint, () -> finishHash(digesting), () -> write.apply(digesting));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> execute(String key, String endpoint, Supplier<String> bodyHash,
+                                          Supplier<ResponseEntity<T>> write) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        String scopedKey = currentUser() + " " + endpoint + " " + key;
+        Stripe stripe = stripes[stripe(scopedKey)];
+        long now = clock.millis();
+        Entry entry = null;
+        ResponseEntity<?> stored = null;
+        String storedHash = null;
+        synchronized (stripe) {
+            evict(stripe, now);
+            Entry existing = stripe.entries.get(scopedKey);
+            if (existing != null) {
+                if (existing.response == null) {
+                    logger.debug("Request with key {} for {} is still in progress", key, endpoint);
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build();
+                }
+                stored = existing.response;
+                storedHash = existing.bodyHash;
+            } else {
+                entry = new Entry(now + ttlMillis);
+                stripe.entries.put(scopedKey, entry);
+            }
+        }
+        if (stored != null) {
+            // Hashing a streamed body reads it, so it is done outside the stripe's lock
+            if (!storedHash.equals(bodyHash.get())) {
+                logger.debug("Key {} on {} was reused with a different body", key, endpoint);
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+            }
+            logger.debug("Replaying stored response for key {} on {}", key, endpoint);
+            return (ResponseEntity<T>) stored;
+        }
+
+        ResponseEntity<T> response = null;
+        String hash = null;
+        try {
+            response = write.get();
+            if (response.getStatusCode().is2xxSuccessful()) {
+                hash = bodyHash.get();
+            }
+            return response;
+        } finally {
+            synchronized (stripe) {
+                if (hash != null) {
+                    entry.bodyHash = hash;
+                    entry.response = response;
+                } else if (stripe.entries.get(scopedKey) == entry) {
+                    stripe.entries.remove(scopedKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keys currently remembered; expired keys are evicted on the way.
+     */
+    public int size() {
+        long now = clock.millis();
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                evict(stripe, now);
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    // Callers hold the stripe's monitor
+    private void evict(Stripe stripe, long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = stripe.entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry oldest = iterator.next().getValue();
+            if (oldest.expiresAt > now && stripe.entries.size() < maxEntriesPerStripe) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private String hash(Object body) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                sha256().digest(objectMapper.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request body cannot be hashed: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    // The write may stop reading early, so the rest of the body is read before the hash is taken
+    private static String finishHash(DigestInputStream body) {
+        try {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(body.getMessageDigest().digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static int stripe(String scopedKey) {
+        int hash = scopedKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "";
+    }
+}
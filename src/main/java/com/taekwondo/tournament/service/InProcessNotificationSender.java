@@ -0,0 +1,44 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.NotificationDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Keeps delivered batches in memory instead of sending them anywhere, for local runs and tests.
+ * Replace this bean with a provider-backed {@link NotificationSender} to deliver for real.
+ */
+@Service
+public class InProcessNotificationSender implements NotificationSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(InProcessNotificationSender.class);
+    static final int MAX_BATCHES = 1000;
+
+    private final ConcurrentLinkedDeque<List<NotificationDTO>> batches = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public void send(List<NotificationDTO> notifications) {
+        logger.debug("Delivering {} notifications", notifications.size());
+        batches.addLast(List.copyOf(notifications));
+        while (batches.size() > MAX_BATCHES) {
+            batches.pollFirst();
+        }
+    }
+
+    /**
+     * The batches delivered since the last call, oldest first.
+     */
+    public List<List<NotificationDTO>> drain() {
+        List<List<NotificationDTO>> drained = new ArrayList<>();
+        List<NotificationDTO> batch;
+        while ((batch = batches.pollFirst()) != null) {
+            drained.add(batch);
+        }
+        return drained;
+    }
+}
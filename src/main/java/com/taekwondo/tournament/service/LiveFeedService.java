@@ -0,0 +1,250 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.Topics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent event fan-out. Every subscription has its own bounded queue, drained by a shared pool of
+ * sender threads one subscription at a time, so a client stalled on a bad connection only holds up itself.
+ * A client that falls a full queue behind is disconnected and reconnects to catch up.
+ * A subscription listens on one topic and may narrow it with filter topics that an event must also carry.
+ */
+@Service
+public class LiveFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveFeedService.class);
+    private final Map<String, Set<Subscription>> subscribersByTopic = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final int queueCapacity;
+    private final ExecutorService senders;
+
+    public LiveFeedService(ObjectMapper objectMapper, long emitterTimeoutMillis) {
+        this(objectMapper, emitterTimeoutMillis, 256, 2);
+    }
+
+    @Autowired
+    public LiveFeedService(ObjectMapper objectMapper,
+                           @Value("${app.live.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                           @Value("${app.live.subscriber-queue-size:256}") int queueCapacity,
+                           @Value("${app.live.sender-threads:8}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-feed-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Subscribes to the events matching every given parameter, e.g. a club's matches in one tournament.
+     */
+    public SseEmitter subscribe(Long tournamentId, Integer matNumber, Long clubId, Long participantId) {
+        return subscribe(tournamentId, matNumber, clubId, participantId, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    SseEmitter subscribe(Long tournamentId, Integer matNumber, Long clubId, Long participantId, SseEmitter emitter) {
+        // Most specific first: the first topic is subscribed to, the others filter its events
+        List<String> topics = new ArrayList<>();
+        if (participantId != null) {
+            topics.add(Topics.participant(participantId));
+        }
+        if (clubId != null) {
+            topics.add(Topics.club(clubId));
+        }
+        if (matNumber != null) {
+            if (tournamentId == null) {
+                throw new IllegalArgumentException("A mat subscription requires a tournamentId");
+            }
+            topics.add(Topics.mat(tournamentId, matNumber));
+        } else if (tournamentId != null) {
+            topics.add(Topics.tournament(tournamentId));
+        }
+        if (topics.isEmpty()) {
+            throw new IllegalArgumentException("At least one of tournamentId, clubId or participantId is required");
+        }
+        return subscribe(List.of(topics.get(0)), Set.copyOf(topics.subList(1, topics.size())), emitter);
+    }
+
+    /**
+     * Subscribes to the events of any of the topics.
+     */
+    public SseEmitter subscribe(Collection<String> topics) {
+        return subscribe(topics, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    SseEmitter subscribe(Collection<String> topics, SseEmitter emitter) {
+        return subscribe(topics, Set.of(), emitter);
+    }
+
+    private SseEmitter subscribe(Collection<String> topics, Set<String> filters, SseEmitter emitter) {
+        Subscription subscription = new Subscription(emitter, Set.copyOf(topics), filters);
+        for (String topic : subscription.topics) {
+            subscribersByTopic.compute(topic, (key, subscribers) -> {
+                Set<Subscription> result = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                result.add(subscription);
+                return result;
+            });
+        }
+        subscription.emitter.onCompletion(subscription::unsubscribe);
+        subscription.emitter.onTimeout(subscription::unsubscribe);
+        subscription.emitter.onError(error -> subscription.unsubscribe());
+        logger.debug("New live feed subscription for topics {} filtered by {}", subscription.topics, filters);
+        return subscription.emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        publish(Topics.forMatch(event.getMatch(), event.getPreviousMatNumber()), "match", event);
+    }
+
+    public void publish(Collection<String> topics, String eventName, Object payload) {
+        // Only the subscribers of the touched topics are visited; a subscriber on several of them is sent once
+        Set<Subscription> targets = new HashSet<>();
+        for (String topic : topics) {
+            Set<Subscription> subscribers = subscribersByTopic.get(topic);
+            if (subscribers != null) {
+                subscribers.stream()
+                    .filter(subscription -> topics.containsAll(subscription.filters))
+                    .forEach(targets::add);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize live feed event {}", eventName, e);
+            return;
+        }
+        PendingEvent event = new PendingEvent(eventName, data);
+        for (Subscription subscription : targets) {
+            subscription.offer(event);
+        }
+    }
+
+    public int getSubscriberCount(String topic) {
+        Set<Subscription> subscribers = subscribersByTopic.get(topic);
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        List<Subscription> open = new ArrayList<>();
+        subscribersByTopic.values().forEach(open::addAll);
+        open.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    private record PendingEvent(String name, String data) {
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final Set<String> topics;
+        private final Set<String> filters;
+        private final BlockingQueue<PendingEvent> pending = new ArrayBlockingQueue<>(queueCapacity);
+        // Set while a sender drains this subscription, so its events go out one at a time and in order
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(SseEmitter emitter, Set<String> topics, Set<String> filters) {
+            this.emitter = emitter;
+            this.topics = topics;
+            this.filters = filters;
+        }
+
+        private void offer(PendingEvent event) {
+            if (closed) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                logger.debug("Dropping live feed subscription for topics {}: {} events behind", topics, queueCapacity);
+                closed = true;
+                unsubscribe();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        // The emitter is only ever completed here: completing it from another thread would wait on a stalled send
+        private void drain() {
+            try {
+                PendingEvent event;
+                while (!closed && (event = pending.poll()) != null) {
+                    send(event);
+                }
+                if (closed) {
+                    pending.clear();
+                    emitter.complete();
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !pending.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(PendingEvent event) {
+            try {
+                emitter.send(SseEmitter.event().name(event.name()).data(event.data(), MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Dropping live feed subscription for topics {}: {}", topics, e.getMessage());
+                closed = true;
+                unsubscribe();
+            }
+        }
+
+        private void unsubscribe() {
+            for (String topic : topics) {
+                subscribersByTopic.computeIfPresent(topic, (key, subscribers) -> {
+                    subscribers.remove(this);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.taekwondo.tournament.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * List scheduler that places matches on mats to keep the overall finishing time low.
+ * Matches become ready once all feeding matches are placed; among ready matches the one
+ * with the longest remaining bracket path below it goes first on whichever mat frees up first.
+ * Times are seconds relative to the start of the schedule.
+ */
+public class MatScheduler {
+
+    public record Task(long id, long[] participantIds, long[] predecessorIds, long durationSeconds) {
+    }
+
+    public record Slot(long taskId, int matNumber, int order, long startSecond, long endSecond) {
+    }
+
+    private static final class Mat {
+        private final int number;
+        private long readyAt;
+        private int order;
+
+        private Mat(int number, long readyAt, int order) {
+            this.number = number;
+            this.readyAt = readyAt;
+            this.order = order;
+        }
+    }
+
+    private final long minRestSeconds;
+
+    public MatScheduler(long minRestSeconds) {
+        this.minRestSeconds = minRestSeconds;
+    }
+
+    public List<Slot> schedule(List<Task> tasks, int numberOfMats) {
+        Map<Integer, Long> mats = new HashMap<>();
+        for (int mat = 1; mat <= numberOfMats; mat++) {
+            mats.put(mat, 0L);
+        }
+        return schedule(tasks, mats, Map.of(), Map.of());
+    }
+
+    /**
+     * @param matReadyAt         mats that may be used, with the time each becomes free
+     * @param matNextOrder       last match order already used per mat; missing mats start at zero
+     * @param participantReadyAt earliest time each participant may fight again
+     */
+    public List<Slot> schedule(List<Task> tasks, Map<Integer, Long> matReadyAt,
+                               Map<Integer, Integer> matNextOrder, Map<Long, Long> participantReadyAt) {
+        return schedule(tasks, matReadyAt, matNextOrder, participantReadyAt, Map.of());
+    }
+
+    /**
+     * @param taskReleaseAt earliest start of individual tasks, e.g. after a feeding match that is
+     *                      still running and therefore not part of the task list
+     */
+    public List<Slot> schedule(List<Task> tasks, Map<Integer, Long> matReadyAt, Map<Integer, Integer> matNextOrder,
+                               Map<Long, Long> participantReadyAt, Map<Long, Long> taskReleaseAt) {
+        int n = tasks.size();
+        if (n == 0) {
+            return List.of();
+        }
+        if (matReadyAt.isEmpty()) {
+            throw new IllegalArgumentException("At least one mat is required to schedule matches");
+        }
+
+        Map<Long, Integer> indexById = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexById.put(tasks.get(i).id(), i);
+        }
+
+        // Predecessors outside the task list (e.g. already completed matches) count as satisfied
+        int[] pendingPredecessors = new int[n];
+        int[] successorCount = new int[n];
+        for (int i = 0; i < n; i++) {
+            for (long predecessorId : tasks.get(i).predecessorIds()) {
+                Integer predecessor = indexById.get(predecessorId);
+                if (predecessor != null) {
+                    pendingPredecessors[i]++;
+                    successorCount[predecessor]++;
+                }
+            }
+        }
+        int[][] successors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            successors[i] = new int[successorCount[i]];
+        }
+        int[] filled = new int[n];
+        for (int i = 0; i < n; i++) {
+            for (long predecessorId : tasks.get(i).predecessorIds()) {
+                Integer predecessor = indexById.get(predecessorId);
+                if (predecessor != null) {
+                    successors[predecessor][filled[predecessor]++] = i;
+                }
+            }
+        }
+
+        long[] priority = bottomLevels(tasks, successors, pendingPredecessors);
+        long[] release = new long[n];
+        for (int i = 0; i < n; i++) {
+            release[i] = taskReleaseAt.getOrDefault(tasks.get(i).id(), 0L);
+        }
+
+        PriorityQueue<Integer> waiting = new PriorityQueue<>(
+            (a, b) -> release[a] != release[b] ? Long.compare(release[a], release[b]) : Integer.compare(a, b));
+        PriorityQueue<Integer> ready = new PriorityQueue<>(
+            (a, b) -> priority[a] != priority[b] ? Long.compare(priority[b], priority[a]) : Integer.compare(a, b));
+        PriorityQueue<Mat> mats = new PriorityQueue<>(
+            (a, b) -> a.readyAt != b.readyAt ? Long.compare(a.readyAt, b.readyAt) : Integer.compare(a.number, b.number));
+
+        for (Map.Entry<Integer, Long> entry : matReadyAt.entrySet()) {
+            mats.add(new Mat(entry.getKey(), entry.getValue(), matNextOrder.getOrDefault(entry.getKey(), 0)));
+        }
+        Map<Long, Long> participantFreeAt = new HashMap<>(participantReadyAt);
+        for (int i = 0; i < n; i++) {
+            if (pendingPredecessors[i] == 0) {
+                waiting.add(i);
+            }
+        }
+
+        List<Slot> slots = new ArrayList<>(n);
+        while (slots.size() < n) {
+            Mat mat = mats.poll();
+            long now = mat.readyAt;
+            while (!waiting.isEmpty() && release[waiting.peek()] <= now) {
+                ready.add(waiting.poll());
+            }
+            if (ready.isEmpty()) {
+                if (waiting.isEmpty()) {
+                    throw new IllegalArgumentException("Match dependencies contain a cycle");
+                }
+                mat.readyAt = release[waiting.peek()];
+                mats.add(mat);
+                continue;
+            }
+
+            int next = ready.poll();
+            Task task = tasks.get(next);
+            long participantsFree = now;
+            for (long participantId : task.participantIds()) {
+                participantsFree = Math.max(participantsFree, participantFreeAt.getOrDefault(participantId, 0L));
+            }
+            if (participantsFree > now) {
+                // An athlete is still resting from another category; revisit once they are free
+                release[next] = participantsFree;
+                waiting.add(next);
+                mats.add(mat);
+                continue;
+            }
+
+            long end = now + task.durationSeconds();
+            slots.add(new Slot(task.id(), mat.number, ++mat.order, now, end));
+            mat.readyAt = end;
+            mats.add(mat);
+            for (long participantId : task.participantIds()) {
+                participantFreeAt.put(participantId, end + minRestSeconds);
+            }
+            for (int successor : successors[next]) {
+                release[successor] = Math.max(release[successor], end + minRestSeconds);
+                if (--pendingPredecessors[successor] == 0) {
+                    waiting.add(successor);
+                }
+            }
+        }
+        return slots;
+    }
+
+    private long[] bottomLevels(List<Task> tasks, int[][] successors, int[] pendingPredecessors) {
+        int n = tasks.size();
+        int[] remaining = Arrays.copyOf(pendingPredecessors, n);
+        int[] topological = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] == 0) {
+                topological[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int current = topological[head++];
+            for (int successor : successors[current]) {
+                if (--remaining[successor] == 0) {
+                    topological[tail++] = successor;
+                }
+            }
+        }
+        if (tail < n) {
+            throw new IllegalArgumentException("Match dependencies contain a cycle");
+        }
+
+        long[] level = new long[n];
+        for (int i = n - 1; i >= 0; i--) {
+            int current = topological[i];
+            long longestBelow = 0;
+            for (int successor : successors[current]) {
+                longestBelow = Math.max(longestBelow, level[successor] + minRestSeconds);
+            }
+            level[current] = tasks.get(current).durationSeconds() + longestBelow;
+        }
+        return level;
+    }
+}
@@ -0,0 +1,241 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.RebalanceRequestDTO;
+import com.taekwondo.tournament.dto.RebalanceResultDTO;
+import com.taekwondo.tournament.dto.ScheduleSummaryDTO;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import com.taekwondo.tournament.service.MatScheduler.Slot;
+import com.taekwondo.tournament.service.MatScheduler.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class MatSchedulingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatSchedulingService.class);
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long matchDurationSeconds;
+    private final long minRestSeconds;
+    private final LocalTime dayStart;
+
+    @Autowired
+    public MatSchedulingService(TournamentRepository tournamentRepository,
+                                MatchRepository matchRepository,
+                                JdbcTemplate jdbcTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${app.schedule.match-duration-minutes:6}") long matchDurationMinutes,
+                                @Value("${app.schedule.min-rest-minutes:20}") long minRestMinutes,
+                                @Value("${app.schedule.day-start:09:00}") LocalTime dayStart) {
+        this.tournamentRepository = tournamentRepository;
+        this.matchRepository = matchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.matchDurationSeconds = matchDurationMinutes * 60;
+        this.minRestSeconds = minRestMinutes * 60;
+        this.dayStart = dayStart;
+    }
+
+    @Transactional
+    public ScheduleSummaryDTO scheduleTournament(Long tournamentId) {
+        long start = System.nanoTime();
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+            .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
+        int numberOfMats = tournament.getNumberOfMats() != null ? tournament.getNumberOfMats() : 1;
+        List<Match> matches = matchRepository.findByTournamentId(tournamentId);
+
+        List<Slot> slots = new MatScheduler(minRestSeconds).schedule(toTasks(matches), numberOfMats);
+
+        LocalDateTime origin = tournament.getDate().atTime(dayStart);
+        Map<Long, Match> matchesById = matches.stream().collect(Collectors.toMap(Match::getId, Function.identity()));
+        long lastEnd = 0;
+        for (Slot slot : slots) {
+            Match match = matchesById.get(slot.taskId());
+            match.setMatNumber(slot.matNumber());
+            match.setMatchOrder(slot.order());
+            match.setScheduledTime(origin.plusSeconds(slot.startSecond()));
+            lastEnd = Math.max(lastEnd, slot.endSecond());
+        }
+
+        ScheduleSummaryDTO summary = new ScheduleSummaryDTO();
+        summary.setTournamentId(tournamentId);
+        summary.setMatchCount(slots.size());
+        summary.setNumberOfMats(numberOfMats);
+        summary.setFirstMatchStart(origin);
+        summary.setLastMatchEnd(origin.plusSeconds(lastEnd));
+        summary.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        logger.info("Scheduled {} matches on {} mats for tournament {}, last match ends at {}",
+            slots.size(), numberOfMats, tournamentId, summary.getLastMatchEnd());
+        eventPublisher.publishEvent(new TournamentChangedEvent(tournamentId, TournamentChangedEvent.Type.SCHEDULED));
+        return summary;
+    }
+
+    /**
+     * Re-plans only the matches still to be fought, around mats that are late or offline.
+     * Completed matches and, unless disabled, the match currently on each working mat stay as they
+     * are; the remaining matches get new mats, orders and times, and only rows that actually change
+     * are written, in one JDBC batch.
+     */
+    @Transactional
+    public RebalanceResultDTO rebalance(Long tournamentId, RebalanceRequestDTO request) {
+        long start = System.nanoTime();
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+            .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
+        int numberOfMats = tournament.getNumberOfMats() != null ? tournament.getNumberOfMats() : 1;
+        Set<Integer> offlineMats = new HashSet<>(request.getOfflineMats());
+        for (Integer mat : offlineMats) {
+            if (mat == null || mat < 1 || mat > numberOfMats) {
+                throw new IllegalArgumentException("Unknown mat: " + mat);
+            }
+        }
+        if (offlineMats.size() == numberOfMats) {
+            throw new IllegalArgumentException("At least one mat must stay online");
+        }
+
+        LocalDateTime origin = tournament.getDate().atTime(dayStart);
+        LocalDateTime now = request.getNow() != null ? request.getNow() : LocalDateTime.now();
+        long nowSecond = Math.max(0, Duration.between(origin, now).getSeconds());
+        List<Match> matches = matchRepository.findByTournamentId(tournamentId);
+        long computeStart = System.nanoTime();
+
+        Map<Integer, Integer> matNextOrder = new HashMap<>();
+        Map<Long, Long> participantReadyAt = new HashMap<>();
+        Map<Integer, Match> currentByMat = new HashMap<>();
+        List<Match> remaining = new ArrayList<>();
+        for (Match match : matches) {
+            if (match.getWinner() != null) {
+                matNextOrder.merge(match.getMatNumber(), match.getMatchOrder(), Math::max);
+                if (match.getScheduledTime() != null) {
+                    long restedAt = secondsFrom(origin, match.getScheduledTime()) + matchDurationSeconds + minRestSeconds;
+                    restUntil(participantReadyAt, match, restedAt);
+                }
+            } else {
+                remaining.add(match);
+                if (request.isKeepCurrentMatches() && !offlineMats.contains(match.getMatNumber())) {
+                    currentByMat.merge(match.getMatNumber(), match,
+                        (a, b) -> a.getMatchOrder() <= b.getMatchOrder() ? a : b);
+                }
+            }
+        }
+
+        Map<Integer, Long> matReadyAt = new HashMap<>();
+        for (int mat = 1; mat <= numberOfMats; mat++) {
+            if (!offlineMats.contains(mat)) {
+                matReadyAt.put(mat, nowSecond + delaySeconds(request, mat));
+            }
+        }
+        // The match on each working mat keeps its slot; the mat and its fighters are busy until it ends
+        Map<Long, Long> taskReleaseAt = new HashMap<>();
+        for (Match current : currentByMat.values()) {
+            long startSecond = current.getScheduledTime() != null
+                ? Math.max(nowSecond, secondsFrom(origin, current.getScheduledTime())) : nowSecond;
+            long end = startSecond + matchDurationSeconds;
+            matReadyAt.put(current.getMatNumber(), end + delaySeconds(request, current.getMatNumber()));
+            matNextOrder.merge(current.getMatNumber(), current.getMatchOrder(), Math::max);
+            restUntil(participantReadyAt, current, end + minRestSeconds);
+            if (current.getNextMatchId() != null) {
+                taskReleaseAt.merge(current.getNextMatchId(), end + minRestSeconds, Math::max);
+            }
+        }
+        remaining.removeIf(match -> currentByMat.get(match.getMatNumber()) == match);
+
+        List<Slot> slots = new MatScheduler(minRestSeconds)
+            .schedule(toTasks(remaining), matReadyAt, matNextOrder, participantReadyAt, taskReleaseAt);
+        long computeMillis = (System.nanoTime() - computeStart) / 1_000_000;
+
+        Map<Long, Match> remainingById = remaining.stream().collect(Collectors.toMap(Match::getId, Function.identity()));
+        List<Object[]> updates = new ArrayList<>();
+        long lastEnd = nowSecond;
+        for (Slot slot : slots) {
+            Match match = remainingById.get(slot.taskId());
+            LocalDateTime scheduledTime = origin.plusSeconds(slot.startSecond());
+            lastEnd = Math.max(lastEnd, slot.endSecond());
+            if (!Objects.equals(match.getMatNumber(), slot.matNumber())
+                    || !Objects.equals(match.getMatchOrder(), slot.order())
+                    || !Objects.equals(match.getScheduledTime(), scheduledTime)) {
+                updates.add(new Object[]{slot.matNumber(), slot.order(), Timestamp.valueOf(scheduledTime), match.getId()});
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                "UPDATE matches SET mat_number = ?, match_order = ?, scheduled_time = ? WHERE id = ?", updates);
+            eventPublisher.publishEvent(new TournamentChangedEvent(tournamentId, TournamentChangedEvent.Type.SCHEDULED));
+        }
+
+        RebalanceResultDTO result = new RebalanceResultDTO();
+        result.setTournamentId(tournamentId);
+        result.setRemainingMatches(slots.size());
+        result.setKeptMatches(currentByMat.size());
+        result.setUpdatedMatches(updates.size());
+        result.setOfflineMats(offlineMats);
+        result.setLastMatchEnd(origin.plusSeconds(lastEnd));
+        result.setComputeMillis(computeMillis);
+        result.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        logger.info("Rebalanced {} remaining matches of tournament {} ({} rows changed, offline mats {}) in {} ms",
+            slots.size(), tournamentId, updates.size(), offlineMats, result.getDurationMillis());
+        return result;
+    }
+
+    List<Task> toTasks(List<Match> matches) {
+        Map<Long, List<Long>> predecessors = new HashMap<>();
+        for (Match match : matches) {
+            if (match.getNextMatchId() != null) {
+                predecessors.computeIfAbsent(match.getNextMatchId(), id -> new ArrayList<>()).add(match.getId());
+            }
+        }
+        List<Task> tasks = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            long[] participantIds = Stream.of(match.getParticipant1(), match.getParticipant2())
+                .filter(Objects::nonNull)
+                .mapToLong(Participant::getId)
+                .toArray();
+            long[] predecessorIds = predecessors.getOrDefault(match.getId(), List.of()).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+            tasks.add(new Task(match.getId(), participantIds, predecessorIds, matchDurationSeconds));
+        }
+        return tasks;
+    }
+
+    private static long delaySeconds(RebalanceRequestDTO request, int mat) {
+        return request.getMatDelayMinutes().getOrDefault(mat, 0) * 60L;
+    }
+
+    private static long secondsFrom(LocalDateTime origin, LocalDateTime time) {
+        return Duration.between(origin, time).getSeconds();
+    }
+
+    private static void restUntil(Map<Long, Long> participantReadyAt, Match match, long second) {
+        Stream.of(match.getParticipant1(), match.getParticipant2())
+            .filter(Objects::nonNull)
+            .forEach(participant -> participantReadyAt.merge(participant.getId(), second, Math::max));
+    }
+}
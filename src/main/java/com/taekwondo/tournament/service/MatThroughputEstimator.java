@@ -0,0 +1,50 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.model.Match;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rolling estimate of how long a match takes, from mat change-over to mat change-over.
+ * Each completed match feeds an exponentially weighted moving average for its mat and round and
+ * one for its round across all mats; estimates fall back from the former to the latter to the
+ * configured default. Not thread-safe; callers synchronize.
+ */
+class MatThroughputEstimator {
+
+    private record MatRound(Integer matNumber, Match.Round round) {
+    }
+
+    private final long defaultSeconds;
+    private final double alpha;
+    private final Map<MatRound, Double> byMatAndRound = new HashMap<>();
+    private final Map<Match.Round, Double> byRound = new HashMap<>();
+
+    MatThroughputEstimator(long defaultSeconds, double alpha) {
+        this.defaultSeconds = defaultSeconds;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Samples outside a third to three times the default are clamped, so a mat left idle over
+     * lunch does not drag the estimate for the afternoon.
+     */
+    void record(Integer matNumber, Match.Round round, long seconds) {
+        double sample = Math.max(defaultSeconds / 3.0, Math.min(seconds, defaultSeconds * 3.0));
+        byMatAndRound.merge(new MatRound(matNumber, round), sample, this::smooth);
+        byRound.merge(round, sample, this::smooth);
+    }
+
+    long estimateSeconds(Integer matNumber, Match.Round round) {
+        Double estimate = byMatAndRound.get(new MatRound(matNumber, round));
+        if (estimate == null) {
+            estimate = byRound.get(round);
+        }
+        return estimate != null ? Math.round(estimate) : defaultSeconds;
+    }
+
+    private double smooth(double average, double sample) {
+        return average + alpha * (sample - average);
+    }
+}
@@ -1,27 +1,46 @@
 package com.taekwondo.tournament.service;
 
+import com.taekwondo.tournament.dto.CacheStatsDTO;
+import com.taekwondo.tournament.dto.CursorPageDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
 import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.Tournament;
 import com.taekwondo.tournament.repository.MatchRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 public class MatchService {
     
     private final MatchRepository matchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleCache scheduleCache;
+    private final CallBoardService callBoardService;
+    private final ScheduleConflictService scheduleConflictService;
 
     @Autowired
-    public MatchService(MatchRepository matchRepository) {
+    public MatchService(MatchRepository matchRepository, ApplicationEventPublisher eventPublisher,
+                        ScheduleCache scheduleCache, CallBoardService callBoardService,
+                        ScheduleConflictService scheduleConflictService) {
         this.matchRepository = matchRepository;
+        this.eventPublisher = eventPublisher;
+        this.scheduleCache = scheduleCache;
+        this.callBoardService = callBoardService;
+        this.scheduleConflictService = scheduleConflictService;
     }
 
     @Transactional(readOnly = true)
-    public List<Match> getAllMatches() {
-        return matchRepository.findAll();
+    public List<MatchDTO> getAllMatches() {
+        return toDTOs(matchRepository.findAll());
     }
 
     @Transactional(readOnly = true)
@@ -29,15 +48,32 @@ public class MatchService {
         return matchRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MatchDTO> getMatchesPage(Long after, int size) {
+        return CursorPageDTO.of(
+            matchRepository.findByIdGreaterThan(after != null ? after : 0L, CursorPageDTO.pageRequest(size))
+                .map(MatchDTO::from),
+            MatchDTO::getId);
+    }
+
     @Transactional
     public Match createMatch(Match match) {
-        return matchRepository.save(match);
+        scheduleConflictService.check(null, match);
+        Match saved = matchRepository.save(match);
+        publish(MatchChangedEvent.Type.CREATED, saved, null, null);
+        return saved;
     }
 
     @Transactional
     public Match updateMatch(Long id, Match matchDetails) {
         Match match = matchRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Match not found with id: " + id));
+        Integer previousMatNumber = match.getMatNumber();
+        Long previousWinnerId = match.getWinner() != null ? match.getWinner().getId() : null;
+        // Only schedule changes are checked, so results can still be saved on a clashing schedule
+        if (!sameSchedule(match, matchDetails)) {
+            scheduleConflictService.check(id, matchDetails);
+        }
         
         match.setMatchId(matchDetails.getMatchId());
         match.setTournament(matchDetails.getTournament());
@@ -48,34 +84,131 @@ public class MatchService {
         match.setMatchOrder(matchDetails.getMatchOrder());
         match.setScheduledTime(matchDetails.getScheduledTime());
         match.setWinner(matchDetails.getWinner());
+        if (match.getWinner() == null) {
+            match.setCompletedAt(null);
+        } else if (previousWinnerId == null) {
+            match.setCompletedAt(LocalDateTime.now());
+        }
         
-        return matchRepository.save(match);
+        Match saved = matchRepository.save(match);
+        publish(MatchChangedEvent.Type.UPDATED, saved, previousMatNumber, previousWinnerId);
+        return saved;
+    }
+
+    @Transactional
+    public Match recordResult(Long id, Long winnerId) {
+        Match match = matchRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Match not found with id: " + id));
+
+        Long previousWinnerId = match.getWinner() != null ? match.getWinner().getId() : null;
+        Participant winner;
+        if (isParticipant(match.getParticipant1(), winnerId)) {
+            winner = match.getParticipant1();
+        } else if (isParticipant(match.getParticipant2(), winnerId)) {
+            winner = match.getParticipant2();
+        } else {
+            throw new IllegalArgumentException("Participant " + winnerId + " is not in match " + id);
+        }
+        // An empty slot is only a walkover when no earlier match feeds it
+        int emptySlot = match.getParticipant1() == null ? 1 : match.getParticipant2() == null ? 2 : 0;
+        if (emptySlot != 0 && matchRepository.existsByNextMatchIdAndNextMatchSlot(id, emptySlot)) {
+            throw new IllegalArgumentException("Match " + id + " is still waiting for its opponent in slot " + emptySlot);
+        }
+        match.setWinner(winner);
+        if (previousWinnerId == null) {
+            match.setCompletedAt(LocalDateTime.now());
+        }
+
+        // Only the single downstream slot is written; the rest of the bracket is left untouched
+        if (match.getNextMatchId() != null) {
+            int updated = match.getNextMatchSlot() == 1
+                ? matchRepository.assignParticipant1IfUndecided(match.getNextMatchId(), winner)
+                : matchRepository.assignParticipant2IfUndecided(match.getNextMatchId(), winner);
+            if (updated == 0) {
+                throw new RuntimeException("Next match " + match.getNextMatchId() + " already has a result");
+            }
+        }
+
+        Match saved = matchRepository.save(match);
+        publish(MatchChangedEvent.Type.RESULT_RECORDED, saved, null, previousWinnerId);
+        if (saved.getNextMatchId() != null) {
+            matchRepository.findById(saved.getNextMatchId())
+                .ifPresent(next -> publish(MatchChangedEvent.Type.UPDATED, next, null, null));
+        }
+        return saved;
     }
 
     @Transactional
     public void deleteMatch(Long id) {
         Match match = matchRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Match not found with id: " + id));
+        MatchDTO snapshot = MatchDTO.from(match);
         matchRepository.delete(match);
+        eventPublisher.publishEvent(new MatchChangedEvent(MatchChangedEvent.Type.DELETED, snapshot, null, null));
     }
 
-    @Transactional(readOnly = true)
-    public List<Match> getMatchesByTournament(Long tournamentId) {
-        return matchRepository.findByTournamentId(tournamentId);
+    // Schedule views are served from the cache without opening a transaction; the fetch plans
+    // load everything MatchDTO needs in the single query run on a miss. Predicted start times
+    // move with every result on a mat, so they are added to the cached lists on the way out.
+    public List<MatchDTO> getMatchesByTournament(Long tournamentId) {
+        return callBoardService.withPredictedStarts(tournamentId, scheduleCache.tournament(tournamentId,
+            () -> toDTOs(matchRepository.findByTournamentId(tournamentId))));
     }
 
-    @Transactional(readOnly = true)
-    public List<Match> getMatchesByTournamentAndRound(Long tournamentId, String round) {
-        return matchRepository.findByTournamentIdAndRound(tournamentId, round);
+    public List<MatchDTO> getMatchesByTournamentAndRound(Long tournamentId, String round) {
+        Match.Round parsedRound = parseRound(round);
+        return callBoardService.withPredictedStarts(tournamentId, scheduleCache.round(tournamentId, parsedRound,
+            () -> toDTOs(matchRepository.findByTournamentIdAndRound(tournamentId, parsedRound))));
     }
 
-    @Transactional(readOnly = true)
-    public List<Match> getMatchesByTournamentAndMat(Long tournamentId, Integer matNumber) {
-        return matchRepository.findByTournamentIdAndMatNumber(tournamentId, matNumber);
+    public List<MatchDTO> getMatchesByTournamentAndMat(Long tournamentId, Integer matNumber) {
+        return callBoardService.withPredictedStarts(tournamentId, scheduleCache.mat(tournamentId, matNumber,
+            () -> toDTOs(matchRepository.findByTournamentIdAndMatNumber(tournamentId, matNumber))));
+    }
+
+    public CacheStatsDTO getScheduleCacheStats() {
+        return scheduleCache.getStats();
     }
 
     @Transactional(readOnly = true)
-    public List<Match> getMatchesByParticipant(Long participantId) {
-        return matchRepository.findByParticipant1IdOrParticipant2Id(participantId, participantId);
+    public List<MatchDTO> getMatchesByParticipant(Long participantId) {
+        return toDTOs(matchRepository.findByParticipant1IdOrParticipant2Id(participantId, participantId));
+    }
+
+    private List<MatchDTO> toDTOs(List<Match> matches) {
+        return matches.stream().map(MatchDTO::from).toList();
+    }
+
+    private Match.Round parseRound(String round) {
+        try {
+            return Match.Round.valueOf(round.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown round: " + round);
+        }
+    }
+
+    private boolean isParticipant(Participant participant, Long participantId) {
+        return participant != null && participant.getId().equals(participantId);
+    }
+
+    private boolean sameSchedule(Match match, Match details) {
+        return Objects.equals(match.getScheduledTime(), details.getScheduledTime())
+            && Objects.equals(idOf(match.getTournament()), idOf(details.getTournament()))
+            && Objects.equals(idOf(match.getParticipant1()), idOf(details.getParticipant1()))
+            && Objects.equals(idOf(match.getParticipant2()), idOf(details.getParticipant2()));
+    }
+
+    private Long idOf(Participant participant) {
+        return participant != null ? participant.getId() : null;
+    }
+
+    private Long idOf(Tournament tournament) {
+        return tournament != null ? tournament.getId() : null;
+    }
+
+    private void publish(MatchChangedEvent.Type type, Match match, Integer previousMatNumber, Long previousWinnerId) {
+        Integer movedFrom = previousMatNumber != null && !previousMatNumber.equals(match.getMatNumber())
+            ? previousMatNumber : null;
+        eventPublisher.publishEvent(new MatchChangedEvent(type, MatchDTO.from(match), movedFrom, previousWinnerId));
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
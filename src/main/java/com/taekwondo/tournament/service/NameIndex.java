@@ -0,0 +1,358 @@
+package com.taekwondo.tournament.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typeahead index over names. Names are folded to lower-case ASCII words (so "Müller" and "muller"
+ * are the same word), words are kept in sorted order for prefix lookups, and each distinct word is
+ * also indexed by its trigrams to find misspellings, which are then confirmed by edit distance.
+ * <p>
+ * Every query word has to match a word of the name: exactly, as a prefix, or within one typo
+ * (two for words of eight letters or more). One- and two-letter queries match a large share of
+ * all names, so their results are kept until a name starting with those letters changes.
+ * Searches may run concurrently with each other but not with changes; callers guard access.
+ */
+class NameIndex {
+
+    record Hit(long id, String name, double score) {
+    }
+
+    private record Entry(String name, String[] words) {
+    }
+
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.85;
+    private static final double TYPO = 0.6;
+    private static final int MIN_TYPO_LENGTH = 3;
+    private static final int SHORT_QUERY = 2;
+    private static final int SHORT_QUERY_HITS = 50;
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+        .thenComparingInt(hit -> hit.name().length())
+        .thenComparing(Hit::name, String.CASE_INSENSITIVE_ORDER)
+        .thenComparingLong(Hit::id);
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeMap<String, Set<Long>> words = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    // Filled by searches, which may run concurrently with each other
+    private final Map<String, List<Hit>> shortQueries = new ConcurrentHashMap<>();
+
+    void put(long id, String name) {
+        remove(id);
+        if (name == null) {
+            return;
+        }
+        String[] nameWords = words(normalize(name));
+        if (nameWords.length == 0) {
+            return;
+        }
+        entries.put(id, new Entry(name, nameWords));
+        forgetShortQueries(nameWords);
+        for (String word : nameWords) {
+            words.computeIfAbsent(word, key -> {
+                trigrams(word, true).forEach(gram -> trigrams.computeIfAbsent(gram, g -> new HashSet<>()).add(word));
+                return new HashSet<>();
+            }).add(id);
+        }
+    }
+
+    void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        forgetShortQueries(entry.words());
+        for (String word : entry.words()) {
+            Set<Long> ids = words.get(word);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                words.remove(word);
+                trigrams(word, true).forEach(gram -> {
+                    Set<String> vocabulary = trigrams.get(gram);
+                    vocabulary.remove(word);
+                    if (vocabulary.isEmpty()) {
+                        trigrams.remove(gram);
+                    }
+                });
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    String name(long id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.name() : null;
+    }
+
+    /**
+     * Best matches first; ties go to the shorter name, then alphabetically. Misspellings are only
+     * looked up when exact and prefix matches do not fill the page, since they would rank below them.
+     */
+    List<Hit> search(String query, int limit) {
+        String[] queryWords = words(normalize(query));
+        if (queryWords.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        if (queryWords.length == 1 && queryWords[0].length() <= SHORT_QUERY && limit <= SHORT_QUERY_HITS) {
+            List<Hit> hits = shortQueries.computeIfAbsent(queryWords[0], word -> rank(queryWords, SHORT_QUERY_HITS));
+            return hits.size() > limit ? hits.subList(0, limit) : hits;
+        }
+        return rank(queryWords, limit);
+    }
+
+    private List<Hit> rank(String[] queryWords, int limit) {
+        Map<Long, Double> scores = scores(queryWords, false);
+        if (scores.size() < limit) {
+            scores = scores(queryWords, true);
+        }
+        String first = queryWords[0];
+        // Keeps the best {@code limit} hits with the worst on top
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            Entry entry = entries.get(score.getKey());
+            double value = score.getValue() / queryWords.length;
+            // Matching from the start of the name reads as the better suggestion
+            if (entry.words()[0].startsWith(first)) {
+                value += 0.05;
+            }
+            Hit hit = new Hit(score.getKey(), entry.name(), value);
+            if (best.size() < limit) {
+                best.add(hit);
+            } else if (RANKING.compare(hit, best.peek()) < 0) {
+                best.poll();
+                best.add(hit);
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(RANKING);
+        return List.copyOf(hits);
+    }
+
+    private void forgetShortQueries(String[] nameWords) {
+        if (shortQueries.isEmpty()) {
+            return;
+        }
+        for (String word : nameWords) {
+            for (int length = 1; length <= Math.min(SHORT_QUERY, word.length()); length++) {
+                shortQueries.remove(word.substring(0, length));
+            }
+        }
+    }
+
+    /**
+     * Summed word scores of the names matching every query word. Only the longest query word, the
+     * most selective one, is looked up in the index; the others are checked against each name found.
+     */
+    private Map<Long, Double> scores(String[] queryWords, boolean typos) {
+        int pivot = 0;
+        for (int i = 1; i < queryWords.length; i++) {
+            if (queryWords[i].length() > queryWords[pivot].length()) {
+                pivot = i;
+            }
+        }
+        // The word being typed may be incomplete; the ones before it are not
+        int last = queryWords.length - 1;
+        Map<Long, Double> scores = match(queryWords[pivot], pivot == last, typos);
+        if (queryWords.length == 1) {
+            return scores;
+        }
+        Map<Long, Double> all = new HashMap<>();
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            String[] nameWords = entries.get(score.getKey()).words();
+            double total = score.getValue();
+            for (int i = 0; i < queryWords.length && total > 0; i++) {
+                if (i != pivot) {
+                    double best = 0;
+                    for (String nameWord : nameWords) {
+                        best = Math.max(best, score(queryWords[i], nameWord, i == last, typos));
+                    }
+                    total = best > 0 ? total + best : 0;
+                }
+            }
+            if (total > 0) {
+                all.put(score.getKey(), total);
+            }
+        }
+        return all;
+    }
+
+    private Map<Long, Double> match(String queryWord, boolean partial, boolean typos) {
+        Map<String, Double> vocabulary = new HashMap<>();
+        Set<Long> exact = words.get(queryWord);
+        if (exact != null) {
+            vocabulary.put(queryWord, EXACT);
+        }
+        if (partial) {
+            for (String word : words.subMap(queryWord, false, queryWord + Character.MAX_VALUE, false).keySet()) {
+                vocabulary.put(word, PREFIX);
+            }
+        }
+        if (typos && queryWord.length() >= MIN_TYPO_LENGTH) {
+            int maxTypos = maxTypos(queryWord);
+            for (String word : typoCandidates(queryWord, partial, maxTypos)) {
+                if (!vocabulary.containsKey(word)) {
+                    int distance = distance(queryWord, word, maxTypos, partial);
+                    if (distance <= maxTypos) {
+                        vocabulary.put(word, typoScore(distance));
+                    }
+                }
+            }
+        }
+        Map<Long, Double> matched = new HashMap<>();
+        vocabulary.forEach((word, score) -> words.get(word).forEach(id -> matched.merge(id, score, Math::max)));
+        return matched;
+    }
+
+    private static double score(String queryWord, String nameWord, boolean partial, boolean typos) {
+        if (nameWord.equals(queryWord)) {
+            return EXACT;
+        }
+        if (partial && nameWord.startsWith(queryWord)) {
+            return PREFIX;
+        }
+        if (typos && queryWord.length() >= MIN_TYPO_LENGTH) {
+            int maxTypos = maxTypos(queryWord);
+            int distance = distance(queryWord, nameWord, maxTypos, partial);
+            return distance <= maxTypos ? typoScore(distance) : 0;
+        }
+        return 0;
+    }
+
+    // Misspellings are only worth looking for once a few letters are typed
+    private static int maxTypos(String queryWord) {
+        return queryWord.length() >= 8 ? 2 : 1;
+    }
+
+    private static double typoScore(int distance) {
+        return TYPO - 0.1 * (distance - 1);
+    }
+
+    /**
+     * Words sharing enough trigrams with the query word to be within {@code maxTypos} edits; one edit
+     * changes at most four of them (a swap of two letters).
+     */
+    private Set<String> typoCandidates(String queryWord, boolean partial, int maxTypos) {
+        List<String> grams = trigrams(queryWord, !partial);
+        int needed = Math.max(1, grams.size() - 4 * maxTypos);
+        Map<String, Integer> shared = new HashMap<>();
+        Set<String> candidates = new HashSet<>();
+        for (String gram : grams) {
+            Set<String> vocabulary = trigrams.get(gram);
+            if (vocabulary == null) {
+                continue;
+            }
+            for (String word : vocabulary) {
+                if (shared.merge(word, 1, Integer::sum) == needed) {
+                    candidates.add(word);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Optimal string alignment distance (insertions, deletions, substitutions and swaps of adjacent
+     * letters) from {@code a} to {@code b}, or to the closest prefix of {@code b} when {@code partial};
+     * {@code maxTypos + 1} once it is known to exceed the limit.
+     */
+    static int distance(String a, String b, int maxTypos, boolean partial) {
+        int columns = partial ? Math.min(b.length(), a.length() + maxTypos) : b.length();
+        if (columns < a.length() - maxTypos || (!partial && columns > a.length() + maxTypos)) {
+            return maxTypos + 1;
+        }
+        int[] previous2 = new int[columns + 1];
+        int[] previous = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= columns; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxTypos) {
+                return maxTypos + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        int best = previous[columns];
+        if (partial) {
+            for (int j = Math.max(0, a.length() - maxTypos); j < columns; j++) {
+                best = Math.min(best, previous[j]);
+            }
+        }
+        return Math.min(best, maxTypos + 1);
+    }
+
+    /** Trigrams of the word padded at the start, and at the end unless the word may go on. */
+    private static List<String> trigrams(String word, boolean complete) {
+        String padded = "$$" + word + (complete ? "$" : "");
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static String[] words(String normalized) {
+        return normalized.isEmpty() ? new String[0]
+            : Arrays.stream(normalized.split(" ")).distinct().toArray(String[]::new);
+    }
+
+    /**
+     * Lower-case letters and digits without accents, single spaces between words.
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = Character.toLowerCase(decomposed.charAt(i));
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            String folded = switch (c) {
+                case 'ß' -> "ss";
+                case 'æ' -> "ae";
+                case 'œ' -> "oe";
+                case 'ø' -> "o";
+                case 'ł' -> "l";
+                case 'đ' -> "d";
+                case 'ı' -> "i";
+                default -> Character.isLetterOrDigit(c) ? String.valueOf(c) : " ";
+            };
+            if (folded.equals(" ")) {
+                if (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != ' ') {
+                    normalized.append(' ');
+                }
+            } else {
+                normalized.append(folded);
+            }
+        }
+        int end = normalized.length();
+        return end > 0 && normalized.charAt(end - 1) == ' ' ? normalized.substring(0, end - 1) : normalized.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.NameSearchResultDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.ClubChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.ParticipantsImportedEvent;
+import com.taekwondo.tournament.repository.ClubRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead search over participant and club names, answered from memory. The indexes are loaded
+ * on first search and then follow committed participant and club changes.
+ */
+@Service
+public class NameSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NameSearchService.class);
+    static final int MAX_LIMIT = 50;
+
+    private final ParticipantRepository participantRepository;
+    private final ClubRepository clubRepository;
+    private final NameIndex participants = new NameIndex();
+    private final NameIndex clubs = new NameIndex();
+    private final Map<Long, Long> participantClubs = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    @Autowired
+    public NameSearchService(ParticipantRepository participantRepository, ClubRepository clubRepository) {
+        this.participantRepository = participantRepository;
+        this.clubRepository = clubRepository;
+    }
+
+    /**
+     * Best matches first; {@code type} restricts the results to participants or clubs.
+     */
+    public List<NameSearchResultDTO> search(String query, NameSearchResultDTO.Type type, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        int capped = Math.min(limit, MAX_LIMIT);
+        ensureLoaded();
+        List<NameSearchResultDTO> results = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (type != NameSearchResultDTO.Type.CLUB) {
+                for (NameIndex.Hit hit : participants.search(query, capped)) {
+                    Long clubId = participantClubs.get(hit.id());
+                    results.add(NameSearchResultDTO.of(NameSearchResultDTO.Type.PARTICIPANT, hit.id(), hit.name(),
+                        clubId != null ? clubs.name(clubId) : null, hit.score()));
+                }
+            }
+            if (type != NameSearchResultDTO.Type.PARTICIPANT) {
+                for (NameIndex.Hit hit : clubs.search(query, capped)) {
+                    results.add(NameSearchResultDTO.of(NameSearchResultDTO.Type.CLUB, hit.id(), hit.name(),
+                        null, hit.score()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (type == null) {
+            // Both lists are already ranked; a stable sort keeps that order among equal scores
+            results.sort(Comparator.comparingDouble(NameSearchResultDTO::getScore).reversed());
+        }
+        return results.size() > capped ? List.copyOf(results.subList(0, capped)) : results;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        ParticipantDTO participant = event.getParticipant();
+        lock.writeLock().lock();
+        try {
+            // Until the first load, the database already holds everything committed
+            if (!loaded) {
+                return;
+            }
+            if (event.getType() == ParticipantChangedEvent.Type.DELETED) {
+                participants.remove(participant.getId());
+                participantClubs.remove(participant.getId());
+            } else {
+                putParticipant(participant.getId(), participant.getName(),
+                    participant.getClub() != null ? participant.getClub().getId() : null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantsImported(ParticipantsImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            event.getParticipants().forEach(participant -> putParticipant(participant.getId(), participant.getName(),
+                participant.getClub() != null ? participant.getClub().getId() : null));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClubChanged(ClubChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            if (event.getType() == ClubChangedEvent.Type.DELETED) {
+                clubs.remove(event.getClub().getId());
+            } else {
+                clubs.put(event.getClub().getId(), event.getClub().getName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                long start = System.nanoTime();
+                clubRepository.findAll().forEach(club -> clubs.put(club.getId(), club.getName()));
+                participantRepository.findAll().forEach(participant -> putParticipant(participant.getId(),
+                    participant.getName(), participant.getClub() != null ? participant.getClub().getId() : null));
+                loaded = true;
+                logger.info("Indexed {} participant and {} club names in {} ms",
+                    participants.size(), clubs.size(), (System.nanoTime() - start) / 1_000_000);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void putParticipant(Long id, String name, Long clubId) {
+        participants.put(id, name);
+        if (clubId != null) {
+            participantClubs.put(id, clubId);
+        } else {
+            participantClubs.remove(id);
+        }
+    }
+}
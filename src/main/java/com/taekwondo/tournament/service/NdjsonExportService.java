@@ -0,0 +1,117 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+@Service
+public class NdjsonExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonExportService.class);
+
+    private static final String PARTICIPANTS_SQL =
+        "SELECT id AS \"id\", name AS \"name\", age AS \"age\", gender AS \"gender\", "
+            + "skill_level AS \"skillLevel\", club_id AS \"clubId\" FROM participants ORDER BY id";
+    private static final String CLUBS_SQL =
+        "SELECT id AS \"id\", name AS \"name\", location AS \"location\" FROM clubs ORDER BY id";
+    private static final String TOURNAMENTS_SQL =
+        "SELECT id AS \"id\", name AS \"name\", date AS \"date\", number_of_mats AS \"numberOfMats\", "
+            + "max_participants AS \"maxParticipants\" FROM tournaments ORDER BY id";
+    private static final String MATCHES_SQL =
+        "SELECT id AS \"id\", match_id AS \"matchId\", tournament_id AS \"tournamentId\", "
+            + "category AS \"category\", round AS \"round\", mat_number AS \"matNumber\", "
+            + "match_order AS \"matchOrder\", scheduled_time AS \"scheduledTime\", "
+            + "participant1_id AS \"participant1Id\", participant2_id AS \"participant2Id\", "
+            + "winner_id AS \"winnerId\", next_match_id AS \"nextMatchId\", next_match_slot AS \"nextMatchSlot\", "
+            + "completed_at AS \"completedAt\" FROM matches ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public NdjsonExportService(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${app.export.fetch-size:500}") int fetchSize) {
+        // PostgreSQL only streams with a cursor inside a transaction and with a fetch size set
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public void streamParticipants(OutputStream out) throws IOException {
+        stream(PARTICIPANTS_SQL, out);
+    }
+
+    public void streamClubs(OutputStream out) throws IOException {
+        stream(CLUBS_SQL, out);
+    }
+
+    public void streamTournaments(OutputStream out) throws IOException {
+        stream(TOURNAMENTS_SQL, out);
+    }
+
+    public void streamMatches(OutputStream out) throws IOException {
+        stream(MATCHES_SQL, out);
+    }
+
+    private void stream(String sql, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Integer rows = transactionTemplate.execute(status -> {
+                int[] count = {0};
+                jdbcTemplate.query(sql, resultSet -> {
+                    writeRow(generator, resultSet);
+                    count[0]++;
+                });
+                return count[0];
+            });
+            generator.flush();
+            logger.debug("Streamed {} rows as NDJSON", rows);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeRow(JsonGenerator generator, ResultSet resultSet) throws SQLException {
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            generator.writeStartObject();
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                generator.writeFieldName(metaData.getColumnLabel(column));
+                Object value = resultSet.getObject(column);
+                if (value instanceof Timestamp timestamp) {
+                    generator.writeObject(timestamp.toLocalDateTime());
+                } else if (value instanceof java.sql.Date date) {
+                    generator.writeObject(date.toLocalDate());
+                } else {
+                    generator.writeObject(value);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.NotificationDTO;
+
+import java.util.List;
+
+/**
+ * Delivers notifications to users. Each call carries one notification per user, at most the
+ * configured batch size of them, so an implementation can hand a whole batch to a push or e-mail
+ * provider in one request.
+ */
+public interface NotificationSender {
+
+    void send(List<NotificationDTO> notifications);
+}
@@ -0,0 +1,168 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.NotificationDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.Topics;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.repository.MatchRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notifies users about matches they follow. Committed match changes, and the matches written by
+ * bracket generation and scheduling, are fanned out through the follow registry into one pending
+ * notification per user; each window the pending notifications are drained and handed to the
+ * sender in batches, so a burst of changes reaches every follower as a single message.
+ */
+@Service
+public class NotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    /** Changes for one user; once queued, only touched inside the pending map's compute. */
+    private static final class PendingNotification {
+        private final Set<String> topics = new LinkedHashSet<>();
+        private final Map<Long, MatchDTO> matches = new LinkedHashMap<>();
+        private int changes;
+
+        private NotificationDTO toDTO(Long userId) {
+            return NotificationDTO.of(userId, topics, new ArrayList<>(matches.values()), changes);
+        }
+    }
+
+    private final FollowRegistry followRegistry;
+    private final NotificationSender notificationSender;
+    private final MatchRepository matchRepository;
+    private final int batchSize;
+    private final Map<Long, PendingNotification> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NotificationService(FollowRegistry followRegistry,
+                               NotificationSender notificationSender,
+                               MatchRepository matchRepository,
+                               @Value("${app.notifications.batch-size:500}") int batchSize) {
+        this.followRegistry = followRegistry;
+        this.notificationSender = notificationSender;
+        this.matchRepository = matchRepository;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        // Removed matches (e.g. brackets being regenerated) are not worth a message
+        if (event.getType() == MatchChangedEvent.Type.DELETED) {
+            return;
+        }
+        MatchDTO match = event.getMatch();
+        Map<Long, PendingNotification> audience = new HashMap<>();
+        addAudience(audience, match, event.getPreviousMatNumber());
+        queue(audience);
+        if (!audience.isEmpty()) {
+            logger.debug("Match {} change queued for {} users", match.getId(), audience.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        // Bracket generation and scheduling rewrite matches without a change per match
+        if (event.getType() != TournamentChangedEvent.Type.BRACKETS_GENERATED
+                && event.getType() != TournamentChangedEvent.Type.SCHEDULED) {
+            return;
+        }
+        List<MatchDTO> matches = matchRepository.findByTournamentId(event.getTournamentId()).stream()
+            .map(MatchDTO::from)
+            .toList();
+        // The whole rewrite is one change to each follower, carrying every match they follow
+        Map<Long, PendingNotification> audience = new HashMap<>();
+        matches.forEach(match -> addAudience(audience, match, null));
+        queue(audience);
+        if (!audience.isEmpty()) {
+            logger.debug("{} of tournament {} queued for {} users", event.getType(), event.getTournamentId(),
+                audience.size());
+        }
+    }
+
+    /**
+     * Sends everything pending since the last window, one notification per user.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.window-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<NotificationDTO> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        int sent = 0;
+        for (Long userId : pending.keySet()) {
+            // Removing claims the notification; changes arriving afterwards start the next window's
+            PendingNotification notification = pending.remove(userId);
+            if (notification == null) {
+                continue;
+            }
+            batch.add(notification.toDTO(userId));
+            if (batch.size() == batchSize) {
+                sent += send(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sent += send(batch);
+        }
+        logger.debug("Sent {} notifications", sent);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // Grouped by user first so a user following both athletes and their club counts one change
+    private void addAudience(Map<Long, PendingNotification> audience, MatchDTO match, Integer previousMatNumber) {
+        for (String topic : Topics.forMatch(match, previousMatNumber)) {
+            for (Long userId : followRegistry.subscribers(topic)) {
+                PendingNotification change = audience.computeIfAbsent(userId, id -> new PendingNotification());
+                change.topics.add(topic);
+                change.matches.put(match.getId(), match);
+            }
+        }
+    }
+
+    private void queue(Map<Long, PendingNotification> audience) {
+        audience.forEach((userId, change) -> pending.compute(userId, (id, notification) -> {
+            if (notification == null) {
+                notification = new PendingNotification();
+            }
+            notification.topics.addAll(change.topics);
+            notification.matches.putAll(change.matches);
+            notification.changes++;
+            return notification;
+        }));
+    }
+
+    private int send(List<NotificationDTO> batch) {
+        try {
+            notificationSender.send(batch);
+            return batch.size();
+        } catch (RuntimeException e) {
+            // Notifications are best effort; a failed batch is dropped rather than retried into the next window
+            logger.error("Failed to send {} notifications: {}", batch.size(), e.getMessage(), e);
+            return 0;
+        }
+    }
+}
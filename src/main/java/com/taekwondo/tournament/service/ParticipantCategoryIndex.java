@@ -0,0 +1,239 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.ParticipantsImportedEvent;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository.ClassificationRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Classifies participants into tournament categories without touching the database. Participants
+ * are bucketed by gender and skill level, and each bucket holds its ages and ids in parallel arrays
+ * sorted by age, so the participants of a category are found by two binary searches per bucket.
+ * <p>
+ * Buckets are replaced, never modified, so reads take no lock. The index is loaded from the
+ * database on first use and then kept current from committed participant changes.
+ */
+@Service
+public class ParticipantCategoryIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantCategoryIndex.class);
+    private static final Gender[] GENDERS = Gender.values();
+    private static final SkillLevel[] LEVELS = SkillLevel.values();
+    // A missing age sorts first and only falls into categories without age limits
+    private static final int NO_AGE = Integer.MIN_VALUE;
+
+    private record Entry(Gender gender, SkillLevel skillLevel, int age) {
+    }
+
+    /** Ages ascending, ties by id; never modified once published. */
+    private record Bucket(int[] ages, long[] ids) {
+        private static final Bucket EMPTY = new Bucket(new int[0], new long[0]);
+
+        private int position(int age, long id) {
+            int low = 0;
+            int high = ages.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ages[middle] < age || (ages[middle] == age && ids[middle] < id)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private Bucket with(int age, long id) {
+            int at = position(age, id);
+            int[] newAges = new int[ages.length + 1];
+            long[] newIds = new long[ids.length + 1];
+            System.arraycopy(ages, 0, newAges, 0, at);
+            System.arraycopy(ids, 0, newIds, 0, at);
+            newAges[at] = age;
+            newIds[at] = id;
+            System.arraycopy(ages, at, newAges, at + 1, ages.length - at);
+            System.arraycopy(ids, at, newIds, at + 1, ids.length - at);
+            return new Bucket(newAges, newIds);
+        }
+
+        private Bucket without(int age, long id) {
+            int at = position(age, id);
+            if (at == ids.length || ids[at] != id) {
+                return this;
+            }
+            int[] newAges = new int[ages.length - 1];
+            long[] newIds = new long[ids.length - 1];
+            System.arraycopy(ages, 0, newAges, 0, at);
+            System.arraycopy(ids, 0, newIds, 0, at);
+            System.arraycopy(ages, at + 1, newAges, at, ages.length - at - 1);
+            System.arraycopy(ids, at + 1, newIds, at, ids.length - at - 1);
+            return new Bucket(newAges, newIds);
+        }
+    }
+
+    private final ParticipantRepository participantRepository;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(GENDERS.length * LEVELS.length);
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @Autowired
+    public ParticipantCategoryIndex(ParticipantRepository participantRepository) {
+        this.participantRepository = participantRepository;
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            buckets.set(slot, Bucket.EMPTY);
+        }
+    }
+
+    /**
+     * Ids of the participants the category includes, in ascending order.
+     */
+    public long[] participantIds(Tournament.TournamentCategory category) {
+        ensureLoaded();
+        int minAge = category.getMinAge() != null ? category.getMinAge()
+            : category.getMaxAge() != null ? NO_AGE + 1 : NO_AGE;
+        int maxAge = category.getMaxAge() != null ? category.getMaxAge() : Integer.MAX_VALUE;
+        if (minAge > maxAge) {
+            return new long[0];
+        }
+        // Bucket snapshots and their [from, to) ranges; copied out once the total size is known
+        Bucket[] hits = new Bucket[buckets.length()];
+        int[] ranges = new int[2 * buckets.length()];
+        int hitCount = 0;
+        int total = 0;
+        for (Gender gender : GENDERS) {
+            if (category.getGender() != null && category.getGender() != gender) {
+                continue;
+            }
+            for (SkillLevel level : LEVELS) {
+                if (category.getSkillLevel() != null && category.getSkillLevel() != level) {
+                    continue;
+                }
+                Bucket bucket = buckets.get(slot(gender, level));
+                int from = bucket.position(minAge, Long.MIN_VALUE);
+                int to = maxAge == Integer.MAX_VALUE ? bucket.ids.length : bucket.position(maxAge + 1, Long.MIN_VALUE);
+                if (to > from) {
+                    hits[hitCount] = bucket;
+                    ranges[2 * hitCount] = from;
+                    ranges[2 * hitCount + 1] = to;
+                    hitCount++;
+                    total += to - from;
+                }
+            }
+        }
+        long[] matched = new long[total];
+        int count = 0;
+        for (int i = 0; i < hitCount; i++) {
+            int length = ranges[2 * i + 1] - ranges[2 * i];
+            System.arraycopy(hits[i].ids, ranges[2 * i], matched, count, length);
+            count += length;
+        }
+        Arrays.sort(matched);
+        return matched;
+    }
+
+    /**
+     * The given categories that include the participant, or an empty list for an unknown participant.
+     */
+    public List<Tournament.TournamentCategory> categoriesOf(Long participantId,
+                                                            Collection<Tournament.TournamentCategory> categories) {
+        ensureLoaded();
+        Entry entry = entries.get(participantId);
+        if (entry == null) {
+            return List.of();
+        }
+        return categories.stream()
+            .filter(category -> category.getGender() == null || category.getGender() == entry.gender())
+            .filter(category -> category.getSkillLevel() == null || category.getSkillLevel() == entry.skillLevel())
+            .filter(category -> category.getMinAge() == null
+                || (entry.age() != NO_AGE && entry.age() >= category.getMinAge()))
+            .filter(category -> category.getMaxAge() == null
+                || (entry.age() != NO_AGE && entry.age() <= category.getMaxAge()))
+            .toList();
+    }
+
+    public boolean contains(Long participantId) {
+        ensureLoaded();
+        return entries.containsKey(participantId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        ParticipantDTO participant = event.getParticipant();
+        synchronized (this) {
+            // Until the first load, the database already holds everything committed
+            if (!loaded) {
+                return;
+            }
+            remove(participant.getId());
+            if (event.getType() != ParticipantChangedEvent.Type.DELETED) {
+                add(participant.getId(), participant.getGender(), participant.getSkillLevel(), participant.getAge());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantsImported(ParticipantsImportedEvent event) {
+        synchronized (this) {
+            if (!loaded) {
+                return;
+            }
+            for (ParticipantDTO participant : event.getParticipants()) {
+                add(participant.getId(), participant.getGender(), participant.getSkillLevel(), participant.getAge());
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                List<ClassificationRow> rows = participantRepository.findAllClassifications();
+                rows.forEach(row -> add(row.getId(), row.getGender(), row.getSkillLevel(), row.getAge()));
+                loaded = true;
+                logger.info("Indexed {} participants for category classification", entries.size());
+            }
+        }
+    }
+
+    // Writers hold the monitor; readers see each bucket replaced whole
+    private void add(Long id, Gender gender, SkillLevel skillLevel, Integer age) {
+        if (gender == null || skillLevel == null) {
+            return;
+        }
+        Entry entry = new Entry(gender, skillLevel, age != null ? age : NO_AGE);
+        int slot = slot(gender, skillLevel);
+        buckets.set(slot, buckets.get(slot).with(entry.age(), id));
+        entries.put(id, entry);
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            int slot = slot(entry.gender(), entry.skillLevel());
+            buckets.set(slot, buckets.get(slot).without(entry.age(), id));
+        }
+    }
+
+    private static int slot(Gender gender, SkillLevel skillLevel) {
+        return gender.ordinal() * LEVELS.length + skillLevel.ordinal();
+    }
+}
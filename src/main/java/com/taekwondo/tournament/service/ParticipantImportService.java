@@ -0,0 +1,322 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.ClubDTO;
+import com.taekwondo.tournament.dto.ImportResultDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.dto.ParticipantImportRow;
+import com.taekwondo.tournament.event.ClubChangedEvent;
+import com.taekwondo.tournament.event.ParticipantsImportedEvent;
+import com.taekwondo.tournament.model.Club;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.repository.ClubRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ParticipantImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantImportService.class);
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "age", "gender", "skilllevel");
+
+    private final ClubRepository clubRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    private interface RowSource {
+        ParticipantImportRow next() throws IOException;
+    }
+
+    private record PendingRow(int rowNumber, Participant participant, String clubName, String clubLocation) {
+    }
+
+    @Autowired
+    public ParticipantImportService(ClubRepository clubRepository,
+                                    EntityManager entityManager,
+                                    PlatformTransactionManager transactionManager,
+                                    Validator validator,
+                                    ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${app.import.batch-size:500}") int batchSize) {
+        this.clubRepository = clubRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Expects a header row; columns are matched by name ignoring case, spaces and underscores:
+     * name, age, gender, skillLevel and optionally club and clubLocation. A semicolon separator
+     * is detected from the header, as produced by spreadsheets in many European locales.
+     */
+    public ImportResultDTO importCsv(InputStream input) throws IOException {
+        InputStream buffered = new BufferedInputStream(input);
+        char separator = detectSeparator(buffered);
+        try (CsvReader csv = new CsvReader(new InputStreamReader(buffered, StandardCharsets.UTF_8), separator)) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV input is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(normalizeColumn(header.get(i)), i);
+            }
+            for (String required : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(required)) {
+                    throw new IllegalArgumentException("Missing required column: " + required);
+                }
+            }
+            return importRows(() -> {
+                List<String> record = csv.readRecord();
+                if (record == null) {
+                    return null;
+                }
+                ParticipantImportRow row = new ParticipantImportRow();
+                row.setName(cell(record, columns.get("name")));
+                row.setAge(cell(record, columns.get("age")));
+                row.setGender(cell(record, columns.get("gender")));
+                row.setSkillLevel(cell(record, columns.get("skilllevel")));
+                row.setClub(cell(record, columns.get("club")));
+                row.setClubLocation(cell(record, columns.get("clublocation")));
+                return row;
+            });
+        }
+    }
+
+    /**
+     * Expects a JSON array of row objects; the array is read element by element.
+     */
+    public ImportResultDTO importJson(InputStream input) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON input must be an array of participants");
+            }
+            return importRows(() -> parser.nextToken() == JsonToken.START_OBJECT
+                ? objectMapper.readValue(parser, ParticipantImportRow.class)
+                : null);
+        }
+    }
+
+    private ImportResultDTO importRows(RowSource source) throws IOException {
+        long start = System.nanoTime();
+        ImportResultDTO result = new ImportResultDTO();
+        Map<String, Long> clubIds = clubRepository.findAll().stream()
+            .collect(Collectors.toMap(club -> clubKey(club.getName()), Club::getId, (first, second) -> first));
+
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        int rowNumber = 0;
+        ParticipantImportRow row;
+        while ((row = source.next()) != null) {
+            rowNumber++;
+            try {
+                batch.add(toPendingRow(rowNumber, row));
+            } catch (IllegalArgumentException e) {
+                result.addError(rowNumber, e.getMessage());
+            }
+            if (batch.size() == batchSize) {
+                write(batch, clubIds, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch, clubIds, result);
+        }
+
+        result.setTotalRows(rowNumber);
+        result.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        logger.info("Imported {} of {} participant rows ({} failed, {} clubs created) in {} ms",
+            result.getImported(), rowNumber, result.getFailed(), result.getClubsCreated(), result.getDurationMillis());
+        return result;
+    }
+
+    private void write(List<PendingRow> batch, Map<String, Long> clubIds, ImportResultDTO result) {
+        List<String> createdClubs = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch, clubIds, createdClubs));
+            result.setImported(result.getImported() + batch.size());
+            result.setClubsCreated(result.getClubsCreated() + createdClubs.size());
+        } catch (RuntimeException e) {
+            // One bad row rolls back its batch; retry row by row so only that row is reported
+            logger.warn("Import batch of {} rows failed, retrying individually: {}", batch.size(),
+                NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            createdClubs.forEach(clubIds::remove);
+            for (PendingRow row : batch) {
+                createdClubs.clear();
+                row.participant().setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(row), clubIds, createdClubs));
+                    result.setImported(result.getImported() + 1);
+                    result.setClubsCreated(result.getClubsCreated() + createdClubs.size());
+                } catch (RuntimeException rowFailure) {
+                    createdClubs.forEach(clubIds::remove);
+                    result.addError(row.rowNumber(), NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingRow> rows, Map<String, Long> clubIds, List<String> createdClubs) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        List<ParticipantDTO> imported = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            Participant participant = row.participant();
+            if (row.clubName() != null) {
+                String key = clubKey(row.clubName());
+                Long clubId = clubIds.get(key);
+                if (clubId == null) {
+                    Club club = new Club();
+                    club.setName(row.clubName());
+                    club.setLocation(row.clubLocation());
+                    entityManager.persist(club);
+                    // Published with the batch, so it only reaches the listeners if the batch commits
+                    eventPublisher.publishEvent(new ClubChangedEvent(ClubChangedEvent.Type.CREATED, ClubDTO.from(club)));
+                    clubId = club.getId();
+                    clubIds.put(key, clubId);
+                    createdClubs.add(key);
+                }
+                participant.setClub(entityManager.getReference(Club.class, clubId));
+            }
+            entityManager.persist(participant);
+            imported.add(toEventDTO(participant, row));
+        }
+        eventPublisher.publishEvent(new ParticipantsImportedEvent(imported));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private PendingRow toPendingRow(int rowNumber, ParticipantImportRow row) {
+        Participant participant = new Participant();
+        participant.setName(trimToNull(row.getName()));
+        participant.setAge(parseAge(row.getAge()));
+        participant.setGender(parseGender(row.getGender()));
+        participant.setSkillLevel(parseSkillLevel(row.getSkillLevel()));
+        Set<ConstraintViolation<Participant>> violations = validator.validate(participant);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; ")));
+        }
+        String clubName = trimToNull(row.getClub());
+        if (clubName != null && clubName.length() > 100) {
+            throw new IllegalArgumentException("club: Club name must be at most 100 characters");
+        }
+        return new PendingRow(rowNumber, participant, clubName, trimToNull(row.getClubLocation()));
+    }
+
+    private ParticipantDTO toEventDTO(Participant participant, PendingRow row) {
+        Club club = participant.getClub();
+        participant.setClub(null);
+        ParticipantDTO dto = ParticipantDTO.from(participant);
+        participant.setClub(club);
+        // The club may be an unloaded reference; take its name from the row instead of selecting it
+        if (club != null) {
+            ClubDTO clubDTO = new ClubDTO();
+            clubDTO.setId(club.getId());
+            clubDTO.setName(row.clubName());
+            dto.setClub(clubDTO);
+        }
+        return dto;
+    }
+
+    private Integer parseAge(String value) {
+        String age = trimToNull(value);
+        if (age == null) {
+            throw new IllegalArgumentException("age: Age is required");
+        }
+        try {
+            return Integer.valueOf(age);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("age: Not a number: " + age);
+        }
+    }
+
+    private Gender parseGender(String value) {
+        String gender = trimToNull(value);
+        if (gender == null) {
+            return null;
+        }
+        for (Gender candidate : Gender.values()) {
+            if (candidate.name().equalsIgnoreCase(gender)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("gender: Unknown gender: " + gender);
+    }
+
+    private SkillLevel parseSkillLevel(String value) {
+        String level = trimToNull(value);
+        if (level == null) {
+            return null;
+        }
+        for (SkillLevel candidate : SkillLevel.values()) {
+            if (candidate.name().equalsIgnoreCase(level) || candidate.getDisplayName().equalsIgnoreCase(level)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("skillLevel: Unknown skill level: " + level);
+    }
+
+    private static char detectSeparator(InputStream input) throws IOException {
+        input.mark(1024);
+        byte[] head = input.readNBytes(1024);
+        input.reset();
+        String firstLine = new String(head, StandardCharsets.UTF_8).split("[\r\n]", 2)[0];
+        return firstLine.indexOf(';') >= 0 && firstLine.indexOf(',') < 0 ? ';' : ',';
+    }
+
+    private static String cell(List<String> record, Integer column) {
+        return column != null && column < record.size() ? record.get(column) : null;
+    }
+
+    private static String normalizeColumn(String header) {
+        return header.replaceAll("[\\s_\\-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String clubKey(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
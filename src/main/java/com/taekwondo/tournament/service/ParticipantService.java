@@ -1,13 +1,24 @@
 package com.taekwondo.tournament.service;
 
+import com.taekwondo.tournament.dto.CursorPageDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.model.Gender;
 import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
 import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,18 +26,27 @@ import java.util.Optional;
 public class ParticipantService {
     
     private static final Logger logger = LoggerFactory.getLogger(ParticipantService.class);
+    // Keeps the IN lists of id lookups well under the bind parameter limits of the drivers
+    private static final int ID_CHUNK_SIZE = 1000;
     private final ParticipantRepository participantRepository;
+    private final TournamentRepository tournamentRepository;
+    private final ParticipantCategoryIndex categoryIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public ParticipantService(ParticipantRepository participantRepository) {
+    public ParticipantService(ParticipantRepository participantRepository, TournamentRepository tournamentRepository,
+                              ParticipantCategoryIndex categoryIndex, ApplicationEventPublisher eventPublisher) {
         this.participantRepository = participantRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.categoryIndex = categoryIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
-    public List<Participant> getAllParticipants() {
+    public List<ParticipantDTO> getAllParticipants() {
         logger.info("Starting to retrieve all participants from the database");
         try {
-            List<Participant> participants = participantRepository.findAll();
+            List<ParticipantDTO> participants = toDTOs(participantRepository.findAll());
             logger.info("Successfully retrieved {} participants from the database", participants.size());
             return participants;
         } catch (Exception e) {
@@ -40,9 +60,19 @@ public class ParticipantService {
         return participantRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ParticipantDTO> getParticipantsPage(Long after, int size) {
+        return CursorPageDTO.of(
+            participantRepository.findByIdGreaterThan(after != null ? after : 0L, CursorPageDTO.pageRequest(size))
+                .map(ParticipantDTO::from),
+            ParticipantDTO::getId);
+    }
+
     @Transactional
     public Participant createParticipant(Participant participant) {
-        return participantRepository.save(participant);
+        Participant saved = participantRepository.save(participant);
+        publish(ParticipantChangedEvent.Type.CREATED, saved);
+        return saved;
     }
 
     @Transactional
@@ -56,23 +86,89 @@ public class ParticipantService {
         participant.setSkillLevel(participantDetails.getSkillLevel());
         participant.setClub(participantDetails.getClub());
         
-        return participantRepository.save(participant);
+        Participant saved = participantRepository.save(participant);
+        publish(ParticipantChangedEvent.Type.UPDATED, saved);
+        return saved;
     }
 
     @Transactional
     public void deleteParticipant(Long id) {
         Participant participant = participantRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Participant not found with id: " + id));
+        ParticipantDTO snapshot = ParticipantDTO.from(participant);
         participantRepository.delete(participant);
+        eventPublisher.publishEvent(new ParticipantChangedEvent(ParticipantChangedEvent.Type.DELETED, snapshot));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ParticipantDTO> getParticipantsByClub(Long clubId) {
+        return toDTOs(participantRepository.findByClubId(clubId));
     }
 
+    /**
+     * Participants in the category given by gender, skill level and age range; any of them may be
+     * left out to match all. Skill levels are accepted by name or display name.
+     */
     @Transactional(readOnly = true)
-    public List<Participant> getParticipantsByClub(Long clubId) {
-        return participantRepository.findByClubId(clubId);
+    public List<ParticipantDTO> getParticipantsByCategory(String gender, String skillLevel,
+                                                          Integer minAge, Integer maxAge) {
+        Tournament.TournamentCategory category = new Tournament.TournamentCategory();
+        category.setGender(gender != null ? parseGender(gender) : null);
+        category.setSkillLevel(skillLevel != null ? parseSkillLevel(skillLevel) : null);
+        category.setMinAge(minAge);
+        category.setMaxAge(maxAge);
+
+        return getParticipantsByIds(categoryIndex.participantIds(category));
+    }
+
+    /**
+     * The participants with the given ids, ordered by id; unknown ids are skipped.
+     */
+    @Transactional(readOnly = true)
+    public List<ParticipantDTO> getParticipantsByIds(long[] ids) {
+        List<Participant> participants = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += ID_CHUNK_SIZE) {
+            List<Long> chunk = Arrays.stream(ids, from, Math.min(from + ID_CHUNK_SIZE, ids.length)).boxed().toList();
+            participants.addAll(participantRepository.findByIdIn(chunk));
+        }
+        participants.sort(Comparator.comparing(Participant::getId));
+        return toDTOs(participants);
     }
 
     @Transactional(readOnly = true)
-    public List<Participant> getParticipantsByGenderAndSkillLevel(String gender, String skillLevel) {
-        return participantRepository.findByGenderAndSkillLevel(gender, skillLevel);
+    public List<Tournament.TournamentCategory> getCategoriesForParticipant(Long participantId, Long tournamentId) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+            .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
+        if (!categoryIndex.contains(participantId)) {
+            throw new RuntimeException("Participant not found with id: " + participantId);
+        }
+        return categoryIndex.categoriesOf(participantId, tournament.getCategories());
+    }
+
+    private Gender parseGender(String gender) {
+        for (Gender value : Gender.values()) {
+            if (value.name().equalsIgnoreCase(gender.trim())) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown gender: " + gender);
+    }
+
+    private SkillLevel parseSkillLevel(String skillLevel) {
+        String name = skillLevel.trim();
+        for (SkillLevel value : SkillLevel.values()) {
+            if (value.name().equalsIgnoreCase(name) || value.getDisplayName().equalsIgnoreCase(name)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid skill level: " + skillLevel);
+    }
+
+    private List<ParticipantDTO> toDTOs(List<Participant> participants) {
+        return participants.stream().map(ParticipantDTO::from).toList();
+    }
+
+    private void publish(ParticipantChangedEvent.Type type, Participant participant) {
+        eventPublisher.publishEvent(new ParticipantChangedEvent(type, ParticipantDTO.from(participant)));
     }
 } 
\ No newline at end of file
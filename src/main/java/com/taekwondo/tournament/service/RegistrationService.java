@@ -0,0 +1,354 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.dto.TournamentRegistrationDTO;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Registration;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.RegistrationRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registers participants for tournaments. Admission is decided in memory: each tournament keeps
+ * its own set of entrants and entrant counter, so duplicate and capacity checks are a set insert
+ * and a compare-and-set rather than a count query under a lock, and registrations for different
+ * tournaments never contend. Admitted changes are queued and a scheduled writer stores them in
+ * JDBC batches; each request returns once the batch holding it has committed.
+ * <p>
+ * A tournament's entrants are loaded on its first registration request.
+ */
+@Service
+public class RegistrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationService.class);
+
+    private static final class Entrants {
+        private final Set<Long> participantIds = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger count = new AtomicInteger();
+        // Null when uncapped
+        private volatile Integer capacity;
+
+        private Entrants(Integer capacity, List<Long> participantIds) {
+            this.capacity = capacity;
+            this.participantIds.addAll(participantIds);
+            this.count.set(this.participantIds.size());
+        }
+
+        private void admit(Long participantId, Long tournamentId) {
+            if (!participantIds.add(participantId)) {
+                throw new IllegalArgumentException("Participant " + participantId
+                    + " is already registered for tournament " + tournamentId);
+            }
+            while (true) {
+                int current = count.get();
+                Integer limit = capacity;
+                if (limit != null && current >= limit) {
+                    participantIds.remove(participantId);
+                    throw new IllegalArgumentException("Tournament " + tournamentId + " is full (" + limit
+                        + " participants)");
+                }
+                if (count.compareAndSet(current, current + 1)) {
+                    return;
+                }
+            }
+        }
+
+        // Takes back a place that was released but could not be stored; never rejected as full
+        private void restore(Long participantId) {
+            if (participantIds.add(participantId)) {
+                count.incrementAndGet();
+            }
+        }
+
+        private boolean release(Long participantId) {
+            if (participantIds.remove(participantId)) {
+                count.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private record PendingWrite(boolean register, Long participantId, Long tournamentId, LocalDateTime at,
+                                CompletableFuture<Void> written) {
+    }
+
+    private final RegistrationRepository registrationRepository;
+    private final TournamentRepository tournamentRepository;
+    private final ParticipantService participantService;
+    private final ParticipantCategoryIndex categoryIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long writeTimeoutMillis;
+    private final Map<Long, Entrants> entrants = new ConcurrentHashMap<>();
+    private final Queue<PendingWrite> pending = new ConcurrentLinkedQueue<>();
+    private final Object writerLock = new Object();
+
+    @Autowired
+    public RegistrationService(RegistrationRepository registrationRepository,
+                               TournamentRepository tournamentRepository,
+                               ParticipantService participantService,
+                               ParticipantCategoryIndex categoryIndex,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.registration.batch-size:500}") int batchSize,
+                               @Value("${app.registration.write-timeout-ms:10000}") long writeTimeoutMillis) {
+        this.registrationRepository = registrationRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.participantService = participantService;
+        this.categoryIndex = categoryIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+    }
+
+    public TournamentRegistrationDTO register(Long participantId, Long tournamentId) {
+        return await(submitRegistration(participantId, tournamentId));
+    }
+
+    public void unregister(Long participantId, Long tournamentId) {
+        await(submitUnregistration(participantId, tournamentId));
+    }
+
+    /**
+     * Admits the participant and queues the write; duplicates and full tournaments are rejected
+     * immediately. The future completes when the registration is stored.
+     */
+    public CompletableFuture<TournamentRegistrationDTO> submitRegistration(Long participantId, Long tournamentId) {
+        if (participantId == null || tournamentId == null) {
+            throw new IllegalArgumentException("Participant and tournament are required");
+        }
+        if (!categoryIndex.contains(participantId)) {
+            throw new RuntimeException("Participant not found with id: " + participantId);
+        }
+        entrants(tournamentId).admit(participantId, tournamentId);
+        PendingWrite write = new PendingWrite(true, participantId, tournamentId, LocalDateTime.now(),
+            new CompletableFuture<>());
+        pending.add(write);
+        return write.written().thenApply(stored -> TournamentRegistrationDTO.of(participantId, tournamentId, write.at()));
+    }
+
+    public CompletableFuture<Void> submitUnregistration(Long participantId, Long tournamentId) {
+        if (!entrants(tournamentId).release(participantId)) {
+            throw new RuntimeException("Registration not found for participant " + participantId
+                + " in tournament " + tournamentId);
+        }
+        PendingWrite write = new PendingWrite(false, participantId, tournamentId, LocalDateTime.now(),
+            new CompletableFuture<>());
+        pending.add(write);
+        return write.written();
+    }
+
+    /**
+     * The tournament's entrants ordered by id, optionally only those in the category with the given label.
+     */
+    @Transactional(readOnly = true)
+    public List<ParticipantDTO> getEntrants(Long tournamentId, String categoryLabel) {
+        long[] ids = entrantIds(tournamentId);
+        if (categoryLabel != null) {
+            Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
+            Tournament.TournamentCategory category = tournament.getCategories().stream()
+                .filter(candidate -> candidate.getLabel().equalsIgnoreCase(categoryLabel.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown category for tournament "
+                    + tournamentId + ": " + categoryLabel));
+            ids = intersect(ids, categoryIndex.participantIds(category));
+        }
+        return participantService.getParticipantsByIds(ids);
+    }
+
+    /**
+     * Ids of the tournament's entrants in the category, in ascending order.
+     */
+    public long[] getEntrantIds(Long tournamentId, Tournament.TournamentCategory category) {
+        return intersect(entrantIds(tournamentId), categoryIndex.participantIds(category));
+    }
+
+    public int getEntrantCount(Long tournamentId) {
+        return entrants(tournamentId).count.get();
+    }
+
+    /**
+     * Stores everything admitted since the last run, in batches of one transaction each.
+     */
+    @Scheduled(fixedDelayString = "${app.registration.flush-interval-ms:50}")
+    public void flush() {
+        synchronized (writerLock) {
+            List<PendingWrite> writes = new ArrayList<>();
+            PendingWrite write;
+            while ((write = pending.poll()) != null) {
+                writes.add(write);
+            }
+            for (int from = 0; from < writes.size(); from += batchSize) {
+                List<PendingWrite> chunk = writes.subList(from, Math.min(from + batchSize, writes.size()));
+                try {
+                    store(chunk);
+                    chunk.forEach(stored -> stored.written().complete(null));
+                } catch (RuntimeException e) {
+                    // One bad row (e.g. a participant deleted meanwhile) must not fail the rest of the batch
+                    logger.warn("Failed to store {} registration changes as a batch, retrying one by one: {}",
+                        chunk.size(), e.getMessage());
+                    chunk.forEach(this::storeAlone);
+                }
+            }
+            if (!writes.isEmpty()) {
+                logger.debug("Stored {} registration changes", writes.size());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        if (event.getType() == TournamentChangedEvent.Type.DELETED) {
+            entrants.remove(event.getTournamentId());
+        } else if (event.getType() == TournamentChangedEvent.Type.UPDATED) {
+            Entrants tournamentEntrants = entrants.get(event.getTournamentId());
+            if (tournamentEntrants != null) {
+                tournamentRepository.findById(event.getTournamentId())
+                    .ifPresent(tournament -> tournamentEntrants.capacity = tournament.getMaxParticipants());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        // Stored registrations are removed with the participant by the foreign key
+        if (event.getType() == ParticipantChangedEvent.Type.DELETED) {
+            entrants.values().forEach(tournamentEntrants -> tournamentEntrants.release(event.getParticipant().getId()));
+        }
+    }
+
+    private Entrants entrants(Long tournamentId) {
+        return entrants.computeIfAbsent(tournamentId, id -> {
+            Tournament tournament = tournamentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + id));
+            List<Long> participantIds = registrationRepository.findParticipantIdsByTournamentId(id);
+            logger.info("Loaded {} registrations for tournament {}", participantIds.size(), id);
+            return new Entrants(tournament.getMaxParticipants(), participantIds);
+        });
+    }
+
+    private void store(List<PendingWrite> writes) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (PendingWrite write : writes) {
+                if (write.register()) {
+                    Registration registration = new Registration();
+                    registration.setParticipantId(write.participantId());
+                    registration.setTournamentId(write.tournamentId());
+                    registration.setRegistrationDate(write.at());
+                    entityManager.persist(registration);
+                } else {
+                    // The bulk delete flushes queued inserts first, so a quick re-registration stays in order
+                    entityManager.createQuery("delete from Registration r where r.participantId = :participantId"
+                            + " and r.tournamentId = :tournamentId")
+                        .setParameter("participantId", write.participantId())
+                        .setParameter("tournamentId", write.tournamentId())
+                        .executeUpdate();
+                    // The bulk delete bypasses the session, so a registration persisted earlier in this batch
+                    // would still be attached and clash with a re-registration under the same key
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private void storeAlone(PendingWrite write) {
+        try {
+            store(List.of(write));
+            write.written().complete(null);
+        } catch (RuntimeException e) {
+            logger.error("Failed to store registration change for participant {} in tournament {}: {}",
+                write.participantId(), write.tournamentId(), e.getMessage());
+            Entrants tournamentEntrants = entrants.get(write.tournamentId());
+            if (tournamentEntrants != null) {
+                if (write.register()) {
+                    tournamentEntrants.release(write.participantId());
+                } else {
+                    tournamentEntrants.restore(write.participantId());
+                }
+            }
+            write.written().completeExceptionally(new RuntimeException("Failed to store registration change for participant "
+                + write.participantId() + " in tournament " + write.tournamentId(), e));
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Registration was accepted but is not stored yet");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the registration to be stored");
+        }
+    }
+
+    private long[] entrantIds(Long tournamentId) {
+        long[] ids = entrants(tournamentId).participantIds.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static long[] intersect(long[] sortedA, long[] sortedB) {
+        long[] result = new long[Math.min(sortedA.length, sortedB.length)];
+        int count = 0;
+        for (int a = 0, b = 0; a < sortedA.length && b < sortedB.length; ) {
+            if (sortedA[a] < sortedB[b]) {
+                a++;
+            } else if (sortedA[a] > sortedB[b]) {
+                b++;
+            } else {
+                result[count++] = sortedA[a];
+                a++;
+                b++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,194 @@
+package com.taekwondo.tournament.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.taekwondo.tournament.dto.CacheStatsDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-memory copy of the schedule views (whole tournament, one mat, one round).
+ * Entries are dropped after commit of any change touching their tournament, mat or round.
+ * Cached views are indexed by the matches they hold, so a change finds the views it
+ * moved a match out of without scanning the cache.
+ */
+@Service
+public class ScheduleCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleCache.class);
+    static final String NAME = "schedules";
+
+    /** A null mat and round is the whole tournament; at most one of the two is set. */
+    record Key(Long tournamentId, Integer matNumber, Match.Round round) {
+    }
+
+    private final Cache<Key, List<MatchDTO>> cache;
+    // Guarded by itself; entries are added together with the cache put, so a view is never cached unindexed
+    private final Map<Long, Set<Key>> keysByMatch = new HashMap<>();
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ScheduleCache(long maxMatches, Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxMatches)
+            .weigher((Key key, List<MatchDTO> matches) -> matches.size() + 1)
+            .expireAfterWrite(timeToLive)
+            .removalListener((Key key, List<MatchDTO> matches, RemovalCause cause) -> unindex(key, matches, cause))
+            .recordStats()
+            .build();
+    }
+
+    @Autowired
+    public ScheduleCache(@Value("${app.schedule-cache.max-matches:200000}") long maxMatches,
+                         @Value("${app.schedule-cache.ttl-minutes:10}") long timeToLiveMinutes,
+                         MeterRegistry meterRegistry) {
+        this(maxMatches, Duration.ofMinutes(timeToLiveMinutes));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    public List<MatchDTO> tournament(Long tournamentId, Supplier<List<MatchDTO>> loader) {
+        return get(new Key(tournamentId, null, null), loader);
+    }
+
+    public List<MatchDTO> mat(Long tournamentId, Integer matNumber, Supplier<List<MatchDTO>> loader) {
+        return get(new Key(tournamentId, matNumber, null), loader);
+    }
+
+    public List<MatchDTO> round(Long tournamentId, Match.Round round, Supplier<List<MatchDTO>> loader) {
+        return get(new Key(tournamentId, null, round), loader);
+    }
+
+    private List<MatchDTO> get(Key key, Supplier<List<MatchDTO>> loader) {
+        List<MatchDTO> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        // A change committing while we read may already have run its invalidation, so an entry
+        // is only kept if the tournament generation is unchanged once it is stored
+        long generation = generation(key.tournamentId()).get();
+        List<MatchDTO> loaded = List.copyOf(loader.get());
+        synchronized (keysByMatch) {
+            for (MatchDTO match : loaded) {
+                keysByMatch.computeIfAbsent(match.getId(), id -> new HashSet<>()).add(key);
+            }
+            cache.put(key, loaded);
+        }
+        if (generation(key.tournamentId()).get() != generation) {
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        MatchDTO match = event.getMatch();
+        Long tournamentId = match.getTournamentId();
+        // Views the match now belongs to
+        Set<Key> affected = new HashSet<>();
+        if (tournamentId != null) {
+            generation(tournamentId).incrementAndGet();
+            affected.add(new Key(tournamentId, null, null));
+            if (match.getMatNumber() != null) {
+                affected.add(new Key(tournamentId, match.getMatNumber(), null));
+            }
+            if (event.getPreviousMatNumber() != null) {
+                affected.add(new Key(tournamentId, event.getPreviousMatNumber(), null));
+            }
+            if (match.getRound() != null) {
+                affected.add(new Key(tournamentId, null, match.getRound()));
+            }
+        }
+        // Views that hold it, which an update may have moved it out of, e.g. another round or tournament
+        synchronized (keysByMatch) {
+            Set<Key> holding = keysByMatch.remove(match.getId());
+            if (holding != null) {
+                for (Key key : holding) {
+                    if (affected.add(key) && !key.tournamentId().equals(tournamentId)) {
+                        generation(key.tournamentId()).incrementAndGet();
+                    }
+                }
+            }
+        }
+        for (Key key : affected) {
+            if (cache.asMap().remove(key) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        invalidateTournament(event.getTournamentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        // Cached matches carry participant names and clubs; a new participant is not in any match yet
+        if (event.getType() != ParticipantChangedEvent.Type.CREATED) {
+            generations.values().forEach(AtomicLong::incrementAndGet);
+            invalidations.addAndGet(cache.estimatedSize());
+            cache.invalidateAll();
+        }
+    }
+
+    public void invalidateTournament(Long tournamentId) {
+        generation(tournamentId).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> {
+            boolean affected = key.tournamentId().equals(tournamentId);
+            if (affected) {
+                invalidations.incrementAndGet();
+            }
+            return affected;
+        });
+        logger.debug("Invalidated cached schedules of tournament {}", tournamentId);
+    }
+
+    public CacheStatsDTO getStats() {
+        return CacheStatsDTO.of(NAME, cache.estimatedSize(), cache.stats(), invalidations.get());
+    }
+
+    private void unindex(Key key, List<MatchDTO> matches, RemovalCause cause) {
+        // A replacing entry was indexed for the key already
+        if (matches == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        synchronized (keysByMatch) {
+            if (cache.asMap().containsKey(key)) {
+                return;
+            }
+            for (MatchDTO match : matches) {
+                Set<Key> keys = keysByMatch.get(match.getId());
+                if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                    keysByMatch.remove(match.getId());
+                }
+            }
+        }
+    }
+
+    private AtomicLong generation(Long tournamentId) {
+        return generations.computeIfAbsent(tournamentId, id -> new AtomicLong());
+    }
+}
@@ -0,0 +1,238 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.ConflictReportDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ScheduleConflictDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Index of the scheduled slots of every participant, used to stop an athlete from being booked
+ * on two mats at once or fighting again before the minimum rest is over. Every match lasts the
+ * configured duration, so two slots clash exactly when their starts are less than duration plus
+ * rest apart, and a check is one range lookup in the participant's slots ordered by start.
+ * <p>
+ * A tournament is loaded once on first check and then kept current from committed match changes.
+ */
+@Service
+public class ScheduleConflictService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleConflictService.class);
+
+    private record Slot(LocalDateTime start, Long matchId, Integer matNumber) {
+    }
+
+    private static final Comparator<Slot> BY_START = Comparator.comparing(Slot::start).thenComparing(Slot::matchId);
+
+    /** Mutated and read only while holding its own monitor. */
+    private final class TournamentIndex {
+        private final Map<Long, TreeSet<Slot>> byParticipant = new HashMap<>();
+        private final Map<Long, MatchDTO> scheduled = new HashMap<>();
+
+        private TournamentIndex(List<MatchDTO> matches) {
+            matches.forEach(this::add);
+        }
+
+        private synchronized void apply(MatchDTO match, boolean deleted) {
+            MatchDTO previous = scheduled.remove(match.getId());
+            if (previous != null) {
+                Slot slot = slot(previous);
+                participants(previous).forEach(participantId -> {
+                    TreeSet<Slot> slots = byParticipant.get(participantId);
+                    slots.remove(slot);
+                    if (slots.isEmpty()) {
+                        byParticipant.remove(participantId);
+                    }
+                });
+            }
+            if (!deleted) {
+                add(match);
+            }
+        }
+
+        private void add(MatchDTO match) {
+            if (match.getScheduledTime() == null) {
+                return;
+            }
+            List<Long> participants = participants(match);
+            if (participants.isEmpty()) {
+                return;
+            }
+            Slot slot = slot(match);
+            participants.forEach(participantId ->
+                byParticipant.computeIfAbsent(participantId, id -> new TreeSet<>(BY_START)).add(slot));
+            scheduled.put(match.getId(), match);
+        }
+
+        private synchronized ScheduleConflictDTO find(Long participantId, Slot candidate) {
+            TreeSet<Slot> slots = byParticipant.get(participantId);
+            if (slots == null) {
+                return null;
+            }
+            // Starts strictly inside (start - window, start + window); the match ids make the bounds exclusive
+            NavigableSet<Slot> near = slots.subSet(
+                new Slot(candidate.start().minus(window), Long.MAX_VALUE, null), false,
+                new Slot(candidate.start().plus(window), Long.MIN_VALUE, null), false);
+            for (Slot other : near) {
+                if (!other.matchId().equals(candidate.matchId())) {
+                    return conflict(participantId, candidate, other);
+                }
+            }
+            return null;
+        }
+
+        private synchronized ConflictReportDTO report(Long tournamentId) {
+            List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+            byParticipant.forEach((participantId, slots) -> {
+                List<Slot> ordered = new ArrayList<>(slots);
+                for (int i = 0; i < ordered.size(); i++) {
+                    LocalDateTime clear = ordered.get(i).start().plus(window);
+                    for (int j = i + 1; j < ordered.size() && ordered.get(j).start().isBefore(clear); j++) {
+                        conflicts.add(conflict(participantId, ordered.get(i), ordered.get(j)));
+                    }
+                }
+            });
+            conflicts.sort(Comparator.comparing(ScheduleConflictDTO::getScheduledTime)
+                .thenComparing(ScheduleConflictDTO::getParticipantId));
+            return ConflictReportDTO.of(tournamentId, scheduled.size(), byParticipant.size(),
+                (int) minRest.toMinutes(), conflicts);
+        }
+    }
+
+    private final MatchRepository matchRepository;
+    private final Duration matchDuration;
+    private final Duration minRest;
+    private final Duration window;
+    private final TournamentModels<TournamentIndex> indexes = new TournamentModels<>();
+
+    public ScheduleConflictService(MatchRepository matchRepository, Duration matchDuration, Duration minRest) {
+        this.matchRepository = matchRepository;
+        this.matchDuration = matchDuration;
+        this.minRest = minRest;
+        this.window = matchDuration.plus(minRest);
+    }
+
+    @Autowired
+    public ScheduleConflictService(MatchRepository matchRepository,
+                                   @Value("${app.schedule.match-duration-minutes:6}") long matchDurationMinutes,
+                                   @Value("${app.schedule.min-rest-minutes:20}") long minRestMinutes) {
+        this(matchRepository, Duration.ofMinutes(matchDurationMinutes), Duration.ofMinutes(minRestMinutes));
+    }
+
+    /**
+     * Rejects a match whose fighters are already scheduled too close to its start time.
+     * {@code matchId} is the match being updated, or null for a new one.
+     */
+    public void check(Long matchId, Match candidate) {
+        if (candidate.getScheduledTime() == null || candidate.getTournament() == null
+                || candidate.getTournament().getId() == null) {
+            return;
+        }
+        TournamentIndex index = index(candidate.getTournament().getId());
+        Slot slot = new Slot(candidate.getScheduledTime(), matchId != null ? matchId : Long.MIN_VALUE,
+            candidate.getMatNumber());
+        for (Participant participant : new Participant[]{candidate.getParticipant1(), candidate.getParticipant2()}) {
+            if (participant == null || participant.getId() == null) {
+                continue;
+            }
+            ScheduleConflictDTO conflict = index.find(participant.getId(), slot);
+            if (conflict != null) {
+                throw new IllegalArgumentException(describe(conflict));
+            }
+        }
+    }
+
+    public ConflictReportDTO getReport(Long tournamentId) {
+        return index(tournamentId).report(tournamentId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        MatchDTO match = event.getMatch();
+        TournamentIndex index = indexes.changed(match.getTournamentId());
+        if (index != null) {
+            index.apply(match, event.getType() == MatchChangedEvent.Type.DELETED);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        // Bracket generation and scheduling rewrite matches in bulk; reload lazily
+        if (event.getType() != TournamentChangedEvent.Type.CREATED
+                && event.getType() != TournamentChangedEvent.Type.UPDATED) {
+            indexes.invalidate(event.getTournamentId());
+        }
+    }
+
+    private TournamentIndex index(Long tournamentId) {
+        return indexes.getOrLoad(tournamentId, id -> {
+            TournamentIndex loaded = new TournamentIndex(
+                matchRepository.findByTournamentId(id).stream().map(MatchDTO::from).toList());
+            logger.debug("Indexed {} scheduled matches of tournament {}", loaded.scheduled.size(), id);
+            return loaded;
+        });
+    }
+
+    private ScheduleConflictDTO conflict(Long participantId, Slot slot, Slot other) {
+        Slot earlier = BY_START.compare(slot, other) <= 0 ? slot : other;
+        Slot later = earlier == slot ? other : slot;
+        Duration rest = Duration.between(earlier.start().plus(matchDuration), later.start());
+        ScheduleConflictDTO conflict = new ScheduleConflictDTO();
+        conflict.setParticipantId(participantId);
+        conflict.setType(rest.isNegative() ? ScheduleConflictDTO.Type.DOUBLE_BOOKED : ScheduleConflictDTO.Type.SHORT_REST);
+        conflict.setMatchId(slot.matchId() != Long.MIN_VALUE ? slot.matchId() : null);
+        conflict.setMatNumber(slot.matNumber());
+        conflict.setScheduledTime(slot.start());
+        conflict.setOtherMatchId(other.matchId());
+        conflict.setOtherMatNumber(other.matNumber());
+        conflict.setOtherScheduledTime(other.start());
+        conflict.setRestMinutes(rest.toMinutes());
+        return conflict;
+    }
+
+    private String describe(ScheduleConflictDTO conflict) {
+        if (conflict.getType() == ScheduleConflictDTO.Type.DOUBLE_BOOKED) {
+            return "Participant " + conflict.getParticipantId() + " is already scheduled on mat "
+                + conflict.getOtherMatNumber() + " at " + conflict.getOtherScheduledTime()
+                + " (match " + conflict.getOtherMatchId() + ")";
+        }
+        return "Participant " + conflict.getParticipantId() + " would rest only " + conflict.getRestMinutes()
+            + " minutes next to match " + conflict.getOtherMatchId() + " on mat " + conflict.getOtherMatNumber()
+            + " at " + conflict.getOtherScheduledTime() + " (minimum " + minRest.toMinutes() + ")";
+    }
+
+    private static Slot slot(MatchDTO match) {
+        return new Slot(match.getScheduledTime(), match.getId(), match.getMatNumber());
+    }
+
+    private static List<Long> participants(MatchDTO match) {
+        List<Long> participants = new ArrayList<>(2);
+        if (match.getParticipant1Id() != null) {
+            participants.add(match.getParticipant1Id());
+        }
+        if (match.getParticipant2Id() != null && !match.getParticipant2Id().equals(match.getParticipant1Id())) {
+            participants.add(match.getParticipant2Id());
+        }
+        return participants;
+    }
+}
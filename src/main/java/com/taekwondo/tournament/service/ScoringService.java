@@ -0,0 +1,412 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.LiveScoreDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ScoringEventDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.Topics;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.MatchEvent;
+import com.taekwondo.tournament.repository.MatchEventRepository;
+import com.taekwondo.tournament.repository.MatchRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests judges' scoring events. Each event updates the in-memory live score and is queued in its
+ * mat's ring buffer; a scheduled writer drains all buffers and stores the events in JDBC batches,
+ * so tablets never wait for a database transaction.
+ */
+@Service
+public class ScoringService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringService.class);
+
+    private record MatKey(Long tournamentId, Integer matNumber) {
+    }
+
+    private static final class LiveScore {
+        private final Long matchId;
+        private Long tournamentId;
+        private Integer matNumber;
+        private Long participant1Id;
+        private Long participant2Id;
+        private boolean finished;
+        // Accepted events not yet stored; a finished score is only evicted once they are
+        private int pendingEvents;
+        private boolean evicted;
+        private int score1;
+        private int score2;
+        private int penalties1;
+        private int penalties2;
+        private int roundNumber = 1;
+        private long eventCount;
+
+        private LiveScore(Match match) {
+            this.matchId = match.getId();
+            this.tournamentId = match.getTournament() != null ? match.getTournament().getId() : null;
+            this.matNumber = match.getMatNumber();
+            this.participant1Id = match.getParticipant1() != null ? match.getParticipant1().getId() : null;
+            this.participant2Id = match.getParticipant2() != null ? match.getParticipant2().getId() : null;
+            this.finished = match.getWinner() != null;
+        }
+
+        private synchronized void validate(ScoringEventDTO event) {
+            if (event.getType() == null) {
+                throw new IllegalArgumentException("Scoring event type is required");
+            }
+            if (event.getType() != MatchEvent.Type.ROUND_END
+                    && (event.getParticipantId() == null
+                        || !event.getParticipantId().equals(participant1Id)
+                        && !event.getParticipantId().equals(participant2Id))) {
+                throw new IllegalArgumentException(
+                    "Participant " + event.getParticipantId() + " is not in match " + matchId);
+            }
+        }
+
+        private synchronized void apply(MatchEvent event) {
+            eventCount++;
+            boolean first = Objects.equals(event.getParticipantId(), participant1Id);
+            int points = event.getPoints() != null ? event.getPoints() : 0;
+            switch (event.getType()) {
+                case ROUND_END -> roundNumber++;
+                case PENALTY -> {
+                    // A penalty (gam-jeom) scores for the opponent
+                    if (first) {
+                        penalties1++;
+                        score2 += points;
+                    } else {
+                        penalties2++;
+                        score1 += points;
+                    }
+                }
+                default -> {
+                    if (first) {
+                        score1 += points;
+                    } else {
+                        score2 += points;
+                    }
+                }
+            }
+        }
+
+        private synchronized void update(MatchDTO match) {
+            this.tournamentId = match.getTournamentId();
+            this.matNumber = match.getMatNumber();
+            this.participant1Id = match.getParticipant1Id();
+            this.participant2Id = match.getParticipant2Id();
+            this.finished = match.getWinnerId() != null;
+        }
+
+        /**
+         * Counts the events as pending and returns the mat they are queued for, or null if the score
+         * was evicted and must be loaded again.
+         */
+        private synchronized MatKey reserve(int events) {
+            if (evicted) {
+                return null;
+            }
+            pendingEvents += events;
+            return new MatKey(tournamentId, matNumber);
+        }
+
+        private synchronized void release(int events) {
+            pendingEvents -= events;
+        }
+
+        private synchronized boolean inTournament(Long tournamentId) {
+            return tournamentId.equals(this.tournamentId);
+        }
+
+        private synchronized boolean evictIfDone() {
+            evicted = finished && pendingEvents == 0;
+            return evicted;
+        }
+
+        private synchronized LiveScoreDTO toDTO() {
+            LiveScoreDTO dto = new LiveScoreDTO();
+            dto.setMatchId(matchId);
+            dto.setTournamentId(tournamentId);
+            dto.setMatNumber(matNumber);
+            dto.setParticipant1Id(participant1Id);
+            dto.setParticipant2Id(participant2Id);
+            dto.setScore1(score1);
+            dto.setScore2(score2);
+            dto.setPenalties1(penalties1);
+            dto.setPenalties2(penalties2);
+            dto.setRoundNumber(roundNumber);
+            dto.setEventCount(eventCount);
+            return dto;
+        }
+    }
+
+    private final MatchRepository matchRepository;
+    private final MatchEventRepository matchEventRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final LiveFeedService liveFeedService;
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final int maxPendingRetries;
+    private final Map<MatKey, MpscRingBuffer<MatchEvent>> buffers = new ConcurrentHashMap<>();
+    private final Map<Long, LiveScore> scores = new ConcurrentHashMap<>();
+    // Only touched by the writer while holding writerLock
+    private final List<MatchEvent> failedWrites = new ArrayList<>();
+    private final Object writerLock = new Object();
+
+    @Autowired
+    public ScoringService(MatchRepository matchRepository,
+                          MatchEventRepository matchEventRepository,
+                          EntityManager entityManager,
+                          PlatformTransactionManager transactionManager,
+                          LiveFeedService liveFeedService,
+                          @Value("${app.scoring.buffer-capacity:4096}") int bufferCapacity,
+                          @Value("${app.scoring.batch-size:500}") int batchSize) {
+        this.matchRepository = matchRepository;
+        this.matchEventRepository = matchEventRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.liveFeedService = liveFeedService;
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.maxPendingRetries = bufferCapacity * 4;
+    }
+
+    /**
+     * Returns how many of the events were accepted; fewer than submitted means the mat's buffer is full
+     * and the remainder should be resent.
+     */
+    public int ingest(Long matchId, List<ScoringEventDTO> events) {
+        LiveScore score = liveScore(matchId);
+        events.forEach(score::validate);
+        MatKey mat = score.reserve(events.size());
+        while (mat == null) {
+            // The writer evicted the finished score; its events are all stored, so reload it from them
+            scores.remove(matchId, score);
+            score = liveScore(matchId);
+            mat = score.reserve(events.size());
+        }
+        MpscRingBuffer<MatchEvent> buffer = buffers.computeIfAbsent(mat, key -> new MpscRingBuffer<>(bufferCapacity));
+
+        Instant receivedAt = Instant.now();
+        int accepted = 0;
+        for (ScoringEventDTO dto : events) {
+            MatchEvent event = toEntity(score.matchId, mat, dto, receivedAt);
+            if (!buffer.offer(event)) {
+                logger.warn("Scoring buffer for mat {} of tournament {} is full", mat.matNumber(), mat.tournamentId());
+                break;
+            }
+            score.apply(event);
+            accepted++;
+        }
+        score.release(events.size() - accepted);
+        if (accepted > 0 && mat.tournamentId() != null) {
+            List<String> topics = mat.matNumber() != null
+                ? List.of(Topics.tournament(mat.tournamentId()), Topics.mat(mat.tournamentId(), mat.matNumber()))
+                : List.of(Topics.tournament(mat.tournamentId()));
+            liveFeedService.publish(topics, "score", score.toDTO());
+        }
+        return accepted;
+    }
+
+    public LiveScoreDTO getLiveScore(Long matchId) {
+        return liveScore(matchId).toDTO();
+    }
+
+    public List<MatchEvent> getStoredEvents(Long matchId) {
+        return matchEventRepository.findByMatchIdOrderByIdAsc(matchId);
+    }
+
+    public int getPendingEventCount() {
+        return buffers.values().stream().mapToInt(MpscRingBuffer::size).sum();
+    }
+
+    int getLiveScoreCount() {
+        return scores.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.scoring.flush-interval-ms:200}")
+    public void flush() {
+        synchronized (writerLock) {
+            List<MatchEvent> pending = new ArrayList<>(failedWrites);
+            failedWrites.clear();
+            for (MpscRingBuffer<MatchEvent> buffer : buffers.values()) {
+                buffer.drain(pending::add, Integer.MAX_VALUE);
+            }
+            // A match moved between mats has events in two buffers; the stable sort keeps each buffer's order
+            pending.sort(Comparator.comparing(MatchEvent::getReceivedAt));
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                List<MatchEvent> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+                try {
+                    store(chunk);
+                    released(chunk);
+                } catch (RuntimeException e) {
+                    // One event of a deleted match must not hold back the rest of the chunk
+                    logger.warn("Failed to store {} scoring events as a batch, retrying one by one: {}", chunk.size(),
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                    storeAlone(chunk);
+                }
+            }
+            if (failedWrites.size() > maxPendingRetries) {
+                int dropped = failedWrites.size() - maxPendingRetries;
+                released(failedWrites.subList(0, dropped));
+                failedWrites.subList(0, dropped).clear();
+                logger.error("Dropped {} scoring events after repeated write failures", dropped);
+            }
+            // Finished matches are read from the stored events again if anyone still asks for them
+            scores.values().removeIf(LiveScore::evictIfDone);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        MatchDTO match = event.getMatch();
+        if (event.getType() == MatchChangedEvent.Type.DELETED) {
+            scores.remove(match.getId());
+            discard(pending -> match.getId().equals(pending.getMatchId()));
+            return;
+        }
+        LiveScore score = scores.get(match.getId());
+        if (score != null) {
+            score.update(match);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        // Both delete the tournament's matches in bulk, without a change per match
+        if (event.getType() != TournamentChangedEvent.Type.BRACKETS_GENERATED
+                && event.getType() != TournamentChangedEvent.Type.DELETED) {
+            return;
+        }
+        Long tournamentId = event.getTournamentId();
+        scores.values().removeIf(score -> score.inTournament(tournamentId));
+        discard(pending -> tournamentId.equals(pending.getTournamentId()));
+    }
+
+    private void store(List<MatchEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            events.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private void storeAlone(List<MatchEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            MatchEvent event = events.get(i);
+            event.setId(null);
+            try {
+                store(List.of(event));
+                released(List.of(event));
+            } catch (RuntimeException e) {
+                if (!isConstraintViolation(e)) {
+                    // The database itself is failing; keep this and the remaining events for the next run
+                    logger.error("Failed to store scoring events, will retry: {}", e.getMessage());
+                    List<MatchEvent> remaining = events.subList(i, events.size());
+                    remaining.forEach(unstored -> unstored.setId(null));
+                    failedWrites.addAll(remaining);
+                    return;
+                }
+                // The match was deleted before its events were stored
+                logger.warn("Dropped scoring event for match {}: {}", event.getMatchId(),
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                released(List.of(event));
+            }
+        }
+    }
+
+    /**
+     * Removes events of deleted matches before they are written; their rows would break the foreign key.
+     */
+    private void discard(Predicate<MatchEvent> deleted) {
+        synchronized (writerLock) {
+            // Buffered events are newer than the retries, so appending them keeps the write order of flush
+            for (MpscRingBuffer<MatchEvent> buffer : buffers.values()) {
+                buffer.drain(failedWrites::add, Integer.MAX_VALUE);
+            }
+            int before = failedWrites.size();
+            failedWrites.removeIf(deleted);
+            if (failedWrites.size() < before) {
+                logger.info("Discarded {} scoring events of deleted matches", before - failedWrites.size());
+            }
+        }
+    }
+
+    private static boolean isConstraintViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException || cause instanceof DataIntegrityViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void released(List<MatchEvent> events) {
+        events.stream()
+            .collect(Collectors.groupingBy(MatchEvent::getMatchId, Collectors.counting()))
+            .forEach((matchId, count) -> {
+                LiveScore score = scores.get(matchId);
+                if (score != null) {
+                    score.release(count.intValue());
+                }
+            });
+    }
+
+    private LiveScore liveScore(Long matchId) {
+        return scores.computeIfAbsent(matchId, id -> {
+            Match match = matchRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Match not found with id: " + id));
+            // After a restart the score is rebuilt from the events already stored
+            LiveScore score = new LiveScore(match);
+            matchEventRepository.findByMatchIdOrderByIdAsc(id).forEach(score::apply);
+            return score;
+        });
+    }
+
+    private MatchEvent toEntity(Long matchId, MatKey mat, ScoringEventDTO dto, Instant receivedAt) {
+        MatchEvent event = new MatchEvent();
+        event.setMatchId(matchId);
+        event.setTournamentId(mat.tournamentId());
+        event.setMatNumber(mat.matNumber());
+        event.setType(dto.getType());
+        event.setParticipantId(dto.getParticipantId());
+        event.setPoints(dto.getPoints() != null ? dto.getPoints() : dto.getType().getDefaultPoints());
+        event.setRoundNumber(dto.getRoundNumber());
+        event.setJudge(dto.getJudge());
+        event.setOccurredAt(dto.getOccurredAt());
+        event.setReceivedAt(receivedAt);
+        return event;
+    }
+}
@@ -0,0 +1,206 @@
+package com.taekwondo.tournament.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only record log split into segment files named after their first sequence number.
+ * Each record is framed as length, CRC32, sequence and payload, so a write torn by a crash is
+ * detected and cut off when the log is opened. Appends must come from one thread at a time;
+ * reads may run concurrently with them.
+ */
+class SegmentLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentLog.class);
+    private static final String SUFFIX = ".log";
+    // length (int), checksum (int), sequence (long)
+    private static final int HEADER_BYTES = 16;
+    private static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+
+    record Entry(long sequence, byte[] payload) {
+    }
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final NavigableMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+    private FileChannel current;
+    private long currentSize;
+    private volatile long lastSequence;
+
+    SegmentLog(Path directory, long segmentBytes) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                .forEach(file -> segments.put(firstSequence(file), file));
+        }
+        if (!segments.isEmpty()) {
+            Map.Entry<Long, Path> last = segments.lastEntry();
+            long[] lastInSegment = {last.getKey() - 1};
+            long validBytes = scan(last.getValue(), Long.MIN_VALUE, entry -> {
+                lastInSegment[0] = entry.sequence();
+                return true;
+            });
+            current = FileChannel.open(last.getValue(), StandardOpenOption.WRITE);
+            if (validBytes < current.size()) {
+                logger.warn("Truncating {} bytes of incomplete records from event log segment {}",
+                    current.size() - validBytes, last.getValue().getFileName());
+                current.truncate(validBytes);
+            }
+            current.position(validBytes);
+            currentSize = validBytes;
+            lastSequence = lastInSegment[0];
+        }
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    long sizeInBytes() throws IOException {
+        long total = 0;
+        for (Path segment : segments.values()) {
+            total += Files.size(segment);
+        }
+        return total;
+    }
+
+    /**
+     * Moves the sequence forward without writing, e.g. when a snapshot is newer than the log tail.
+     */
+    void advanceTo(long sequence) {
+        if (sequence > lastSequence) {
+            lastSequence = sequence;
+        }
+    }
+
+    void append(long sequence, byte[] payload) throws IOException {
+        if (sequence != lastSequence + 1) {
+            throw new IllegalStateException("Expected sequence " + (lastSequence + 1) + " but got " + sequence);
+        }
+        if (current == null || currentSize >= segmentBytes) {
+            roll(sequence);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length).putInt(0).putLong(sequence).put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 8, buffer.capacity() - 8);
+        buffer.putInt(4, (int) crc.getValue()).flip();
+        try {
+            while (buffer.hasRemaining()) {
+                current.write(buffer);
+            }
+        } catch (IOException e) {
+            // Never leave a partial record in front of the next one
+            current.truncate(currentSize);
+            current.position(currentSize);
+            throw e;
+        }
+        currentSize += buffer.capacity();
+        lastSequence = sequence;
+    }
+
+    void force() throws IOException {
+        if (current != null) {
+            current.force(false);
+        }
+    }
+
+    /**
+     * Passes records from {@code fromSequence} on to the consumer in order until it returns false.
+     */
+    void read(long fromSequence, Predicate<Entry> consumer) throws IOException {
+        Long start = segments.floorKey(fromSequence);
+        NavigableMap<Long, Path> tail = start != null ? segments.tailMap(start, true) : segments;
+        Long lastKey = tail.isEmpty() ? null : tail.lastKey();
+        for (Map.Entry<Long, Path> segment : tail.entrySet()) {
+            long validBytes = scan(segment.getValue(), fromSequence, consumer);
+            if (validBytes < 0) {
+                return;
+            }
+            // Only the segment being written may end in an incomplete record
+            if (!segment.getKey().equals(lastKey) && validBytes < Files.size(segment.getValue())) {
+                throw new IllegalStateException("Event log segment " + segment.getValue().getFileName()
+                    + " is corrupt after byte " + validBytes);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            current.force(false);
+            current.close();
+            current = null;
+        }
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        close();
+        Path segment = directory.resolve(String.format("%020d%s", firstSequence, SUFFIX));
+        current = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        currentSize = 0;
+        segments.put(firstSequence, segment);
+        logger.debug("Started event log segment {}", segment.getFileName());
+    }
+
+    /**
+     * Returns the number of bytes holding complete, intact records, or -1 if the consumer stopped the scan.
+     */
+    private static long scan(Path segment, long fromSequence, Predicate<Entry> consumer) throws IOException {
+        long validBytes = 0;
+        byte[] header = new byte[HEADER_BYTES];
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(segment), 1 << 16)) {
+            while (in.readNBytes(header, 0, HEADER_BYTES) == HEADER_BYTES) {
+                ByteBuffer fields = ByteBuffer.wrap(header);
+                int length = fields.getInt();
+                int checksum = fields.getInt();
+                long sequence = fields.getLong();
+                if (length < 0 || length > MAX_RECORD_BYTES) {
+                    break;
+                }
+                byte[] payload = in.readNBytes(length);
+                if (payload.length < length) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(header, 8, HEADER_BYTES - 8);
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                validBytes += HEADER_BYTES + length;
+                if (sequence >= fromSequence && !consumer.test(new Entry(sequence, payload))) {
+                    return -1;
+                }
+            }
+        }
+        return validBytes;
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,350 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.StandingsDTO;
+import com.taekwondo.tournament.event.ClubChangedEvent;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.repository.ClubRepository;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Medal table and win/loss record per club and per participant, kept current from match results
+ * instead of scanning every match on each view. A tournament's standings are loaded on first view;
+ * after that a result only moves the counts of its two fighters and their clubs.
+ * <p>
+ * Gold and silver go to the winner and loser of a category's final, bronze to both losing
+ * semi-finalists. A corrected result first takes back what the previous one counted.
+ */
+@Service
+public class StandingsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingsService.class);
+    private static final Comparator<Tally> TABLE_ORDER = Comparator
+        .comparingInt((Tally tally) -> -tally.gold)
+        .thenComparingInt(tally -> -tally.silver)
+        .thenComparingInt(tally -> -tally.bronze)
+        .thenComparingInt(tally -> -tally.wins)
+        .thenComparing(tally -> tally.name, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(tally -> tally.id);
+
+    private record Fighter(Long participantId, String name, Long clubId) {
+    }
+
+    // What one decided match counts towards the standings
+    private record Outcome(Match.Round round, Fighter winner, Fighter loser) {
+    }
+
+    private static final class Tally {
+        private final Long id;
+        private String name;
+        private Long clubId;
+        private int gold;
+        private int silver;
+        private int bronze;
+        private int wins;
+        private int losses;
+
+        private Tally(Long id) {
+            this.id = id;
+        }
+
+        private void add(int wins, int losses, int gold, int silver, int bronze) {
+            this.wins += wins;
+            this.losses += losses;
+            this.gold += gold;
+            this.silver += silver;
+            this.bronze += bronze;
+        }
+
+        private boolean isEmpty() {
+            return wins == 0 && losses == 0 && gold == 0 && silver == 0 && bronze == 0;
+        }
+
+        private boolean ranksWith(Tally other) {
+            return gold == other.gold && silver == other.silver && bronze == other.bronze && wins == other.wins;
+        }
+    }
+
+    private final class TournamentStandings {
+        private final Long tournamentId;
+        // Guarded by this
+        private final Map<Long, Outcome> outcomes = new HashMap<>();
+        private final Map<Long, Tally> participants = new HashMap<>();
+        private final Map<Long, Tally> clubs = new HashMap<>();
+        private long revision = revisions.incrementAndGet();
+        private StandingsDTO rendered;
+
+        private TournamentStandings(Long tournamentId, List<MatchDTO> matches) {
+            this.tournamentId = tournamentId;
+            matches.forEach(match -> apply(match, false));
+        }
+
+        private synchronized void apply(MatchDTO match, boolean deleted) {
+            Outcome outcome = deleted ? null : outcome(match);
+            Outcome previous = outcome != null ? outcomes.put(match.getId(), outcome) : outcomes.remove(match.getId());
+            // Rescheduling and slot assignments leave the standings, and so their entity tag, untouched
+            if (Objects.equals(previous, outcome)) {
+                return;
+            }
+            if (previous != null) {
+                count(previous, -1);
+            }
+            if (outcome != null) {
+                count(outcome, 1);
+            }
+            revision = revisions.incrementAndGet();
+            rendered = null;
+        }
+
+        private synchronized String etag() {
+            return "\"" + epoch + "-s" + tournamentId + "-" + revision + "\"";
+        }
+
+        private synchronized StandingsDTO standings() {
+            if (rendered == null) {
+                rendered = render();
+            }
+            return rendered;
+        }
+
+        private void count(Outcome outcome, int sign) {
+            int medal = outcome.round() == Match.Round.FINAL ? sign : 0;
+            int bronze = outcome.round() == Match.Round.SEMI_FINAL ? sign : 0;
+            count(outcome.winner(), sign, 0, medal, 0, 0);
+            count(outcome.loser(), 0, sign, 0, medal, bronze);
+        }
+
+        private void count(Fighter fighter, int wins, int losses, int gold, int silver, int bronze) {
+            Tally participant = participants.computeIfAbsent(fighter.participantId(), Tally::new);
+            participant.name = fighter.name();
+            participant.clubId = fighter.clubId();
+            participant.add(wins, losses, gold, silver, bronze);
+            if (participant.isEmpty()) {
+                participants.remove(fighter.participantId());
+            }
+            if (fighter.clubId() != null) {
+                Tally club = clubs.computeIfAbsent(fighter.clubId(), Tally::new);
+                club.add(wins, losses, gold, silver, bronze);
+                if (club.isEmpty()) {
+                    clubs.remove(fighter.clubId());
+                }
+            }
+        }
+
+        private StandingsDTO render() {
+            List<Long> unnamed = clubs.keySet().stream().filter(id -> !clubNames.containsKey(id)).toList();
+            if (!unnamed.isEmpty()) {
+                clubRepository.findAllById(unnamed).forEach(club -> clubNames.put(club.getId(), club.getName()));
+            }
+            clubs.values().forEach(club -> club.name = clubNames.get(club.id));
+
+            List<Tally> clubTable = sorted(clubs.values());
+            List<StandingsDTO.ClubStanding> clubRows = new ArrayList<>(clubTable.size());
+            int[] clubRanks = ranks(clubTable);
+            for (int i = 0; i < clubTable.size(); i++) {
+                Tally tally = clubTable.get(i);
+                StandingsDTO.ClubStanding row = new StandingsDTO.ClubStanding();
+                row.setRank(clubRanks[i]);
+                row.setClubId(tally.id);
+                row.setClubName(tally.name);
+                row.setGold(tally.gold);
+                row.setSilver(tally.silver);
+                row.setBronze(tally.bronze);
+                row.setWins(tally.wins);
+                row.setLosses(tally.losses);
+                clubRows.add(row);
+            }
+
+            List<Tally> participantTable = sorted(participants.values());
+            List<StandingsDTO.ParticipantStanding> participantRows = new ArrayList<>(participantTable.size());
+            int[] participantRanks = ranks(participantTable);
+            for (int i = 0; i < participantTable.size(); i++) {
+                Tally tally = participantTable.get(i);
+                StandingsDTO.ParticipantStanding row = new StandingsDTO.ParticipantStanding();
+                row.setRank(participantRanks[i]);
+                row.setParticipantId(tally.id);
+                row.setParticipantName(tally.name);
+                row.setClubId(tally.clubId);
+                row.setGold(tally.gold);
+                row.setSilver(tally.silver);
+                row.setBronze(tally.bronze);
+                row.setWins(tally.wins);
+                row.setLosses(tally.losses);
+                participantRows.add(row);
+            }
+            return StandingsDTO.of(tournamentId, clubRows, participantRows);
+        }
+    }
+
+    private final MatchRepository matchRepository;
+    private final TournamentRepository tournamentRepository;
+    private final ClubRepository clubRepository;
+    private final ForkJoinPool pool;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong revisions = new AtomicLong();
+    private final TournamentModels<TournamentStandings> tournaments = new TournamentModels<>();
+    private final Map<Long, String> clubNames = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StandingsService(MatchRepository matchRepository,
+                            TournamentRepository tournamentRepository,
+                            ClubRepository clubRepository,
+                            @Value("${app.standings.rebuild-parallelism:0}") int parallelism) {
+        this.matchRepository = matchRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.clubRepository = clubRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public StandingsDTO getStandings(Long tournamentId) {
+        return standings(tournamentId).standings();
+    }
+
+    public String etag(Long tournamentId) {
+        return standings(tournamentId).etag();
+    }
+
+    /**
+     * Recounts the standings of the given tournaments from their stored results, loading them in parallel.
+     * Meant for historical tournaments and for repairing counts; live tournaments are kept current by events.
+     */
+    public int rebuild(Collection<Long> tournamentIds) {
+        long start = System.nanoTime();
+        Map<Long, Long> seen = tournamentIds.stream()
+            .distinct()
+            .collect(Collectors.toMap(Function.identity(), tournaments::version));
+        List<TournamentStandings> rebuilt = pool.submit(() -> seen.keySet().parallelStream()
+            .map(this::load)
+            .toList()).join();
+        int discarded = 0;
+        for (TournamentStandings standings : rebuilt) {
+            tournaments.put(standings.tournamentId, standings);
+            if (tournaments.version(standings.tournamentId) != seen.get(standings.tournamentId)) {
+                // A result committed during the rebuild may be missing; it loads again on its next view
+                tournaments.remove(standings.tournamentId, standings);
+                discarded++;
+            }
+        }
+        logger.info("Rebuilt standings of {} tournaments in {} ms ({} changed meanwhile)", rebuilt.size(),
+            (System.nanoTime() - start) / 1_000_000, discarded);
+        return rebuilt.size();
+    }
+
+    public int rebuildAll() {
+        return rebuild(tournamentRepository.findAllIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        MatchDTO match = event.getMatch();
+        TournamentStandings standings = tournaments.changed(match.getTournamentId());
+        if (standings != null) {
+            standings.apply(match, event.getType() == MatchChangedEvent.Type.DELETED);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        // Regenerated brackets replace every match without a change per match
+        if (event.getType() != TournamentChangedEvent.Type.CREATED
+                && event.getType() != TournamentChangedEvent.Type.UPDATED) {
+            tournaments.invalidate(event.getTournamentId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        // A participant may have been renamed or moved to another club; reload lazily
+        if (event.getType() != ParticipantChangedEvent.Type.CREATED) {
+            tournaments.invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClubChanged(ClubChangedEvent event) {
+        if (event.getType() != ClubChangedEvent.Type.CREATED) {
+            clubNames.remove(event.getClub().getId());
+            tournaments.invalidateAll();
+        }
+    }
+
+    private TournamentStandings standings(Long tournamentId) {
+        return tournaments.getOrLoad(tournamentId, this::load);
+    }
+
+    private TournamentStandings load(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new RuntimeException("Tournament not found with id: " + tournamentId);
+        }
+        List<Match> matches = matchRepository.findByTournamentId(tournamentId);
+        for (Match match : matches) {
+            rememberClub(match.getParticipant1());
+            rememberClub(match.getParticipant2());
+        }
+        return new TournamentStandings(tournamentId, matches.stream().map(MatchDTO::from).toList());
+    }
+
+    private void rememberClub(Participant participant) {
+        if (participant != null && participant.getClub() != null) {
+            clubNames.put(participant.getClub().getId(), participant.getClub().getName());
+        }
+    }
+
+    // Byes and undecided matches count for nobody
+    private static Outcome outcome(MatchDTO match) {
+        if (match.getWinnerId() == null || match.getParticipant1Id() == null || match.getParticipant2Id() == null) {
+            return null;
+        }
+        Fighter first = new Fighter(match.getParticipant1Id(), match.getParticipant1Name(), match.getParticipant1ClubId());
+        Fighter second = new Fighter(match.getParticipant2Id(), match.getParticipant2Name(), match.getParticipant2ClubId());
+        return match.getWinnerId().equals(first.participantId())
+            ? new Outcome(match.getRound(), first, second)
+            : new Outcome(match.getRound(), second, first);
+    }
+
+    private static List<Tally> sorted(Collection<Tally> tallies) {
+        List<Tally> table = new ArrayList<>(tallies);
+        table.sort(TABLE_ORDER);
+        return table;
+    }
+
+    // Rows with the same medals and wins share a rank, and the next row skips the shared places
+    private static int[] ranks(List<Tally> table) {
+        int[] ranks = new int[table.size()];
+        for (int i = 0; i < table.size(); i++) {
+            ranks[i] = i > 0 && table.get(i).ranksWith(table.get(i - 1)) ? ranks[i - 1] : i + 1;
+        }
+        return ranks;
+    }
+}
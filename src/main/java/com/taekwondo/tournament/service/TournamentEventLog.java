@@ -0,0 +1,433 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.EventLogEntry;
+import com.taekwondo.tournament.dto.EventLogStatusDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.ParticipantsImportedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Append-only audit log of committed tournament changes, written sequentially to local segment
+ * files. The service also keeps the live match and participant state the log describes and serves
+ * it as the log's view of the matches, to be compared with the database when auditing or recovering;
+ * periodic snapshots of that state let a restarted node recover by loading the latest snapshot and
+ * replaying only the records written after it.
+ */
+@Service
+public class TournamentEventLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TournamentEventLog.class);
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".json";
+
+    public record Snapshot(long sequence, Instant takenAt, List<MatchDTO> matches, List<ParticipantDTO> participants) {
+    }
+
+    private final MatchRepository matchRepository;
+    private final ParticipantRepository participantRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    // Guards the log writer and the live state, so the state always matches the log tail
+    private final Object lock = new Object();
+    private final Map<Long, MatchDTO> matches = new HashMap<>();
+    private final Map<Long, ParticipantDTO> participants = new HashMap<>();
+    private SegmentLog log;
+    // -1 until a snapshot has been written or loaded
+    private volatile long snapshotSequence = -1;
+    private long replayedEvents;
+    private long recoveryMillis;
+
+    @Autowired
+    public TournamentEventLog(MatchRepository matchRepository,
+                              ParticipantRepository participantRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${app.event-log.enabled:true}") boolean enabled,
+                              @Value("${app.event-log.dir:data/event-log}") String directory,
+                              @Value("${app.event-log.segment-size-mb:64}") long segmentSizeMb) {
+        this.matchRepository = matchRepository;
+        this.participantRepository = participantRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentSizeMb * 1024 * 1024;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        synchronized (lock) {
+            Snapshot snapshot = loadLatestSnapshot();
+            if (snapshot != null) {
+                snapshot.matches().forEach(match -> matches.put(match.getId(), match));
+                snapshot.participants().forEach(participant -> participants.put(participant.getId(), participant));
+                snapshotSequence = snapshot.sequence();
+            }
+            log = new SegmentLog(directory, segmentBytes);
+            long replayFrom = Math.max(snapshotSequence, 0) + 1;
+            log.advanceTo(replayFrom - 1);
+            log.read(replayFrom, record -> {
+                apply(parse(record.payload()));
+                replayedEvents++;
+                return true;
+            });
+        }
+        recoveryMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Recovered event log state at sequence {} from snapshot {} plus {} events in {} ms",
+            log.lastSequence(), snapshotSequence, replayedEvents, recoveryMillis);
+    }
+
+    /**
+     * The first start against an existing database has no log yet; seed the state from the tables
+     * once and snapshot it, so later restarts never need to read them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            if (log.lastSequence() > 0 || snapshotSequence >= 0) {
+                return;
+            }
+            participantRepository.findAll().forEach(participant ->
+                participants.put(participant.getId(), ParticipantDTO.from(participant)));
+            matchRepository.findAll().forEach(match -> matches.put(match.getId(), MatchDTO.from(match)));
+            logger.info("Seeded event log state with {} matches and {} participants from the database",
+                matches.size(), participants.size());
+        }
+        snapshot();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        EventLogEntry.Type type = switch (event.getType()) {
+            case CREATED -> EventLogEntry.Type.MATCH_CREATED;
+            case UPDATED -> event.getPreviousMatNumber() != null
+                ? EventLogEntry.Type.MAT_REASSIGNED : EventLogEntry.Type.MATCH_UPDATED;
+            case RESULT_RECORDED -> EventLogEntry.Type.RESULT_RECORDED;
+            case DELETED -> EventLogEntry.Type.MATCH_DELETED;
+        };
+        EventLogEntry entry = new EventLogEntry(type, event.getMatch().getTournamentId());
+        entry.setMatch(event.getMatch());
+        entry.setPreviousMatNumber(event.getPreviousMatNumber());
+        entry.setPreviousWinnerId(event.getPreviousWinnerId());
+        append(entry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        EventLogEntry entry = new EventLogEntry(switch (event.getType()) {
+            case CREATED -> EventLogEntry.Type.PARTICIPANT_CREATED;
+            case UPDATED -> EventLogEntry.Type.PARTICIPANT_UPDATED;
+            case DELETED -> EventLogEntry.Type.PARTICIPANT_DELETED;
+        }, null);
+        entry.setParticipant(event.getParticipant());
+        append(entry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantsImported(ParticipantsImportedEvent event) {
+        EventLogEntry entry = new EventLogEntry(EventLogEntry.Type.PARTICIPANTS_IMPORTED, null);
+        entry.setParticipants(event.getParticipants());
+        append(entry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        EventLogEntry entry = new EventLogEntry(switch (event.getType()) {
+            case CREATED -> EventLogEntry.Type.TOURNAMENT_CREATED;
+            case UPDATED -> EventLogEntry.Type.TOURNAMENT_UPDATED;
+            case BRACKETS_GENERATED -> EventLogEntry.Type.BRACKETS_GENERATED;
+            case SCHEDULED -> EventLogEntry.Type.TOURNAMENT_SCHEDULED;
+            case DELETED -> EventLogEntry.Type.TOURNAMENT_DELETED;
+        }, event.getTournamentId());
+        if (entry.getType() == EventLogEntry.Type.BRACKETS_GENERATED
+                || entry.getType() == EventLogEntry.Type.TOURNAMENT_SCHEDULED) {
+            // Bulk changes publish no per-match events, so the record carries the resulting matches
+            entry.setMatches(matchRepository.findByTournamentId(event.getTournamentId()).stream()
+                .map(MatchDTO::from)
+                .toList());
+        }
+        append(entry);
+    }
+
+    /**
+     * Returns up to {@code limit} entries after {@code sinceSequence}, optionally for one tournament.
+     */
+    public List<EventLogEntry> getEntries(long sinceSequence, int limit, Long tournamentId) {
+        if (!enabled) {
+            return List.of();
+        }
+        List<EventLogEntry> entries = new ArrayList<>();
+        try {
+            log.read(sinceSequence + 1, record -> {
+                EventLogEntry entry = parse(record.payload());
+                if (tournamentId == null || tournamentId.equals(entry.getTournamentId())
+                        || entry.getMatch() != null && tournamentId.equals(entry.getMatch().getTournamentId())) {
+                    entries.add(entry);
+                }
+                return entries.size() < limit;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the event log", e);
+        }
+        return entries;
+    }
+
+    public EventLogStatusDTO getStatus() {
+        EventLogStatusDTO status = new EventLogStatusDTO();
+        status.setEnabled(enabled);
+        if (!enabled) {
+            return status;
+        }
+        synchronized (lock) {
+            status.setLastSequence(log.lastSequence());
+            status.setSegmentCount(log.segmentCount());
+            status.setMatches(matches.size());
+            status.setParticipants(participants.size());
+        }
+        try {
+            status.setLogBytes(log.sizeInBytes());
+        } catch (IOException e) {
+            logger.warn("Could not size the event log: {}", e.getMessage());
+        }
+        status.setSnapshotSequence(snapshotSequence);
+        status.setReplayedEvents(replayedEvents);
+        status.setRecoveryMillis(recoveryMillis);
+        return status;
+    }
+
+    /** The match as the log describes it, or null if the log holds no such match. */
+    public MatchDTO getMatch(Long matchId) {
+        synchronized (lock) {
+            return matches.get(matchId);
+        }
+    }
+
+    public List<MatchDTO> getTournamentMatches(Long tournamentId) {
+        synchronized (lock) {
+            return matches.values().stream()
+                .filter(match -> tournamentId.equals(match.getTournamentId()))
+                .sorted(Comparator.comparing(MatchDTO::getId))
+                .toList();
+        }
+    }
+
+    /**
+     * Writes the live state to a new snapshot file if anything was logged since the last one.
+     * Only the copy of the state is taken under the lock; serialization runs outside it.
+     */
+    @Scheduled(fixedDelayString = "${app.event-log.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        if (!enabled) {
+            return;
+        }
+        Snapshot snapshot;
+        synchronized (lock) {
+            if (log.lastSequence() == snapshotSequence) {
+                return;
+            }
+            snapshot = new Snapshot(log.lastSequence(), Instant.now(),
+                new ArrayList<>(matches.values()), new ArrayList<>(participants.values()));
+        }
+        try {
+            writeSnapshot(snapshot);
+            snapshotSequence = snapshot.sequence();
+        } catch (IOException e) {
+            logger.error("Failed to write event log snapshot at sequence {}: {}", snapshot.sequence(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.event-log.sync-interval-ms:1000}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            try {
+                log.force();
+            } catch (IOException e) {
+                logger.error("Failed to sync the event log: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled || log == null) {
+            return;
+        }
+        snapshot();
+        synchronized (lock) {
+            log.close();
+        }
+    }
+
+    private void append(EventLogEntry entry) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            entry.setSequence(log.lastSequence() + 1);
+            entry.setTimestamp(Instant.now());
+            try {
+                log.append(entry.getSequence(), objectMapper.writeValueAsBytes(entry));
+            } catch (IOException e) {
+                // The change is already committed; losing its audit record must not fail the request
+                logger.error("Failed to append {} to the event log: {}", entry.getType(), e.getMessage());
+                return;
+            }
+            apply(entry);
+        }
+    }
+
+    private void apply(EventLogEntry entry) {
+        switch (entry.getType()) {
+            case MATCH_CREATED, MATCH_UPDATED, MAT_REASSIGNED, RESULT_RECORDED ->
+                matches.put(entry.getMatch().getId(), entry.getMatch());
+            case MATCH_DELETED -> matches.remove(entry.getMatch().getId());
+            case BRACKETS_GENERATED, TOURNAMENT_SCHEDULED -> {
+                matches.values().removeIf(match -> entry.getTournamentId().equals(match.getTournamentId()));
+                entry.getMatches().forEach(match -> matches.put(match.getId(), match));
+            }
+            case TOURNAMENT_DELETED ->
+                matches.values().removeIf(match -> entry.getTournamentId().equals(match.getTournamentId()));
+            case PARTICIPANT_CREATED -> participants.put(entry.getParticipant().getId(), entry.getParticipant());
+            case PARTICIPANT_UPDATED -> {
+                ParticipantDTO participant = entry.getParticipant();
+                participants.put(participant.getId(), participant);
+                renameInMatches(participant);
+            }
+            case PARTICIPANT_DELETED -> participants.remove(entry.getParticipant().getId());
+            case PARTICIPANTS_IMPORTED ->
+                entry.getParticipants().forEach(participant -> participants.put(participant.getId(), participant));
+            case TOURNAMENT_CREATED, TOURNAMENT_UPDATED -> {
+            }
+        }
+    }
+
+    private void renameInMatches(ParticipantDTO participant) {
+        Long clubId = participant.getClub() != null ? participant.getClub().getId() : null;
+        // Snapshots serialize the stored instances outside the lock, so replace them instead of mutating
+        matches.replaceAll((id, match) -> {
+            boolean first = Objects.equals(match.getParticipant1Id(), participant.getId());
+            boolean second = Objects.equals(match.getParticipant2Id(), participant.getId());
+            if (!first && !second) {
+                return match;
+            }
+            MatchDTO renamed = objectMapper.convertValue(match, MatchDTO.class);
+            if (first) {
+                renamed.setParticipant1Name(participant.getName());
+                renamed.setParticipant1ClubId(clubId);
+            }
+            if (second) {
+                renamed.setParticipant2Name(participant.getName());
+                renamed.setParticipant2ClubId(clubId);
+            }
+            return renamed;
+        });
+    }
+
+    private EventLogEntry parse(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, EventLogEntry.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable event log record", e);
+        }
+    }
+
+    private void writeSnapshot(Snapshot snapshot) throws IOException {
+        Path target = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, snapshot.sequence(), SNAPSHOT_SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, snapshot);
+            out.flush();
+            channel.force(true);
+        }
+        // The rename is the commit point; a crash before it leaves the previous snapshot in place
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        for (Path older : snapshotFiles()) {
+            if (!older.equals(target)) {
+                Files.deleteIfExists(older);
+            }
+        }
+        logger.info("Wrote event log snapshot at sequence {} ({} matches, {} participants)",
+            snapshot.sequence(), snapshot.matches().size(), snapshot.participants().size());
+    }
+
+    private Snapshot loadLatestSnapshot() throws IOException {
+        List<Path> snapshots = snapshotFiles();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try (InputStream in = Files.newInputStream(snapshots.get(i))) {
+                return objectMapper.readValue(in, Snapshot.class);
+            } catch (IOException e) {
+                logger.warn("Skipping unreadable snapshot {}: {}", snapshots.get(i).getFileName(), e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private List<Path> snapshotFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                })
+                .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                .toList();
+        }
+    }
+}
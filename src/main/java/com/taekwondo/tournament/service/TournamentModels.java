@@ -0,0 +1,86 @@
+package com.taekwondo.tournament.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read models kept per tournament: loaded on first use, then kept current by applying committed
+ * changes. Every change is counted against its tournament before it is applied, so a load that
+ * raced with a change to the same tournament is retried; changes to other tournaments leave it alone.
+ */
+final class TournamentModels<M> {
+
+    private final Map<Long, M> models = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> changes = new ConcurrentHashMap<>();
+    // Changes that affect every tournament, e.g. a participant rename
+    private final AtomicLong allChanges = new AtomicLong();
+
+    /** The loaded model, or null if the tournament has not been loaded. */
+    M get(Long tournamentId) {
+        return models.get(tournamentId);
+    }
+
+    M getOrLoad(Long tournamentId, Function<Long, M> loader) {
+        M model = models.get(tournamentId);
+        while (model == null) {
+            long seen = version(tournamentId);
+            M loaded = loader.apply(tournamentId);
+            M existing = models.putIfAbsent(tournamentId, loaded);
+            if (existing != null) {
+                model = existing;
+            } else if (version(tournamentId) == seen) {
+                model = loaded;
+            } else {
+                // A change committed while loading may be missing from what was read
+                models.remove(tournamentId, loaded);
+            }
+        }
+        return model;
+    }
+
+    /** Replaces the tournament's model, e.g. with one rebuilt from the stored rows. */
+    void put(Long tournamentId, M model) {
+        models.put(tournamentId, model);
+    }
+
+    void remove(Long tournamentId, M model) {
+        models.remove(tournamentId, model);
+    }
+
+    /**
+     * Counts a change to the tournament and returns its loaded model to apply the change to, or null.
+     */
+    M changed(Long tournamentId) {
+        if (tournamentId == null) {
+            return null;
+        }
+        counter(tournamentId).incrementAndGet();
+        return models.get(tournamentId);
+    }
+
+    /** Drops the tournament's model after a change that cannot be applied to it; returns the dropped model. */
+    M invalidate(Long tournamentId) {
+        counter(tournamentId).incrementAndGet();
+        return models.remove(tournamentId);
+    }
+
+    void invalidateAll() {
+        allChanges.incrementAndGet();
+        models.clear();
+    }
+
+    /**
+     * Changes counted so far that a load of the tournament could have missed; both counters only grow,
+     * so the sum moves whenever either does.
+     */
+    long version(Long tournamentId) {
+        AtomicLong counter = changes.get(tournamentId);
+        return allChanges.get() + (counter != null ? counter.get() : 0);
+    }
+
+    private AtomicLong counter(Long tournamentId) {
+        return changes.computeIfAbsent(tournamentId, id -> new AtomicLong());
+    }
+}
@@ -1,8 +1,11 @@
 package com.taekwondo.tournament.service;
 
+import com.taekwondo.tournament.dto.CursorPageDTO;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
 import com.taekwondo.tournament.model.Tournament;
 import com.taekwondo.tournament.repository.TournamentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +17,12 @@ import java.util.Optional;
 public class TournamentService {
     
     private final TournamentRepository tournamentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TournamentService(TournamentRepository tournamentRepository) {
+    public TournamentService(TournamentRepository tournamentRepository, ApplicationEventPublisher eventPublisher) {
         this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -30,9 +35,18 @@ public class TournamentService {
         return tournamentRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<Tournament> getTournamentsPage(Long after, int size) {
+        return CursorPageDTO.of(
+            tournamentRepository.findByIdGreaterThan(after != null ? after : 0L, CursorPageDTO.pageRequest(size)),
+            Tournament::getId);
+    }
+
     @Transactional
     public Tournament createTournament(Tournament tournament) {
-        return tournamentRepository.save(tournament);
+        Tournament saved = tournamentRepository.save(tournament);
+        eventPublisher.publishEvent(new TournamentChangedEvent(saved.getId(), TournamentChangedEvent.Type.CREATED));
+        return saved;
     }
 
     @Transactional
@@ -43,9 +57,12 @@ public class TournamentService {
         tournament.setName(tournamentDetails.getName());
         tournament.setDate(tournamentDetails.getDate());
         tournament.setNumberOfMats(tournamentDetails.getNumberOfMats());
+        tournament.setMaxParticipants(tournamentDetails.getMaxParticipants());
         tournament.setCategories(tournamentDetails.getCategories());
         
-        return tournamentRepository.save(tournament);
+        Tournament saved = tournamentRepository.save(tournament);
+        eventPublisher.publishEvent(new TournamentChangedEvent(id, TournamentChangedEvent.Type.UPDATED));
+        return saved;
     }
 
     @Transactional
@@ -53,6 +70,7 @@ public class TournamentService {
         Tournament tournament = tournamentRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + id));
         tournamentRepository.delete(tournament);
+        eventPublisher.publishEvent(new TournamentChangedEvent(id, TournamentChangedEvent.Type.DELETED));
     }
 
     @Transactional(readOnly = true)
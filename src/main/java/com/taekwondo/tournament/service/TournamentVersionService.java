@@ -0,0 +1,71 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.ParticipantsImportedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters behind the ETags of the read endpoints. Every committed write bumps the
+ * version of its tournament and the global version used by the unscoped listings. Participant
+ * changes move a shared participant version that is part of every tournament tag, because match
+ * payloads carry participant names and clubs.
+ * The boot time is part of each tag so clients never match a counter from before a restart.
+ */
+@Service
+public class TournamentVersionService {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final AtomicLong participantVersion = new AtomicLong();
+
+    public String tournamentETag(Long tournamentId) {
+        AtomicLong version = versions.get(tournamentId);
+        return "\"" + epoch + "-t" + tournamentId + "-" + (version != null ? version.get() : 0)
+            + "-p" + participantVersion.get() + "\"";
+    }
+
+    public String globalETag() {
+        return "\"" + epoch + "-g-" + globalVersion.get() + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchChanged(MatchChangedEvent event) {
+        bump(event.getMatch().getTournamentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        bump(event.getTournamentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        // Match payloads carry participant names, so any tournament may show the change
+        if (event.getType() != ParticipantChangedEvent.Type.CREATED) {
+            participantVersion.incrementAndGet();
+        }
+        globalVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipantsImported(ParticipantsImportedEvent event) {
+        // New participants are in no match yet
+        globalVersion.incrementAndGet();
+    }
+
+    private void bump(Long tournamentId) {
+        if (tournamentId != null) {
+            versions.computeIfAbsent(tournamentId, id -> new AtomicLong()).incrementAndGet();
+        }
+        globalVersion.incrementAndGet();
+    }
+}
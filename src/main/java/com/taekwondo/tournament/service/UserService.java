@@ -1,12 +1,15 @@
 package com.taekwondo.tournament.service;
 
+import com.taekwondo.tournament.event.UserChangedEvent;
 import com.taekwondo.tournament.model.User;
 import com.taekwondo.tournament.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +18,13 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -49,6 +54,8 @@ public class UserService {
     public User updateUser(Long id, User userDetails) {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        // Cached tokens are revoked once the change is committed, so no login can pick up the old role after it
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.UPDATED, user.getUsername()));
         
         user.setUsername(userDetails.getUsername());
         user.setEmail(userDetails.getEmail());
@@ -56,6 +63,7 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
         }
         user.setRole(userDetails.getRole());
+        user.setTokensValidAfter(Instant.now());
         
         return userRepository.save(user);
     }
@@ -65,6 +73,7 @@ public class UserService {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED, user.getUsername()));
     }
 
     @Transactional(readOnly = true)
@@ -6,6 +6,7 @@ CREATE TABLE IF NOT EXISTS users (
     password VARCHAR(100) NOT NULL,
     role VARCHAR(20) NOT NULL
 );
+ALTER TABLE users ADD COLUMN IF NOT EXISTS tokens_valid_after TIMESTAMP WITH TIME ZONE;
 
 -- Create clubs table if it doesn't exist
 CREATE TABLE IF NOT EXISTS clubs (
@@ -40,4 +41,81 @@ CREATE TABLE IF NOT EXISTS participant_tournaments (
     tournament_id INTEGER REFERENCES tournaments(id),
     registration_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (participant_id, tournament_id)
-); 
\ No newline at end of file
+); 
+
+-- Create matches table if it doesn't exist
+CREATE TABLE IF NOT EXISTS matches (
+    id SERIAL PRIMARY KEY,
+    match_id VARCHAR(50) UNIQUE,
+    mat_number INTEGER NOT NULL,
+    match_order INTEGER NOT NULL,
+    participant1_id INTEGER REFERENCES participants(id),
+    participant2_id INTEGER REFERENCES participants(id),
+    winner_id INTEGER REFERENCES participants(id),
+    round VARCHAR(20) NOT NULL,
+    tournament_id INTEGER REFERENCES tournaments(id),
+    scheduled_time TIMESTAMP
+);
+
+-- Bracket columns used by the bracket generator
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS category VARCHAR(100);
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS bracket_position INTEGER;
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS next_match_id INTEGER;
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS next_match_slot INTEGER;
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS completed_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_matches_tournament ON matches(tournament_id);
+
+-- Categories of a tournament, read by the bracket generator
+CREATE TABLE IF NOT EXISTS tournament_categories (
+    tournament_id INTEGER NOT NULL REFERENCES tournaments(id) ON DELETE CASCADE,
+    gender VARCHAR(20),
+    min_age INTEGER,
+    max_age INTEGER,
+    skill_level VARCHAR(20)
+);
+CREATE INDEX IF NOT EXISTS idx_tournament_categories_tournament ON tournament_categories(tournament_id);
+
+-- Match ids are allocated in blocks of 50 so that inserts can be batched
+ALTER SEQUENCE matches_id_seq INCREMENT BY 50;
+ALTER SEQUENCE participants_id_seq INCREMENT BY 50;
+ALTER SEQUENCE clubs_id_seq INCREMENT BY 50;
+
+-- Judges' scoring events, written in batches by the scoring service
+CREATE TABLE IF NOT EXISTS match_events (
+    id BIGSERIAL PRIMARY KEY,
+    match_id INTEGER NOT NULL REFERENCES matches(id) ON DELETE CASCADE,
+    tournament_id INTEGER,
+    mat_number INTEGER,
+    type VARCHAR(30) NOT NULL,
+    participant_id INTEGER,
+    points INTEGER,
+    round_number INTEGER,
+    judge VARCHAR(100),
+    occurred_at TIMESTAMP WITH TIME ZONE,
+    received_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_match_events_match ON match_events(match_id);
+ALTER SEQUENCE match_events_id_seq INCREMENT BY 50;
+
+-- Users following participants, clubs and mats; topics use the live feed topic format
+CREATE TABLE IF NOT EXISTS follows (
+    id SERIAL PRIMARY KEY,
+    user_id INTEGER NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    target_type VARCHAR(20) NOT NULL,
+    topic VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_follows_user_topic UNIQUE (user_id, topic)
+);
+CREATE INDEX IF NOT EXISTS idx_follows_user ON follows(user_id);
+
+-- Registration capacity; NULL leaves a tournament uncapped
+ALTER TABLE tournaments ADD COLUMN IF NOT EXISTS max_participants INTEGER;
+
+-- Registrations go with their participant or tournament
+ALTER TABLE participant_tournaments DROP CONSTRAINT IF EXISTS participant_tournaments_participant_id_fkey;
+ALTER TABLE participant_tournaments ADD CONSTRAINT participant_tournaments_participant_id_fkey
+    FOREIGN KEY (participant_id) REFERENCES participants(id) ON DELETE CASCADE;
+ALTER TABLE participant_tournaments DROP CONSTRAINT IF EXISTS participant_tournaments_tournament_id_fkey;
+ALTER TABLE participant_tournaments ADD CONSTRAINT participant_tournaments_tournament_id_fkey
+    FOREIGN KEY (tournament_id) REFERENCES tournaments(id) ON DELETE CASCADE;
+CREATE INDEX IF NOT EXISTS idx_participant_tournaments_tournament ON participant_tournaments(tournament_id);
@@ -0,0 +1,166 @@
+package com.taekwondo.tournament.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.model.Club;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.service.CallBoardService;
+import com.taekwondo.tournament.service.LiveFeedService;
+import com.taekwondo.tournament.service.MatchService;
+import com.taekwondo.tournament.service.ParticipantCategoryIndex;
+import com.taekwondo.tournament.service.ParticipantService;
+import com.taekwondo.tournament.service.ScheduleCache;
+import com.taekwondo.tournament.service.ScheduleConflictService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for repository fetch plans.
+ * Counts the SQL statements behind the list reads so N+1 loading is caught early.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Fetch Plan Tests")
+class FetchPlanTest {
+    private static final Logger logger = LoggerFactory.getLogger(FetchPlanTest.class);
+    private static final int CLUBS = 10;
+    private static final int PARTICIPANTS = 40;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private Statistics statistics;
+    private Tournament tournament;
+
+    /**
+     * Set up test environment before each test.
+     * Persists a tournament with participants from several clubs and a first round of matches,
+     * then clears the persistence context so every read goes to the database.
+     */
+    @BeforeEach
+    void setUp() {
+        List<Club> clubs = new ArrayList<>();
+        for (int i = 0; i < CLUBS; i++) {
+            Club club = new Club();
+            club.setName("Club " + i);
+            club.setLocation("City " + i);
+            clubs.add(entityManager.persist(club));
+        }
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(20);
+            participant.setGender(Gender.Male);
+            participant.setSkillLevel(SkillLevel.BLUE_BELT);
+            participant.setClub(clubs.get(i % CLUBS));
+            participants.add(entityManager.persist(participant));
+        }
+        tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.now());
+        tournament.setNumberOfMats(2);
+        tournament = entityManager.persist(tournament);
+        for (int i = 0; i < PARTICIPANTS / 2; i++) {
+            Match match = new Match();
+            match.setTournament(tournament);
+            match.setRound(Match.Round.ROUND_OF_32);
+            match.setMatNumber(i % 2 + 1);
+            match.setMatchOrder(i / 2 + 1);
+            match.setParticipant1(participants.get(2 * i));
+            match.setParticipant2(participants.get(2 * i + 1));
+            entityManager.persist(match);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Test scenario: Schedule view of a tournament
+     * Expected: Matches, fighters and clubs are read in a single statement and mapped without lazy loads
+     */
+    @Test
+    @DisplayName("Should load a tournament schedule with one statement")
+    void testTournamentSchedule_ShouldUseOneStatement() {
+        // Given
+        logger.info("Creating match service over the repository");
+        MatchService matchService = new MatchService(matchRepository, event -> { },
+            new ScheduleCache(1000, Duration.ofMinutes(1)),
+            new CallBoardService(matchRepository, new LiveFeedService(new ObjectMapper(), 1000), 10, 360, 0.3,
+                Clock.systemDefaultZone()),
+            new ScheduleConflictService(matchRepository, Duration.ofMinutes(6), Duration.ofMinutes(20)));
+
+        // When
+        logger.info("Loading schedule for tournament {}", tournament.getId());
+        List<MatchDTO> matches = matchService.getMatchesByTournament(tournament.getId());
+
+        // Then
+        logger.info("Checking statement count");
+        assertEquals(PARTICIPANTS / 2, matches.size());
+        assertNotNull(matches.get(0).getParticipant1ClubId(), "Club should be mapped");
+        assertEquals(1, statistics.getPrepareStatementCount(), "Schedule should be read in one statement");
+        logger.info("Test passed: Schedule loaded without N+1 selects");
+    }
+
+    /**
+     * Test scenario: Participant list with clubs
+     * Expected: One statement regardless of how many distinct clubs are referenced
+     */
+    @Test
+    @DisplayName("Should load participants with their clubs in one statement")
+    void testParticipantList_ShouldUseOneStatement() {
+        // Given
+        logger.info("Creating participant service over the repository");
+        ParticipantService participantService = new ParticipantService(participantRepository, tournamentRepository,
+            new ParticipantCategoryIndex(participantRepository), event -> { });
+
+        // When
+        logger.info("Loading all participants");
+        List<ParticipantDTO> participants = participantService.getAllParticipants();
+
+        // Then
+        logger.info("Checking statement count");
+        assertEquals(PARTICIPANTS, participants.size());
+        assertTrue(participants.stream().allMatch(participant -> participant.getClub() != null),
+            "Every participant should carry its club");
+        assertEquals(1, statistics.getPrepareStatementCount(), "Participants should be read in one statement");
+        logger.info("Test passed: Participants loaded without N+1 selects");
+    }
+}
@@ -0,0 +1,94 @@
+package com.taekwondo.tournament.security;
+
+import com.taekwondo.tournament.model.User;
+import com.taekwondo.tournament.repository.UserRepository;
+import com.taekwondo.tournament.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the CustomUserDetailsService.
+ * Tests that revocations stored with the user reject old tokens once the in-memory revocations are gone.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Custom User Details Service Tests")
+class CustomUserDetailsServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsServiceTest.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserService userService;
+    private CustomUserDetailsService userDetailsService;
+    private User organizer;
+
+    /**
+     * Set up test environment before each test.
+     * Stores an organizer whose tokens have never been revoked.
+     */
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, new BCryptPasswordEncoder(4), event -> { });
+        userDetailsService = new CustomUserDetailsService(userService);
+        organizer = new User();
+        organizer.setUsername("organizer");
+        organizer.setEmail("organizer@example.com");
+        organizer.setPassword("secret123");
+        organizer.setRole(User.UserRole.ORGANIZER);
+        organizer = userService.createUser(organizer);
+    }
+
+    /**
+     * Test scenario: An organizer is demoted to judge, then the node restarts with no revocations in memory
+     * Expected: A token issued before the demotion is revoked by the stored cutoff, a token from a new login
+     * is accepted
+     */
+    @Test
+    @DisplayName("Should reject tokens issued before a stored role change")
+    void testDemotedUser_ShouldRevokeOldTokensAfterRestart() {
+        // Given
+        long oldToken = (System.currentTimeMillis() / 1000 - 60) * 1000;
+        assertFalse(userDetailsService.isRevoked("organizer", oldToken));
+        User demoted = new User();
+        demoted.setUsername("organizer");
+        demoted.setEmail("organizer@example.com");
+        demoted.setRole(User.UserRole.JUDGE);
+
+        // When
+        userService.updateUser(organizer.getId(), demoted);
+        CustomUserDetailsService restarted = new CustomUserDetailsService(userService);
+        long newToken = System.currentTimeMillis() / 1000 * 1000;
+
+        // Then
+        logger.info("Tokens valid after {}", userRepository.findByUsername("organizer").orElseThrow().getTokensValidAfter());
+        assertTrue(restarted.isRevoked("organizer", oldToken), "The old role's token should be revoked");
+        assertFalse(restarted.isRevoked("organizer", newToken), "A login after the change should be accepted");
+        logger.info("Test passed: Stored cutoff revokes old tokens");
+    }
+
+    /**
+     * Test scenario: A user is deleted
+     * Expected: Every token of the user is revoked
+     */
+    @Test
+    @DisplayName("Should reject tokens of deleted users")
+    void testDeletedUser_ShouldRevokeTokens() {
+        // When
+        userService.deleteUser(organizer.getId());
+
+        // Then
+        assertTrue(userDetailsService.isRevoked("organizer", System.currentTimeMillis()));
+        logger.info("Test passed: Deleted user's tokens revoked");
+    }
+}
@@ -0,0 +1,84 @@
+package com.taekwondo.tournament.security;
+
+import com.taekwondo.tournament.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the JwtAuthenticationCache.
+ * Tests revocation of cached tokens, including entries cached after the revocation, and logins
+ * in the same second as a revocation.
+ */
+@DisplayName("JWT Authentication Cache Tests")
+class JwtAuthenticationCacheTest {
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationCacheTest.class);
+    private static final long HOUR = 3_600_000;
+
+    private JwtAuthenticationCache cache;
+    private UserDetails coach;
+
+    /**
+     * Set up test environment before each test.
+     * Creates a cache for tokens valid for one hour and a user with the USER role.
+     */
+    @BeforeEach
+    void setUp() {
+        cache = new JwtAuthenticationCache(100, HOUR);
+        coach = new User("coach", "", AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+
+    /**
+     * Test scenario: A cached token's user is revoked, and a request that verified its token before the
+     * revocation caches it only afterwards
+     * Expected: Neither token is served from the cache
+     */
+    @Test
+    @DisplayName("Should not serve tokens cached after a revocation")
+    void testGet_ShouldCheckRevocationOnHit() {
+        // Given
+        long issuedAt = (System.currentTimeMillis() / 1000 - 1) * 1000;
+        cache.put("cached-token", authentication(issuedAt));
+        assertNotNull(cache.get("cached-token"));
+
+        // When
+        cache.onUserChanged(new UserChangedEvent(UserChangedEvent.Type.UPDATED, "coach"));
+        cache.put("late-token", authentication(issuedAt));
+
+        // Then
+        assertNull(cache.get("cached-token"), "Cached tokens should be revoked");
+        assertNull(cache.get("late-token"), "A token cached after the revocation should still be revoked");
+        logger.info("Test passed: Revocation checked on every hit");
+    }
+
+    /**
+     * Test scenario: A user is revoked and logs in again within the same second
+     * Expected: The new token, whose issue time is truncated to that second, is accepted; a token from the
+     * second before is not
+     */
+    @Test
+    @DisplayName("Should accept tokens issued in the second of the revocation")
+    void testIsRevoked_ShouldCompareWholeSeconds() {
+        // When
+        cache.revokeUser("coach");
+        long issuedAt = System.currentTimeMillis() / 1000 * 1000;
+        cache.put("new-token", authentication(issuedAt));
+
+        // Then
+        assertFalse(cache.isRevoked("coach", issuedAt), "A login right after the revocation should be accepted");
+        assertNotNull(cache.get("new-token"));
+        assertTrue(cache.isRevoked("coach", issuedAt - 1000));
+        assertFalse(cache.isRevoked("referee", issuedAt - 1000), "Other users should be unaffected");
+        logger.info("Test passed: Same-second login accepted");
+    }
+
+    private JwtAuthenticationCache.CachedAuthentication authentication(long issuedAt) {
+        return new JwtAuthenticationCache.CachedAuthentication(coach, issuedAt, System.currentTimeMillis() + HOUR);
+    }
+}
@@ -0,0 +1,135 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.service.BracketPlanner.BracketPlan;
+import com.taekwondo.tournament.service.BracketPlanner.PlannedMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Test class for the BracketPlanner.
+ * Tests bracket sizing, bye placement and round naming for single-elimination draws.
+ */
+@DisplayName("Bracket Planner Tests")
+class BracketPlannerTest {
+    private static final Logger logger = LoggerFactory.getLogger(BracketPlannerTest.class);
+    private BracketPlanner planner;
+
+    /**
+     * Set up test environment before each test.
+     * Creates a fresh planner instance.
+     */
+    @BeforeEach
+    void setUp() {
+        planner = new BracketPlanner();
+    }
+
+    /**
+     * Test scenario: Full bracket of eight participants
+     * Expected: Quarter-finals, semi-finals and a final with every athlete drawn exactly once
+     */
+    @Test
+    @DisplayName("Should plan a full bracket of eight participants")
+    void testFullBracket_ShouldHaveThreeRounds() {
+        // Given
+        logger.info("Setting up eight participants");
+        List<Participant> participants = participants(8);
+
+        // When
+        logger.info("Planning bracket");
+        BracketPlan plan = planner.plan("Male 10-12 Blue Belt", participants, 42L);
+
+        // Then
+        logger.info("Checking bracket structure");
+        assertEquals(3, plan.rounds().size(), "Eight participants should need three rounds");
+        assertEquals(Match.Round.QUARTER_FINAL, plan.rounds().get(0).get(0).round());
+        assertEquals(Match.Round.SEMI_FINAL, plan.rounds().get(1).get(0).round());
+        assertEquals(Match.Round.FINAL, plan.rounds().get(2).get(0).round());
+        assertEquals(7, plan.matchCount(), "A knockout of eight should have seven matches");
+
+        Set<Participant> drawn = new HashSet<>();
+        for (PlannedMatch match : plan.rounds().get(0)) {
+            drawn.add(match.participant1());
+            drawn.add(match.participant2());
+        }
+        assertEquals(new HashSet<>(participants), drawn, "Every participant should be drawn once");
+        logger.info("Test passed: Full bracket planned correctly");
+    }
+
+    /**
+     * Test scenario: Bracket with byes
+     * Expected: Only real first-round matches are created and bye athletes appear in the next round
+     * - Five participants need a bracket of eight with three byes
+     */
+    @Test
+    @DisplayName("Should advance bye athletes straight to the second round")
+    void testBracketWithByes_ShouldSkipByeMatches() {
+        // Given
+        logger.info("Setting up five participants");
+        List<Participant> participants = participants(5);
+
+        // When
+        logger.info("Planning bracket");
+        BracketPlan plan = planner.plan("Female 8-9 White Belt", participants, 7L);
+
+        // Then
+        logger.info("Checking bye placement");
+        assertEquals(1, plan.rounds().get(0).size(), "Only one first-round match should be played");
+        assertEquals(2, plan.rounds().get(1).size(), "Both semi-finals should exist");
+        long knownSemiFinalists = plan.rounds().get(1).stream()
+            .flatMap(match -> Stream.of(match.participant1(), match.participant2()))
+            .filter(Objects::nonNull)
+            .count();
+        assertEquals(3, knownSemiFinalists, "The three bye athletes should already be placed in the semi-finals");
+        assertEquals(4, plan.matchCount(), "A knockout of five should have four matches");
+        logger.info("Test passed: Byes handled correctly");
+    }
+
+    /**
+     * Test scenario: Categories too small or too large for a bracket
+     * Expected: No matches for a single athlete and an error above the maximum bracket size
+     */
+    @Test
+    @DisplayName("Should handle degenerate category sizes")
+    void testDegenerateSizes_ShouldBeHandled() {
+        // Given
+        logger.info("Setting up one participant and an oversized category");
+        List<Participant> single = participants(1);
+        List<Participant> oversized = participants(BracketPlanner.MAX_BRACKET_SIZE + 1);
+
+        // When / Then
+        logger.info("Planning brackets");
+        assertEquals(0, planner.plan("Solo", single, 1L).matchCount(), "A single athlete should not get matches");
+        assertThrows(IllegalArgumentException.class, () -> planner.plan("Huge", oversized, 1L),
+            "Categories above the maximum bracket size should be rejected");
+        logger.info("Test passed: Degenerate sizes handled");
+    }
+
+    private List<Participant> participants(int count) {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Participant participant = new Participant();
+            participant.setId((long) i);
+            participant.setName("Athlete " + i);
+            participant.setAge(20);
+            participant.setGender(Gender.Male);
+            participant.setSkillLevel(SkillLevel.BLUE_BELT);
+            participants.add(participant);
+        }
+        return participants;
+    }
+}
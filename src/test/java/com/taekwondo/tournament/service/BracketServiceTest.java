@@ -0,0 +1,150 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.BracketSummaryDTO;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.Registration;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.RegistrationRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Test class for the BracketService.
+ * Tests that a tournament draw survives categories that exceed the bracket size.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Bracket Service Tests")
+class BracketServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(BracketServiceTest.class);
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BracketService bracketService;
+    private Tournament tournament;
+
+    /**
+     * Set up test environment before each test.
+     * Persists a tournament with a male and a female blue belt category, and registers 129 male and 4 female
+     * participants for it; 2 more female participants are not registered.
+     */
+    @BeforeEach
+    void setUp() {
+        tournament = new Tournament();
+        tournament.setName("National Championship");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(2);
+        tournament.getCategories().add(category(Gender.Male));
+        tournament.getCategories().add(category(Gender.Female));
+        tournament = testEntityManager.persist(tournament);
+        for (int i = 0; i < BracketPlanner.MAX_BRACKET_SIZE + 7; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(20);
+            participant.setGender(i < BracketPlanner.MAX_BRACKET_SIZE + 1 ? Gender.Male : Gender.Female);
+            participant.setSkillLevel(SkillLevel.BLUE_BELT);
+            participant = testEntityManager.persist(participant);
+            if (i < BracketPlanner.MAX_BRACKET_SIZE + 5) {
+                Registration registration = new Registration();
+                registration.setParticipantId(participant.getId());
+                registration.setTournamentId(tournament.getId());
+                registration.setRegistrationDate(LocalDateTime.now());
+                testEntityManager.persist(registration);
+            }
+        }
+        testEntityManager.flush();
+
+        ParticipantCategoryIndex categoryIndex = new ParticipantCategoryIndex(participantRepository);
+        RegistrationService registrationService = new RegistrationService(registrationRepository,
+            tournamentRepository, new ParticipantService(participantRepository, tournamentRepository, categoryIndex,
+                event -> { }), categoryIndex, entityManager, transactionManager, 20, 5_000);
+        bracketService = new BracketService(tournamentRepository, participantRepository, registrationService,
+            matchRepository, entityManager, event -> { }, 2);
+    }
+
+    /**
+     * Test scenario: Brackets are generated while the male category has one athlete over the bracket size
+     * Expected: The female category is drawn from its registered entrants only, and the male category is
+     * reported as skipped with its size
+     */
+    @Test
+    @DisplayName("Should skip and report oversized categories")
+    void testGenerateBrackets_ShouldSkipOversizedCategory() {
+        // When
+        BracketSummaryDTO summary = bracketService.generateBrackets(tournament.getId());
+
+        // Then
+        logger.info("Drawn: {}, skipped: {}", summary.getMatchesPerCategory(), summary.getSkippedCategories());
+        assertEquals(Map.of("Female 0-99 Blue Belt", 3), summary.getMatchesPerCategory());
+        assertEquals(Map.of("Male 0-99 Blue Belt", BracketPlanner.MAX_BRACKET_SIZE + 1), summary.getSkippedCategories());
+        assertEquals(3, matchRepository.findByTournamentId(tournament.getId()).size());
+        logger.info("Test passed: Oversized category skipped");
+    }
+
+    /**
+     * Test scenario: The tournament gets a second female category whose age bounds are set to the defaults
+     * the first one leaves unset, so both have the same label
+     * Expected: Both categories are drawn, and the summary adds up their matches under the shared label
+     */
+    @Test
+    @DisplayName("Should draw distinct categories that share a label")
+    void testGenerateBrackets_ShouldDrawCategoriesWithSameLabel() {
+        // Given
+        Tournament.TournamentCategory explicitBounds = category(Gender.Female);
+        explicitBounds.setMinAge(0);
+        explicitBounds.setMaxAge(99);
+        tournament.getCategories().add(explicitBounds);
+        testEntityManager.flush();
+
+        // When
+        BracketSummaryDTO summary = bracketService.generateBrackets(tournament.getId());
+
+        // Then
+        logger.info("Drawn: {} in {} categories", summary.getMatchesPerCategory(), summary.getCategoryCount());
+        assertEquals(2, summary.getCategoryCount());
+        assertEquals(Map.of("Female 0-99 Blue Belt", 6), summary.getMatchesPerCategory());
+        assertEquals(6, matchRepository.findByTournamentId(tournament.getId()).size());
+        logger.info("Test passed: Categories with the same label drawn separately");
+    }
+
+    private static Tournament.TournamentCategory category(Gender gender) {
+        Tournament.TournamentCategory category = new Tournament.TournamentCategory();
+        category.setGender(gender);
+        category.setSkillLevel(SkillLevel.BLUE_BELT);
+        return category;
+    }
+}
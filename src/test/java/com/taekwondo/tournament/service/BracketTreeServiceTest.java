@@ -0,0 +1,163 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the BracketTreeService.
+ * Tests the rendered tree structure and that results re-render only the category they belong to.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Bracket Tree Service Tests")
+class BracketTreeServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(BracketTreeServiceTest.class);
+    private static final String MEN = "male 18-35 black belt";
+    private static final String WOMEN = "female 18-35 black belt";
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private BracketTreeService bracketTreeService;
+    private Long tournamentId;
+    private List<Participant> participants;
+    private Match semiFinal;
+    private Match finalMatch;
+    private int matchOrder;
+
+    /**
+     * Set up test environment before each test.
+     * Persists a tournament whose men's category has two semi-finals feeding a final, and whose
+     * women's category has a single final.
+     */
+    @BeforeEach
+    void setUp() {
+        Tournament tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(2);
+        tournamentId = entityManager.persist(tournament).getId();
+        participants = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(20);
+            participant.setGender(i < 4 ? Gender.Male : Gender.Female);
+            participant.setSkillLevel(SkillLevel.BLACK_BELT);
+            participants.add(entityManager.persist(participant));
+        }
+        finalMatch = persist(tournament, MEN, Match.Round.FINAL, 0, null, null, null, null);
+        semiFinal = persist(tournament, MEN, Match.Round.SEMI_FINAL, 0, participants.get(0), participants.get(1),
+            finalMatch.getId(), 1);
+        persist(tournament, MEN, Match.Round.SEMI_FINAL, 1, participants.get(2), participants.get(3),
+            finalMatch.getId(), 2);
+        persist(tournament, WOMEN, Match.Round.FINAL, 0, participants.get(4), participants.get(5), null, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        bracketTreeService = new BracketTreeService(matchRepository, objectMapper);
+    }
+
+    /**
+     * Test scenario: The men's bracket is requested
+     * Expected: Both categories are listed, and the tree has the semi-finals in bracket order followed
+     * by the final, with links to the slots the winners advance to
+     */
+    @Test
+    @DisplayName("Should render a category's rounds in bracket order")
+    void testGetTree_ShouldRenderRoundsInOrder() throws Exception {
+        // When
+        List<String> categories = bracketTreeService.getCategories(tournamentId);
+        JsonNode tree = objectMapper.readTree(bracketTreeService.getTree(tournamentId, MEN).json());
+
+        // Then
+        logger.info("Tree: {}", tree);
+        assertEquals(List.of(WOMEN, MEN).stream().sorted().toList(), categories);
+        assertEquals(MEN, tree.get("category").asText());
+        JsonNode rounds = tree.get("rounds");
+        assertEquals(2, rounds.size());
+        assertEquals("SEMI_FINAL", rounds.get(0).get("round").asText());
+        assertEquals("FINAL", rounds.get(1).get("round").asText());
+        JsonNode semiFinals = rounds.get(0).get("matches");
+        assertEquals("Athlete 0", semiFinals.get(0).get("participant1Name").asText());
+        assertEquals("Athlete 2", semiFinals.get(1).get("participant1Name").asText());
+        assertEquals(2, semiFinals.get(1).get("nextMatchSlot").asInt());
+        assertFalse(rounds.get(1).get("matches").get(0).has("participant1Id"), "Undecided slots should be omitted");
+        assertThrows(RuntimeException.class, () -> bracketTreeService.getTree(tournamentId, "unknown"));
+        logger.info("Test passed: Rounds rendered in order");
+    }
+
+    /**
+     * Test scenario: A semi-final result is recorded, followed by the update filling the final's first slot
+     * Expected: The men's tree shows the winner in both matches under a new entity tag, while the women's
+     * tree is not rendered again
+     */
+    @Test
+    @DisplayName("Should re-render only the category of a recorded result")
+    void testResultRecorded_ShouldRerenderCategory() throws Exception {
+        // Given
+        BracketTreeService.Tree menBefore = bracketTreeService.getTree(tournamentId, MEN);
+        BracketTreeService.Tree womenBefore = bracketTreeService.getTree(tournamentId, WOMEN);
+        semiFinal.setWinner(participants.get(0));
+        finalMatch.setParticipant1(participants.get(0));
+
+        // When
+        bracketTreeService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.RESULT_RECORDED,
+            MatchDTO.from(semiFinal), null, null));
+        bracketTreeService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED,
+            MatchDTO.from(finalMatch), null, null));
+
+        // Then
+        BracketTreeService.Tree menAfter = bracketTreeService.getTree(tournamentId, MEN);
+        JsonNode rounds = objectMapper.readTree(menAfter.json()).get("rounds");
+        logger.info("Entity tags: {} -> {}", menBefore.etag(), menAfter.etag());
+        assertNotEquals(menBefore.etag(), menAfter.etag());
+        assertSame(womenBefore, bracketTreeService.getTree(tournamentId, WOMEN), "Other categories should be kept");
+        assertEquals(participants.get(0).getId(), rounds.get(0).get("matches").get(0).get("winnerId").asLong());
+        assertEquals("Athlete 0", rounds.get(1).get("matches").get(0).get("participant1Name").asText());
+        logger.info("Test passed: Only the affected category re-rendered");
+    }
+
+    private Match persist(Tournament tournament, String category, Match.Round round, int position,
+                          Participant participant1, Participant participant2, Long nextMatchId, Integer nextMatchSlot) {
+        Match match = new Match();
+        match.setTournament(tournament);
+        match.setCategory(category);
+        match.setRound(round);
+        match.setBracketPosition(position);
+        match.setMatNumber(1);
+        match.setMatchOrder(++matchOrder);
+        match.setParticipant1(participant1);
+        match.setParticipant2(participant2);
+        match.setNextMatchId(nextMatchId);
+        match.setNextMatchSlot(nextMatchSlot);
+        return entityManager.persist(match);
+    }
+}
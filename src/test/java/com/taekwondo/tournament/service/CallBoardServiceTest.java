@@ -0,0 +1,188 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.CallBoardDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Test class for the CallBoardService.
+ * Tests mat queue order, updates on results and reassignments, predicted start times,
+ * and that boards are served from memory.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Call Board Service Tests")
+class CallBoardServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(CallBoardServiceTest.class);
+    private static final LocalDateTime DAY_START = LocalDateTime.of(2026, 5, 1, 9, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private CallBoardService callBoardService;
+    private Statistics statistics;
+    private Long tournamentId;
+
+    /**
+     * Set up test environment before each test.
+     * Persists a tournament with ten matches on each of two mats, stored out of mat order and
+     * scheduled six minutes apart from 09:00; the clock stands at 09:25.
+     */
+    @BeforeEach
+    void setUp() {
+        Tournament tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.now());
+        tournament.setNumberOfMats(2);
+        tournamentId = entityManager.persist(tournament).getId();
+        for (int i = 20; i > 0; i--) {
+            Match match = new Match();
+            match.setTournament(tournament);
+            match.setRound(Match.Round.ROUND_OF_32);
+            match.setMatNumber(i % 2 + 1);
+            match.setMatchOrder((i + 1) / 2);
+            match.setScheduledTime(DAY_START.plusMinutes(6L * ((i + 1) / 2 - 1)));
+            entityManager.persist(match);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Clock clock = Clock.fixed(DAY_START.plusMinutes(25).atZone(ZoneId.systemDefault()).toInstant(),
+            ZoneId.systemDefault());
+        callBoardService = new CallBoardService(matchRepository, new LiveFeedService(new ObjectMapper(), 1000), 5,
+            360, 0.3, clock);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Test scenario: Result recorded for the match on the mat
+     * Expected: On deck moves up to now fighting, and only the first load reads the database
+     */
+    @Test
+    @DisplayName("Should advance the queue when a result is recorded")
+    void testResultRecorded_ShouldAdvanceQueue() {
+        // Given
+        logger.info("Loading the board for mat 1");
+        CallBoardDTO before = callBoardService.getBoard(tournamentId, 1, 3);
+        MatchDTO finished = copy(before.getNowFighting());
+        finished.setWinnerId(99L);
+
+        // When
+        logger.info("Recording a result for match {}", finished.getId());
+        callBoardService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.RESULT_RECORDED, finished, null, null));
+        CallBoardDTO after = callBoardService.getBoard(tournamentId, 1, 3);
+
+        // Then
+        assertEquals(List.of(1, 2, 3), before.getQueue().stream().map(MatchDTO::getMatchOrder).toList());
+        assertEquals(before.getOnDeck().getId(), after.getNowFighting().getId(), "On deck should now be fighting");
+        assertEquals(before.getInTheHole().getId(), after.getOnDeck().getId());
+        assertEquals(4, after.getInTheHole().getMatchOrder());
+        assertEquals(9, after.getPendingCount());
+        assertEquals(1, statistics.getPrepareStatementCount(), "Only the first load should query the database");
+        logger.info("Test passed: Queue advanced from memory");
+    }
+
+    /**
+     * Test scenario: A pending match moves from mat 1 to the front of mat 2
+     * Expected: It leaves the mat 1 board and becomes mat 2's next match
+     */
+    @Test
+    @DisplayName("Should move a match between mat boards when it is reassigned")
+    void testReassignment_ShouldMoveMatch() {
+        // Given
+        logger.info("Loading the board for mat 1");
+        MatchDTO moved = copy(callBoardService.getBoard(tournamentId, 1, 5).getQueue().get(4));
+        moved.setMatNumber(2);
+        moved.setMatchOrder(0);
+
+        // When
+        logger.info("Moving match {} to mat 2", moved.getId());
+        callBoardService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, moved, 1, null));
+
+        // Then
+        CallBoardDTO matOne = callBoardService.getBoard(tournamentId, 1, 5);
+        CallBoardDTO matTwo = callBoardService.getBoard(tournamentId, 2, 5);
+        assertTrue(matOne.getQueue().stream().noneMatch(match -> match.getId().equals(moved.getId())),
+            "Match should leave mat 1");
+        assertEquals(9, matOne.getPendingCount());
+        assertEquals(moved.getId(), matTwo.getNowFighting().getId(), "Match should lead mat 2");
+        assertEquals(11, matTwo.getPendingCount());
+        logger.info("Test passed: Match moved between boards");
+    }
+
+    /**
+     * Test scenario: The first two matches on mat 1 took ten minutes each instead of the planned six
+     * Expected: The rest of mat 1 is predicted ten minutes apart from the last change-over, and schedule
+     * reads carry the predictions
+     */
+    @Test
+    @DisplayName("Should predict start times from the measured match durations")
+    void testSlowMat_ShouldShiftPredictedStarts() {
+        // Given
+        logger.info("Recording two ten-minute matches on mat 1");
+        List<MatchDTO> queue = callBoardService.getBoard(tournamentId, 1, 5).getQueue();
+        for (int i = 0; i < 2; i++) {
+            MatchDTO finished = copy(queue.get(i));
+            finished.setWinnerId(99L);
+            finished.setCompletedAt(DAY_START.plusMinutes(10L * (i + 1)));
+
+            // When
+            callBoardService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.RESULT_RECORDED, finished, null, null));
+        }
+
+        // Then
+        CallBoardDTO board = callBoardService.getBoard(tournamentId, 1, 3);
+        logger.info("Predicted starts: {}", board.getQueue().stream().map(MatchDTO::getPredictedStartTime).toList());
+        assertEquals(DAY_START.plusMinutes(20), board.getNowFighting().getPredictedStartTime(),
+            "The match on the mat started at the last change-over");
+        assertEquals(DAY_START.plusMinutes(30), board.getOnDeck().getPredictedStartTime());
+        assertEquals(DAY_START.plusMinutes(40), board.getInTheHole().getPredictedStartTime());
+        List<MatchDTO> schedule = callBoardService.withPredictedStarts(tournamentId, List.of(copy(board.getOnDeck())));
+        assertEquals(DAY_START.plusMinutes(30), schedule.get(0).getPredictedStartTime());
+        logger.info("Test passed: Predictions follow the measured pace");
+    }
+
+    // Change events carry fresh DTOs; the ones on a board must not be modified in place
+    private MatchDTO copy(MatchDTO source) {
+        MatchDTO match = new MatchDTO();
+        match.setId(source.getId());
+        match.setTournamentId(source.getTournamentId());
+        match.setRound(source.getRound());
+        match.setMatNumber(source.getMatNumber());
+        match.setMatchOrder(source.getMatchOrder());
+        match.setScheduledTime(source.getScheduledTime());
+        return match;
+    }
+}
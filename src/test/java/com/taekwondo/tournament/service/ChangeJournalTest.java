@@ -0,0 +1,264 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.ChangeDTO;
+import com.taekwondo.tournament.dto.ChangeFeedDTO;
+import com.taekwondo.tournament.dto.ClubDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.ClubChangedEvent;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.ParticipantsImportedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.ClubRepository;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the ChangeJournal.
+ * Tests compacted deltas since a cursor, bulk match replacement, import batches with their new clubs and
+ * the snapshot fallback.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Change Journal Tests")
+class ChangeJournalTest {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeJournalTest.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ChangeJournal journal;
+    private Tournament tournament;
+    private Participant athlete;
+
+    /**
+     * Set up test environment before each test.
+     * Creates a journal retaining 8 changes and persists a tournament with one athlete.
+     */
+    @BeforeEach
+    void setUp() {
+        journal = new ChangeJournal(matchRepository, participantRepository, clubRepository, tournamentRepository, 8);
+        tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(2);
+        tournament = entityManager.persist(tournament);
+        athlete = new Participant();
+        athlete.setName("Athlete");
+        athlete.setAge(20);
+        athlete.setGender(Gender.Female);
+        athlete.setSkillLevel(SkillLevel.BLUE_BELT);
+        athlete = entityManager.persist(athlete);
+        entityManager.flush();
+    }
+
+    /**
+     * Test scenario: A match is updated three times, another deleted and an athlete renamed, then the client
+     * asks for changes since its cursor, once for everything and once for another tournament
+     * Expected: One change per row in its latest state, deletions without data, and the tournament filter
+     * keeping only participant changes
+     */
+    @Test
+    @DisplayName("Should serve each changed row once in its latest state")
+    void testChangesSince_ShouldCompactChanges() {
+        // Given
+        long cursor = journal.currentVersion();
+        for (int mat = 1; mat <= 3; mat++) {
+            journal.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, match(10L, mat), null, null));
+        }
+        journal.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.DELETED, match(11L, 1), null, null));
+        ParticipantDTO renamed = ParticipantDTO.from(athlete);
+        renamed.setName("Renamed");
+        journal.onParticipantChanged(new ParticipantChangedEvent(ParticipantChangedEvent.Type.UPDATED, renamed));
+
+        // When
+        ChangeFeedDTO feed = journal.changesSince(cursor, null);
+        ChangeFeedDTO otherTournament = journal.changesSince(cursor, tournament.getId() + 1);
+
+        // Then
+        logger.info("Changes: {}", feed.getChanges());
+        assertFalse(feed.isSnapshot());
+        assertEquals(cursor + 5, feed.getVersion());
+        assertEquals(3, feed.getChanges().size());
+        ChangeDTO updated = feed.getChanges().get(0);
+        assertEquals(10L, updated.getId());
+        assertEquals(3, ((MatchDTO) updated.getData()).getMatNumber(), "Only the latest state should be sent");
+        assertTrue(feed.getChanges().get(1).isDeleted());
+        assertNull(feed.getChanges().get(1).getData());
+        assertEquals("Renamed", ((ParticipantDTO) feed.getChanges().get(2).getData()).getName());
+        assertEquals(List.of(ChangeDTO.EntityType.PARTICIPANT),
+            otherTournament.getChanges().stream().map(ChangeDTO::getEntityType).toList());
+        assertTrue(journal.changesSince(feed.getVersion(), null).getChanges().isEmpty(),
+            "Nothing should have changed since the new cursor");
+        logger.info("Test passed: Changes compacted");
+    }
+
+    /**
+     * Test scenario: Brackets are generated for the tournament, then more changes than the journal retains
+     * are recorded
+     * Expected: The recent cursor gets the tournament with all of its stored matches; the old cursor gets a
+     * snapshot of every row
+     */
+    @Test
+    @DisplayName("Should replace bulk-written matches and fall back to a snapshot")
+    void testChangesSince_ShouldReplaceMatchesAndFallBackToSnapshot() {
+        // Given
+        long cursor = journal.currentVersion();
+        for (int order = 1; order <= 2; order++) {
+            Match match = new Match();
+            match.setTournament(tournament);
+            match.setMatNumber(1);
+            match.setMatchOrder(order);
+            match.setRound(Match.Round.FINAL);
+            match.setParticipant1(athlete);
+            entityManager.persist(match);
+        }
+        entityManager.flush();
+        journal.onTournamentChanged(new TournamentChangedEvent(tournament.getId(),
+            TournamentChangedEvent.Type.BRACKETS_GENERATED));
+
+        // When
+        ChangeFeedDTO delta = journal.changesSince(cursor, tournament.getId());
+
+        // Then
+        logger.info("Delta after bracket generation: {} changes", delta.getChanges().size());
+        assertEquals(3, delta.getChanges().size());
+        assertTrue(delta.getChanges().get(0).isMatchesReplaced());
+        assertTrue(delta.getChanges().stream().skip(1)
+            .allMatch(change -> change.getEntityType() == ChangeDTO.EntityType.MATCH));
+
+        // Given
+        for (int i = 0; i < 8; i++) {
+            journal.onTournamentChanged(new TournamentChangedEvent(tournament.getId(),
+                TournamentChangedEvent.Type.UPDATED));
+        }
+
+        // When
+        ChangeFeedDTO snapshot = journal.changesSince(cursor, null);
+
+        // Then
+        logger.info("Snapshot: {} rows", snapshot.getChanges().size());
+        assertTrue(snapshot.isSnapshot(), "The cursor has left the journal");
+        assertEquals(4, snapshot.getChanges().size(), "Tournament, two matches and the athlete");
+        assertTrue(journal.changesSince(0, null).isSnapshot(), "A missing cursor should start from a snapshot");
+        logger.info("Test passed: Matches replaced and snapshot served");
+    }
+
+    /**
+     * Test scenario: An import batch creates more participants than the journal retains, then one of them
+     * is renamed
+     * Expected: The batch takes a single journal slot, so the cursor stays in the journal and gets every
+     * imported row followed by the rename
+     */
+    @Test
+    @DisplayName("Should record an import batch as one journal entry")
+    void testChangesSince_ShouldKeepImportBatchInOneEntry() {
+        // Given
+        long cursor = journal.currentVersion();
+        List<ParticipantDTO> imported = new ArrayList<>();
+        for (long id = 100; id < 120; id++) {
+            ParticipantDTO participant = ParticipantDTO.from(athlete);
+            participant.setId(id);
+            participant.setName("Imported " + id);
+            imported.add(participant);
+        }
+        journal.onParticipantsImported(new ParticipantsImportedEvent(imported));
+        ParticipantDTO renamed = ParticipantDTO.from(athlete);
+        renamed.setId(105L);
+        renamed.setName("Renamed");
+        journal.onParticipantChanged(new ParticipantChangedEvent(ParticipantChangedEvent.Type.UPDATED, renamed));
+
+        // When
+        ChangeFeedDTO feed = journal.changesSince(cursor, null);
+
+        // Then
+        logger.info("Delta after import: {} changes", feed.getChanges().size());
+        assertFalse(feed.isSnapshot(), "20 imported rows should not overflow a journal of 8");
+        assertEquals(cursor + 2, feed.getVersion());
+        assertEquals(21, feed.getChanges().size());
+        assertEquals(imported, feed.getChanges().stream().limit(20).map(ChangeDTO::getData).toList());
+        assertEquals("Renamed", ((ParticipantDTO) feed.getChanges().get(20).getData()).getName());
+        logger.info("Test passed: Import batch journaled once");
+    }
+
+    /**
+     * Test scenario: A participant is imported with a club the database does not know yet
+     * Expected: The delta carries the new club before the participant that refers to it
+     */
+    @Test
+    @DisplayName("Should journal clubs created by an import")
+    void testChangesSince_ShouldIncludeImportedClub() throws Exception {
+        // Given
+        long cursor = journal.currentVersion();
+        ParticipantImportService importService = new ParticipantImportService(clubRepository,
+            entityManager.getEntityManager(), transactionManager, Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper(), event -> {
+                if (event instanceof ClubChangedEvent club) {
+                    journal.onClubChanged(club);
+                } else if (event instanceof ParticipantsImportedEvent imported) {
+                    journal.onParticipantsImported(imported);
+                }
+            }, 500);
+
+        // When
+        importService.importCsv(new ByteArrayInputStream(
+            "Name,Age,Gender,Skill Level,Club\nMira Dahl,15,Female,Red Belt,Dojang Syd\n".getBytes(StandardCharsets.UTF_8)));
+        ChangeFeedDTO feed = journal.changesSince(cursor, null);
+
+        // Then
+        logger.info("Delta after import: {}", feed.getChanges());
+        assertFalse(feed.isSnapshot());
+        assertEquals(List.of(ChangeDTO.EntityType.CLUB, ChangeDTO.EntityType.PARTICIPANT),
+            feed.getChanges().stream().map(ChangeDTO::getEntityType).toList());
+        ClubDTO club = (ClubDTO) feed.getChanges().get(0).getData();
+        assertEquals("Dojang Syd", club.getName());
+        assertEquals(club.getId(), ((ParticipantDTO) feed.getChanges().get(1).getData()).getClub().getId());
+        logger.info("Test passed: Imported club journaled");
+    }
+
+    private MatchDTO match(Long id, Integer matNumber) {
+        MatchDTO match = new MatchDTO();
+        match.setId(id);
+        match.setTournamentId(tournament.getId());
+        match.setMatNumber(matNumber);
+        return match;
+    }
+}
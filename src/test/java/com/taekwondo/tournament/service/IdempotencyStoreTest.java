@@ -0,0 +1,184 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the IdempotencyStore.
+ * Tests replay of repeated keys, reused keys with another body, in-flight conflicts, failed writes and expiry.
+ */
+@DisplayName("Idempotency Store Tests")
+class IdempotencyStoreTest {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStoreTest.class);
+    private static final Map<String, Object> BODY = Map.of("winnerId", 7);
+
+    private MutableClock clock;
+    private IdempotencyStore store;
+    private AtomicInteger writes;
+
+    /**
+     * Set up test environment before each test.
+     * Creates a store keeping keys for ten minutes on a clock the tests can move.
+     */
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-05-01T09:00:00Z"));
+        store = new IdempotencyStore(Duration.ofMinutes(10), 1000, clock, new ObjectMapper());
+        writes = new AtomicInteger();
+    }
+
+    /**
+     * Test scenario: The same write is retried with its key, sent to another endpoint with the same key,
+     * and retried while the first attempt is still running
+     * Expected: The retry replays the first response without writing; other endpoints and requests without
+     * a key write; the concurrent retry gets 409 Conflict
+     */
+    @Test
+    @DisplayName("Should replay the stored response for a repeated key")
+    void testExecute_ShouldReplayRepeatedKey() {
+        // When
+        ResponseEntity<Integer> first = store.execute("key-1", "POST /api/matches", BODY, this::write);
+        ResponseEntity<Integer> retry = store.execute("key-1", "POST /api/matches", BODY, this::write);
+        ResponseEntity<Integer> otherEndpoint = store.execute("key-1", "PUT /api/matches/5", BODY, this::write);
+        store.execute(null, "POST /api/matches", BODY, this::write);
+        ResponseEntity<Integer> inFlight = store.execute("key-2", "POST /api/matches", BODY,
+            () -> store.execute("key-2", "POST /api/matches", BODY, this::write));
+
+        // Then
+        logger.info("First: {}, retry: {}, in flight: {}", first.getBody(), retry.getBody(), inFlight.getStatusCode());
+        assertEquals(1, retry.getBody(), "The retry should get the original response");
+        assertEquals(2, otherEndpoint.getBody(), "Keys should be scoped to the endpoint");
+        assertEquals(HttpStatus.CONFLICT, inFlight.getStatusCode());
+        assertEquals(3, writes.get());
+        logger.info("Test passed: Repeated key replayed");
+    }
+
+    /**
+     * Test scenario: A write fails, is retried with the same key, and the key is reused after it expires
+     * Expected: The failure is not stored, so the retry writes; after expiry the key writes again
+     */
+    @Test
+    @DisplayName("Should forget failed writes and expired keys")
+    void testExecute_ShouldForgetFailuresAndExpiredKeys() {
+        // Given
+        assertThrows(IllegalArgumentException.class, () -> store.execute("key-1", "POST /api/matches", BODY, () -> {
+            throw new IllegalArgumentException("Participant 1 is already scheduled");
+        }));
+        ResponseEntity<Integer> badRequest = store.execute("key-2", "POST /api/matches", BODY,
+            () -> ResponseEntity.badRequest().build());
+
+        // When
+        ResponseEntity<Integer> retried = store.execute("key-1", "POST /api/matches", BODY, this::write);
+        ResponseEntity<Integer> retriedBadRequest = store.execute("key-2", "POST /api/matches", BODY, this::write);
+        clock.advance(Duration.ofMinutes(11));
+        ResponseEntity<Integer> afterExpiry = store.execute("key-1", "POST /api/matches", BODY, this::write);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, badRequest.getStatusCode());
+        assertEquals(1, retried.getBody(), "A failed write should be retried");
+        assertEquals(2, retriedBadRequest.getBody(), "An error response should not be stored");
+        assertEquals(3, afterExpiry.getBody(), "An expired key should write again");
+        assertEquals(1, store.size(), "Expired keys should be evicted");
+        logger.info("Test passed: Failures and expired keys forgotten");
+    }
+
+    /**
+     * Test scenario: A key is reused with a different body, both for a JSON body and for a streamed import
+     * of which the write reads only the first line
+     * Expected: The same body replays, a different body gets 422 without writing, and the stream's
+     * unread remainder still counts towards its hash
+     */
+    @Test
+    @DisplayName("Should reject a reused key with a different body")
+    void testExecute_ShouldRejectDifferentBody() {
+        // Given
+        store.execute("key-1", "POST /api/matches", BODY, this::write);
+        store.executeStreaming("key-2", "POST /api/participants/import", csv("name\nAnna\n"), this::readFirstLine);
+
+        // When
+        ResponseEntity<Integer> sameBody = store.execute("key-1", "POST /api/matches", Map.of("winnerId", 7),
+            this::write);
+        ResponseEntity<Integer> otherBody = store.execute("key-1", "POST /api/matches", Map.of("winnerId", 8),
+            this::write);
+        ResponseEntity<Integer> sameFile = store.executeStreaming("key-2", "POST /api/participants/import",
+            csv("name\nAnna\n"), this::readFirstLine);
+        ResponseEntity<Integer> otherFile = store.executeStreaming("key-2", "POST /api/participants/import",
+            csv("name\nErik\n"), this::readFirstLine);
+
+        // Then
+        logger.info("Same body: {}, other body: {}, other file: {}", sameBody.getStatusCode(),
+            otherBody.getStatusCode(), otherFile.getStatusCode());
+        assertEquals(1, sameBody.getBody(), "The same body should replay");
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, otherBody.getStatusCode());
+        assertEquals(2, sameFile.getBody(), "The same file should replay");
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, otherFile.getStatusCode());
+        assertEquals(2, writes.get(), "Rejected requests should not write");
+        logger.info("Test passed: Reused key with another body rejected");
+    }
+
+    private ResponseEntity<Integer> readFirstLine(InputStream body) {
+        try {
+            while (body.read() != '\n') {
+                // Only the header is needed
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return write();
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ResponseEntity<Integer> write() {
+        return ResponseEntity.ok(writes.incrementAndGet());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the LiveFeedService.
+ * Tests that a stalled subscriber neither delays nor loses events for other subscribers, and that
+ * combined subscription parameters narrow the feed instead of widening it.
+ */
+@DisplayName("Live Feed Service Tests")
+class LiveFeedServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(LiveFeedServiceTest.class);
+
+    private LiveFeedService liveFeedService;
+    private CountDownLatch released;
+
+    /**
+     * Set up test environment before each test.
+     * Creates a feed with queues of 16 events and two sender threads.
+     */
+    @BeforeEach
+    void setUp() {
+        liveFeedService = new LiveFeedService(new ObjectMapper(), 60_000, 16, 2);
+        released = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        liveFeedService.shutdown();
+    }
+
+    /**
+     * Test scenario: One subscriber's connection stalls on its first event while 100 events are published
+     * to the topic it shares with a healthy subscriber
+     * Expected: The healthy subscriber receives all 100 in order, and the stalled one is dropped once its
+     * queue of 16 is full and completed when its connection recovers
+     */
+    @Test
+    @DisplayName("Should keep delivering to other subscribers while one is stalled")
+    void testStalledSubscriber_ShouldNotBlockOthers() throws Exception {
+        // Given
+        StalledEmitter stalled = new StalledEmitter();
+        CountingEmitter healthy = new CountingEmitter(100);
+        liveFeedService.subscribe(List.of("mat:1:1"), stalled);
+        liveFeedService.subscribe(List.of("mat:1:1", "tournament:1"), healthy);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            liveFeedService.publish(List.of("mat:1:1"), "score", i);
+            // Scores arrive one at a time; the healthy client keeps up with them
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (healthy.count.get() <= i && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+
+        // Then
+        assertTrue(healthy.received.await(5, TimeUnit.SECONDS), "The healthy subscriber should get every event");
+        logger.info("Healthy subscriber received {} events", healthy.count.get());
+        assertFalse(healthy.outOfOrder.get(), "Events should arrive in publishing order");
+        assertEquals(1, liveFeedService.getSubscriberCount("mat:1:1"), "The stalled subscriber should be dropped");
+        released.countDown();
+        assertTrue(stalled.completed.await(5, TimeUnit.SECONDS), "The stalled connection should be closed");
+        logger.info("Test passed: Stalled subscriber isolated");
+    }
+
+    /**
+     * Test scenario: A club follows its athletes in tournament 1, then matches of another club in
+     * tournament 1, of the club in tournament 2, and of the club in tournament 1 are published
+     * Expected: Only the last match is sent, as the first event the subscriber receives
+     */
+    @Test
+    @DisplayName("Should treat additional subscription parameters as filters")
+    void testCombinedParameters_ShouldNarrowSubscription() throws Exception {
+        // Given
+        CountingEmitter club = new CountingEmitter(1);
+        liveFeedService.subscribe(1L, null, 5L, null, club);
+
+        // When
+        liveFeedService.publish(List.of("tournament:1", "mat:1:2", "club:7"), "match", 99);
+        liveFeedService.publish(List.of("tournament:2", "mat:2:1", "club:5"), "match", 99);
+        liveFeedService.publish(List.of("tournament:1", "mat:1:3", "club:5"), "match", 0);
+
+        // Then
+        assertTrue(club.received.await(5, TimeUnit.SECONDS), "The matching event should be sent");
+        logger.info("Club subscriber received {} events", club.count.get());
+        assertFalse(club.outOfOrder.get(), "Events of other clubs or tournaments should be filtered out");
+        assertEquals(1, liveFeedService.getSubscriberCount("club:5"));
+        assertEquals(0, liveFeedService.getSubscriberCount("tournament:1"), "The tournament is only a filter");
+        logger.info("Test passed: Parameters narrow the subscription");
+    }
+
+    private final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static final class CountingEmitter extends SseEmitter {
+        private final CountDownLatch received;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicBoolean outOfOrder = new AtomicBoolean();
+
+        private CountingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String data = builder.build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .reduce("", String::concat);
+            int expected = count.getAndIncrement();
+            if (!data.contains("data:" + expected + "\n")) {
+                outOfOrder.set(true);
+            }
+            received.countDown();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.service.MatScheduler.Slot;
+import com.taekwondo.tournament.service.MatScheduler.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Test class for the MatScheduler.
+ * Tests bracket dependencies, athlete rest times and mat usage.
+ */
+@DisplayName("Mat Scheduler Tests")
+class MatSchedulerTest {
+    private static final Logger logger = LoggerFactory.getLogger(MatSchedulerTest.class);
+    private static final long DURATION = 360;
+    private static final long REST = 1200;
+    private MatScheduler scheduler;
+    private long nextId;
+
+    /**
+     * Set up test environment before each test.
+     * Creates a scheduler with a 20 minute minimum rest time.
+     */
+    @BeforeEach
+    void setUp() {
+        scheduler = new MatScheduler(REST);
+        nextId = 1;
+    }
+
+    /**
+     * Test scenario: One eight-athlete bracket on two mats
+     * Expected: Semi-finals start after both feeding quarter-finals plus rest, and no mat runs two matches at once
+     */
+    @Test
+    @DisplayName("Should respect bracket dependencies and rest times")
+    void testSingleBracket_ShouldRespectDependencies() {
+        // Given
+        logger.info("Setting up an eight-athlete bracket");
+        List<Task> tasks = new ArrayList<>();
+        addBracket(tasks, 8);
+
+        // When
+        logger.info("Scheduling on two mats");
+        List<Slot> slots = scheduler.schedule(tasks, 2);
+
+        // Then
+        logger.info("Checking schedule constraints");
+        assertEquals(tasks.size(), slots.size(), "Every match should be scheduled");
+        assertValidSchedule(tasks, slots);
+        logger.info("Test passed: Dependencies and rest times respected");
+    }
+
+    /**
+     * Test scenario: Athlete entered in two categories
+     * Expected: Their two first-round matches are separated by at least the match duration plus rest
+     */
+    @Test
+    @DisplayName("Should keep minimum rest for athletes in several categories")
+    void testAthleteInTwoCategories_ShouldRest() {
+        // Given
+        logger.info("Setting up two independent matches sharing an athlete");
+        List<Task> tasks = List.of(
+            new Task(1, new long[]{100, 101}, new long[0], DURATION),
+            new Task(2, new long[]{100, 102}, new long[0], DURATION));
+
+        // When
+        logger.info("Scheduling on four mats");
+        Map<Long, Slot> slots = scheduler.schedule(tasks, 4).stream()
+            .collect(Collectors.toMap(Slot::taskId, Function.identity()));
+
+        // Then
+        logger.info("Checking rest between matches");
+        long gap = Math.abs(slots.get(2L).startSecond() - slots.get(1L).startSecond());
+        assertTrue(gap >= DURATION + REST, "Shared athlete should rest between matches");
+        logger.info("Test passed: Rest time enforced across categories");
+    }
+
+    /**
+     * Test scenario: Large tournament of 5,000 matches on 12 mats
+     * Expected: Every match is placed and the schedule is valid; speed is measured by MatSchedulerBenchmark
+     */
+    @Test
+    @DisplayName("Should schedule 5,000 matches on 12 mats")
+    void testLargeTournament_ShouldScheduleAllMatches() {
+        // Given
+        logger.info("Setting up brackets totalling at least 5,000 matches");
+        List<Task> tasks = new ArrayList<>();
+        while (tasks.size() < 5000) {
+            addBracket(tasks, 128);
+        }
+
+        // When
+        logger.info("Scheduling {} matches on 12 mats", tasks.size());
+        List<Slot> slots = scheduler.schedule(tasks, 12);
+
+        // Then
+        logger.info("Scheduled {} matches", slots.size());
+        assertEquals(tasks.size(), slots.size(), "Every match should be scheduled");
+        assertValidSchedule(tasks, slots);
+        logger.info("Test passed: Large tournament scheduled");
+    }
+
+    private void addBracket(List<Task> tasks, int size) {
+        long[] previous = null;
+        long participant = nextId * 1000;
+        while (size > 1) {
+            long[] round = new long[size / 2];
+            for (int i = 0; i < round.length; i++) {
+                round[i] = nextId++;
+                long[] participants = previous == null ? new long[]{participant++, participant++} : new long[0];
+                long[] predecessors = previous == null ? new long[0] : new long[]{previous[2 * i], previous[2 * i + 1]};
+                tasks.add(new Task(round[i], participants, predecessors, DURATION));
+            }
+            previous = round;
+            size /= 2;
+        }
+    }
+
+    private void assertValidSchedule(List<Task> tasks, List<Slot> slots) {
+        Map<Long, Slot> byTask = slots.stream().collect(Collectors.toMap(Slot::taskId, Function.identity()));
+        for (Task task : tasks) {
+            Slot slot = byTask.get(task.id());
+            for (long predecessor : task.predecessorIds()) {
+                assertTrue(slot.startSecond() >= byTask.get(predecessor).endSecond() + REST,
+                    "Match " + task.id() + " starts before predecessor " + predecessor + " plus rest");
+            }
+        }
+        Map<Integer, List<Slot>> byMat = new HashMap<>();
+        slots.forEach(slot -> byMat.computeIfAbsent(slot.matNumber(), mat -> new ArrayList<>()).add(slot));
+        for (List<Slot> matSlots : byMat.values()) {
+            matSlots.sort((a, b) -> Integer.compare(a.order(), b.order()));
+            for (int i = 1; i < matSlots.size(); i++) {
+                assertTrue(matSlots.get(i).startSecond() >= matSlots.get(i - 1).endSecond(),
+                    "Matches on the same mat should not overlap");
+            }
+        }
+    }
+}
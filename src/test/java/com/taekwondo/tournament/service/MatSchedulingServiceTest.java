@@ -0,0 +1,188 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.RebalanceRequestDTO;
+import com.taekwondo.tournament.dto.RebalanceResultDTO;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test class for the MatSchedulingService.
+ * Tests live rebalancing of the remaining matches around late and offline mats.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Mat Scheduling Service Tests")
+class MatSchedulingServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(MatSchedulingServiceTest.class);
+    private static final int MATS = 8;
+    private static final long DURATION_SECONDS = 360;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    private MatSchedulingService schedulingService;
+    private Tournament tournament;
+
+    /**
+     * Set up test environment before each test.
+     * Persists 36 brackets of 64 athletes (2,268 matches) on 8 mats and schedules them.
+     */
+    @BeforeEach
+    void setUp() {
+        schedulingService = new MatSchedulingService(tournamentRepository, matchRepository,
+            new JdbcTemplate(dataSource), event -> { }, 6, 20, LocalTime.of(9, 0));
+        tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(MATS);
+        tournament = entityManager.persist(tournament);
+        for (int bracket = 0; bracket < 36; bracket++) {
+            persistBracket(64);
+        }
+        entityManager.flush();
+        schedulingService.scheduleTournament(tournament.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Test scenario: Two hours in, mat 3 goes offline and mat 5 runs 30 minutes late
+     * Expected: Completed matches stay put, mat 3 gets no new matches, mat 5 resumes only after the delay,
+     * and the remaining 2,000+ matches are re-planned in under 200 ms
+     */
+    @Test
+    @DisplayName("Should re-plan remaining matches around an offline and a late mat")
+    void testOfflineAndLateMat_ShouldRebalanceRemainingMatches() {
+        // Given
+        logger.info("Recording results for every match scheduled in the first two hours");
+        LocalDateTime now = LocalDateTime.of(2026, 5, 1, 11, 0);
+        Participant winner = persistParticipant();
+        Map<Long, Match> before = new HashMap<>();
+        for (Match match : matchRepository.findByTournamentId(tournament.getId())) {
+            if (match.getScheduledTime().plusSeconds(DURATION_SECONDS).isBefore(now)) {
+                match.setWinner(winner);
+            }
+            before.put(match.getId(), copy(match));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        RebalanceRequestDTO request = new RebalanceRequestDTO();
+        request.setNow(now);
+        request.setOfflineMats(Set.of(3));
+        request.setMatDelayMinutes(Map.of(5, 30));
+
+        // When
+        logger.info("Rebalancing with mat 3 offline and mat 5 delayed");
+        RebalanceResultDTO result = schedulingService.rebalance(tournament.getId(), request);
+        entityManager.clear();
+
+        // Then
+        logger.info("Re-planned {} matches, {} rows changed, computed in {} ms",
+            result.getRemainingMatches(), result.getUpdatedMatches(), result.getComputeMillis());
+        assertTrue(result.getRemainingMatches() >= 2000, "Most matches should still be remaining");
+        assertTrue(result.getComputeMillis() < 200, "Rebalancing took " + result.getComputeMillis() + " ms");
+        assertEquals(MATS - 1, result.getKeptMatches(), "The match on each working mat should stay");
+
+        Map<Integer, List<Match>> pendingByMat = new HashMap<>();
+        for (Match match : matchRepository.findByTournamentId(tournament.getId())) {
+            Match previous = before.get(match.getId());
+            if (match.getWinner() != null) {
+                assertEquals(previous.getMatNumber(), match.getMatNumber(), "Completed matches should not move");
+                assertEquals(previous.getScheduledTime(), match.getScheduledTime());
+            } else {
+                pendingByMat.computeIfAbsent(match.getMatNumber(), mat -> new ArrayList<>()).add(match);
+            }
+        }
+        assertNull(pendingByMat.get(3), "No match should remain on the offline mat");
+        for (Map.Entry<Integer, List<Match>> mat : pendingByMat.entrySet()) {
+            List<Match> queue = mat.getValue().stream()
+                .sorted(Comparator.comparing(Match::getMatchOrder))
+                .collect(Collectors.toList());
+            Match current = queue.remove(0);
+            LocalDateTime free = current.getScheduledTime().isAfter(now) ? current.getScheduledTime() : now;
+            free = free.plusSeconds(DURATION_SECONDS).plusMinutes(mat.getKey() == 5 ? 30 : 0);
+            assertFalse(queue.get(0).getScheduledTime().isBefore(free),
+                "Mat " + mat.getKey() + " should stay free until its current match and delay are over");
+            for (int i = 1; i < queue.size(); i++) {
+                assertFalse(queue.get(i).getScheduledTime()
+                    .isBefore(queue.get(i - 1).getScheduledTime().plusSeconds(DURATION_SECONDS)),
+                    "Matches on mat " + mat.getKey() + " should not overlap");
+            }
+        }
+        logger.info("Test passed: Remaining matches rebalanced");
+    }
+
+    private void persistBracket(int size) {
+        List<Match> previous = List.of();
+        while (size > 1) {
+            List<Match> round = new ArrayList<>();
+            for (int i = 0; i < size / 2; i++) {
+                Match match = new Match();
+                match.setTournament(tournament);
+                match.setRound(Match.Round.ROUND_OF_32);
+                match.setMatNumber(1);
+                match.setMatchOrder(1);
+                round.add(entityManager.persist(match));
+            }
+            for (int i = 0; i < previous.size(); i++) {
+                previous.get(i).setNextMatchId(round.get(i / 2).getId());
+                previous.get(i).setNextMatchSlot(i % 2 + 1);
+            }
+            previous = round;
+            size /= 2;
+        }
+    }
+
+    private Participant persistParticipant() {
+        Participant participant = new Participant();
+        participant.setName("Winner");
+        participant.setAge(20);
+        participant.setGender(Gender.Male);
+        participant.setSkillLevel(SkillLevel.BLUE_BELT);
+        return entityManager.persist(participant);
+    }
+
+    private Match copy(Match match) {
+        Match copy = new Match();
+        copy.setMatNumber(match.getMatNumber());
+        copy.setMatchOrder(match.getMatchOrder());
+        copy.setScheduledTime(match.getScheduledTime());
+        return copy;
+    }
+}
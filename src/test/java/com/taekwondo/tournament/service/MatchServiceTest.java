@@ -0,0 +1,154 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the MatchService.
+ * Tests recording results: advancing winners, decided next matches, invalid winners and walkovers.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Match Service Tests")
+class MatchServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(MatchServiceTest.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private MatchService matchService;
+    private Tournament tournament;
+    private List<Participant> participants;
+    private Match finalMatch;
+    private Match firstSemi;
+    private Match secondSemi;
+    private int matchOrder;
+
+    /**
+     * Set up test environment before each test.
+     * Persists five participants and a bracket whose two semi-finals feed slots 1 and 2 of the final.
+     */
+    @BeforeEach
+    void setUp() {
+        matchService = new MatchService(matchRepository, event -> { }, new ScheduleCache(1000, Duration.ofMinutes(1)),
+            new CallBoardService(matchRepository, new LiveFeedService(new ObjectMapper(), 1000), 5, 360, 0.3,
+                Clock.systemDefaultZone()),
+            new ScheduleConflictService(matchRepository, Duration.ofMinutes(6), Duration.ofMinutes(20)));
+
+        tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(1);
+        tournament = entityManager.persist(tournament);
+        participants = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(20);
+            participant.setGender(Gender.Male);
+            participant.setSkillLevel(SkillLevel.BLACK_BELT);
+            participants.add(entityManager.persist(participant));
+        }
+        finalMatch = match(Match.Round.FINAL, null, null, null, null);
+        firstSemi = match(Match.Round.SEMI_FINAL, participants.get(0), participants.get(1), finalMatch.getId(), 1);
+        secondSemi = match(Match.Round.SEMI_FINAL, participants.get(2), participants.get(3), finalMatch.getId(), 2);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Test scenario: The second semi-final is decided, then the first, then the final; afterwards the first
+     * semi-final's result is changed
+     * Expected: Each winner lands in the slot its semi-final feeds, and the late change is rejected because
+     * the final already has a result
+     */
+    @Test
+    @DisplayName("Should advance winners into their slot and refuse changes once the next match is decided")
+    void testRecordResult_ShouldAdvanceWinner() {
+        // When
+        matchService.recordResult(secondSemi.getId(), participants.get(3).getId());
+        matchService.recordResult(firstSemi.getId(), participants.get(0).getId());
+        entityManager.flush();
+        entityManager.clear();
+        Match filled = matchRepository.findById(finalMatch.getId()).orElseThrow();
+        matchService.recordResult(finalMatch.getId(), participants.get(3).getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        logger.info("Final: {} vs {}", filled.getParticipant1().getName(), filled.getParticipant2().getName());
+        assertEquals(participants.get(0).getId(), filled.getParticipant1().getId(), "Semi-final 1 feeds slot 1");
+        assertEquals(participants.get(3).getId(), filled.getParticipant2().getId(), "Semi-final 2 feeds slot 2");
+        RuntimeException rejected = assertThrows(RuntimeException.class,
+            () -> matchService.recordResult(firstSemi.getId(), participants.get(1).getId()));
+        assertTrue(rejected.getMessage().contains("already has a result"));
+        logger.info("Test passed: Winners advanced");
+    }
+
+    /**
+     * Test scenario: A result names someone outside the match, a walkover is recorded in the final before
+     * the second semi-final is decided, and a walkover is recorded in a match nobody feeds
+     * Expected: The first two are rejected as bad requests; the genuine bye is accepted
+     */
+    @Test
+    @DisplayName("Should reject invalid winners and walkovers before the bracket has filled")
+    void testRecordResult_ShouldRejectInvalidResults() {
+        // Given
+        matchService.recordResult(firstSemi.getId(), participants.get(0).getId());
+        entityManager.flush();
+        entityManager.clear();
+        Match bye = match(Match.Round.QUARTER_FINAL, participants.get(4), null, null, null);
+
+        // When
+        IllegalArgumentException outsider = assertThrows(IllegalArgumentException.class,
+            () -> matchService.recordResult(secondSemi.getId(), participants.get(4).getId()));
+        IllegalArgumentException early = assertThrows(IllegalArgumentException.class,
+            () -> matchService.recordResult(finalMatch.getId(), participants.get(0).getId()));
+        Match walkover = matchService.recordResult(bye.getId(), participants.get(4).getId());
+
+        // Then
+        logger.info("Rejected: '{}' and '{}'", outsider.getMessage(), early.getMessage());
+        assertTrue(early.getMessage().contains("waiting for its opponent"));
+        assertEquals(participants.get(4).getId(), walkover.getWinner().getId());
+        logger.info("Test passed: Invalid results rejected");
+    }
+
+    private Match match(Match.Round round, Participant first, Participant second, Long nextMatchId, Integer slot) {
+        Match match = new Match();
+        match.setTournament(tournament);
+        match.setCategory("male 18-35 black belt");
+        match.setRound(round);
+        match.setMatNumber(1);
+        match.setMatchOrder(++matchOrder);
+        match.setParticipant1(first);
+        match.setParticipant2(second);
+        match.setNextMatchId(nextMatchId);
+        match.setNextMatchSlot(slot);
+        return entityManager.persist(match);
+    }
+}
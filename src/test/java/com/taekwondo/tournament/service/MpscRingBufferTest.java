@@ -0,0 +1,97 @@
+package com.taekwondo.tournament.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the MpscRingBuffer.
+ * Tests capacity limits and loss-free hand-over between concurrent producers and one consumer.
+ */
+@DisplayName("MPSC Ring Buffer Tests")
+class MpscRingBufferTest {
+    private static final Logger logger = LoggerFactory.getLogger(MpscRingBufferTest.class);
+
+    /**
+     * Test scenario: Buffer filled to capacity
+     * Expected: Further offers are rejected until the consumer drains, and order is preserved
+     */
+    @Test
+    @DisplayName("Should reject offers when full and keep FIFO order")
+    void testFullBuffer_ShouldRejectOffers() {
+        // Given
+        logger.info("Filling a buffer of capacity 4");
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // When
+        boolean acceptedWhenFull = buffer.offer(99);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drain(drained::add, 3);
+
+        // Then
+        assertFalse(acceptedWhenFull, "A full buffer should reject offers");
+        assertEquals(List.of(0, 1, 2), drained);
+        assertTrue(buffer.offer(4), "Drained slots should be reusable");
+        assertEquals(2, buffer.size());
+        logger.info("Test passed: Capacity and order respected");
+    }
+
+    /**
+     * Test scenario: Four producers offering 25,000 events each while one consumer drains
+     * Expected: Every event arrives exactly once and each producer's events stay in order
+     */
+    @Test
+    @DisplayName("Should hand over every element from concurrent producers exactly once")
+    void testConcurrentProducers_ShouldNotLoseElements() throws Exception {
+        // Given
+        int producers = 4;
+        int perProducer = 25_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    long[] element = {producer, i};
+                    while (!buffer.offer(element)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // When
+        logger.info("Draining {} elements from {} producers", producers * perProducer, producers);
+        long[] nextExpected = new long[producers];
+        long received = 0;
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < (long) producers * perProducer && System.nanoTime() < deadline) {
+            received += buffer.drain(element -> {
+                assertEquals(nextExpected[(int) element[0]], element[1], "Producer order should be kept");
+                nextExpected[(int) element[0]]++;
+            }, 256);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals((long) producers * perProducer, received, "Every element should be drained once");
+        assertEquals(0, buffer.size());
+        logger.info("Test passed: No elements lost or duplicated");
+    }
+}
@@ -0,0 +1,127 @@
+package com.taekwondo.tournament.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for the NameIndex.
+ * Tests accent folding, prefix and typo matching, incremental updates and typeahead over a large roster.
+ */
+@DisplayName("Name Index Tests")
+class NameIndexTest {
+    private static final Logger logger = LoggerFactory.getLogger(NameIndexTest.class);
+    private static final String[] SYLLABLES = {"ka", "ri", "mo", "sun", "le", "ta", "vin", "do", "ha", "jin",
+        "ne", "so", "ber", "lu", "mi", "ga", "ro", "zel", "an", "tor"};
+
+    private NameIndex index;
+
+    /**
+     * Set up test environment before each test.
+     * Indexes a handful of names with accents, a stroke letter and similar spellings.
+     */
+    @BeforeEach
+    void setUp() {
+        index = new NameIndex();
+        index.put(1, "José Müller");
+        index.put(2, "Łukasz Kowalski");
+        index.put(3, "John Smith");
+        index.put(4, "Johnny Walker");
+        index.put(5, "Jon Snow");
+        index.put(6, "Seo-yeon Park");
+    }
+
+    /**
+     * Test scenario: Queries typed without accents, half-typed, and with swapped or wrong letters
+     * Expected: The intended names are found, exact and prefix matches ahead of typo matches
+     */
+    @Test
+    @DisplayName("Should match across accents, prefixes and typos")
+    void testSearch_ShouldMatchAccentsPrefixesAndTypos() {
+        // When / Then
+        assertEquals(List.of(1L), ids(index.search("muller", 10)), "Accents should be folded");
+        assertEquals(List.of(1L), ids(index.search("JOSE mü", 10)), "The last word may be incomplete");
+        assertEquals(List.of(2L), ids(index.search("lukasz kowalsky", 10)), "A stroke letter and a typo");
+        assertEquals(List.of(6L), ids(index.search("seo yeon", 10)), "Punctuation should split words");
+
+        List<NameIndex.Hit> jhon = index.search("jhon", 10);
+        logger.info("Results for 'jhon': {}", jhon);
+        assertTrue(ids(jhon).contains(3L), "Swapped letters should still find John");
+
+        List<NameIndex.Hit> john = index.search("john", 10);
+        logger.info("Results for 'john': {}", john);
+        assertEquals(3L, john.get(0).id(), "The exact word should rank first");
+        assertEquals(4L, john.get(1).id(), "The prefix match should follow");
+        assertTrue(john.get(1).score() > john.get(2).score(), "Typo matches should rank last");
+        logger.info("Test passed: Accents, prefixes and typos matched");
+    }
+
+    /**
+     * Test scenario: A name is changed and another removed
+     * Expected: Searches reflect both changes immediately
+     */
+    @Test
+    @DisplayName("Should follow renames and removals")
+    void testUpdates_ShouldBeVisible() {
+        // When
+        index.put(3, "John Smyth");
+        index.remove(5);
+
+        // Then
+        assertEquals(List.of(3L), ids(index.search("smyth", 10)));
+        assertTrue(index.search("smith", 10).stream().allMatch(hit -> hit.name().equals("John Smyth")),
+            "Only the typo match of the new name should remain");
+        assertTrue(index.search("snow", 10).isEmpty(), "Removed names should not be found");
+        logger.info("Test passed: Updates visible");
+    }
+
+    /**
+     * Test scenario: 50,000 generated names and a typeahead session of one query per keystroke
+     * Expected: Every keystroke gets results, the name being typed is among them once its second word is
+     * started, and the completed name ranks first
+     */
+    @Test
+    @DisplayName("Should keep finding a name while it is typed in a large roster")
+    void testLargeRoster_ShouldFindNameWhileTyping() {
+        // Given
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            index.put(100 + i, word(random) + " " + word(random));
+        }
+        index.put(99, "Karimo Sunle");
+        String[] keystrokes = {"k", "ka", "kar", "kari", "karimo", "karimo s", "karimo sun"};
+
+        // When / Then
+        for (String keystroke : keystrokes) {
+            List<NameIndex.Hit> hits = index.search(keystroke, 10);
+            assertFalse(hits.isEmpty(), "No results for '" + keystroke + "'");
+            if (keystroke.length() >= "karimo s".length()) {
+                assertTrue(ids(hits).contains(99L), "'" + keystroke + "' should find the name being typed");
+            }
+        }
+        List<NameIndex.Hit> hits = index.search("karimo sunle", 10);
+        logger.info("Results for 'karimo sunle' over {} names: {}", index.size(), hits);
+        assertEquals(99L, hits.get(0).id());
+        logger.info("Test passed: Name found while typing");
+    }
+
+    private List<Long> ids(List<NameIndex.Hit> hits) {
+        return hits.stream().map(NameIndex.Hit::id).toList();
+    }
+
+    private String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+}
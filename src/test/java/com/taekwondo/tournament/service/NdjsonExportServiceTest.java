@@ -0,0 +1,97 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Tournament;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Test class for the NdjsonExportService.
+ * Tests that streamed rows carry the same fields as the JSON endpoints.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("NDJSON Export Service Tests")
+class NdjsonExportServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonExportServiceTest.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private NdjsonExportService exportService;
+    private Tournament tournament;
+    private Match match;
+
+    /**
+     * Set up test environment before each test.
+     * Persists a tournament with a participant limit and one completed match.
+     */
+    @BeforeEach
+    void setUp() {
+        exportService = new NdjsonExportService(dataSource, transactionManager, objectMapper, 10);
+        tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(2);
+        tournament.setMaxParticipants(64);
+        tournament = entityManager.persist(tournament);
+        match = new Match();
+        match.setTournament(tournament);
+        match.setMatNumber(1);
+        match.setMatchOrder(1);
+        match.setRound(Match.Round.FINAL);
+        match.setCompletedAt(LocalDateTime.of(2026, 5, 1, 10, 30));
+        match = entityManager.persist(match);
+        entityManager.flush();
+    }
+
+    /**
+     * Test scenario: The tournaments and matches are streamed
+     * Expected: The tournament row carries its participant limit and the match row its completion time
+     */
+    @Test
+    @DisplayName("Should stream the fields the JSON endpoints return")
+    void testStream_ShouldIncludeLimitAndCompletionTime() throws IOException {
+        // When
+        ByteArrayOutputStream tournaments = new ByteArrayOutputStream();
+        exportService.streamTournaments(tournaments);
+        ByteArrayOutputStream matches = new ByteArrayOutputStream();
+        exportService.streamMatches(matches);
+        JsonNode tournamentRow = objectMapper.readTree(tournaments.toString(StandardCharsets.UTF_8));
+        JsonNode matchRow = objectMapper.readTree(matches.toString(StandardCharsets.UTF_8));
+
+        // Then
+        logger.info("Tournament row: {}, match row: {}", tournamentRow, matchRow);
+        assertEquals(64, tournamentRow.get("maxParticipants").asInt());
+        assertEquals(match.getId(), matchRow.get("id").asLong());
+        assertEquals("2026-05-01T10:30:00", matchRow.get("completedAt").asText());
+        logger.info("Test passed: Streamed rows complete");
+    }
+}
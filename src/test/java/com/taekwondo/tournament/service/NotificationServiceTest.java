@@ -0,0 +1,246 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.NotificationDTO;
+import com.taekwondo.tournament.event.FollowChangedEvent;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.Topics;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Follow;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.FollowRepository;
+import com.taekwondo.tournament.repository.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test class for the NotificationService.
+ * Tests fan-out of match changes and bulk match rewrites to followers, and coalescing into batched,
+ * per-user notifications.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Notification Service Tests")
+class NotificationServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationServiceTest.class);
+    private static final long TOURNAMENT_ID = 1L;
+    private static final long CLUB_ID = 7L;
+
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private FollowRegistry followRegistry;
+    private InProcessNotificationSender sender;
+    private NotificationService notificationService;
+
+    /**
+     * Set up test environment before each test.
+     * Creates the service over a fresh registry, an in-process sender and batches of 500.
+     */
+    @BeforeEach
+    void setUp() {
+        followRegistry = new FollowRegistry(followRepository);
+        sender = new InProcessNotificationSender();
+        notificationService = new NotificationService(followRegistry, sender, matchRepository, 500);
+    }
+
+    /**
+     * Test scenario: 400 users follow a club, 20 of them also follow one of its athletes and 3 others follow
+     * the mat; a result is recorded and the winner advanced in the same window
+     * Expected: One batch with a single notification per user carrying both matches, and nothing left afterwards
+     */
+    @Test
+    @DisplayName("Should coalesce a result into one batched notification per follower")
+    void testFlush_ShouldSendOneNotificationPerUser() {
+        // Given
+        List<Follow> follows = new ArrayList<>();
+        for (long userId = 1; userId <= 400; userId++) {
+            follows.add(follow(userId, Follow.TargetType.CLUB, Topics.club(CLUB_ID)));
+            if (userId <= 20) {
+                follows.add(follow(userId, Follow.TargetType.PARTICIPANT, Topics.participant(101L)));
+            }
+        }
+        for (long userId = 401; userId <= 403; userId++) {
+            follows.add(follow(userId, Follow.TargetType.MAT, Topics.mat(TOURNAMENT_ID, 2)));
+        }
+        followRepository.saveAll(follows);
+        logger.info("Saved {} follows", follows.size());
+
+        // When
+        MatchDTO result = match(10L, 2, 101L, 201L);
+        result.setWinnerId(101L);
+        MatchDTO next = match(20L, 2, 101L, null);
+        notificationService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.RESULT_RECORDED,
+            result, null, null));
+        notificationService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, next, null, null));
+        notificationService.flush();
+
+        // Then
+        List<List<NotificationDTO>> batches = sender.drain();
+        logger.info("Delivered {} batches", batches.size());
+        assertEquals(1, batches.size(), "All followers should be reached in one batch");
+        List<NotificationDTO> notifications = batches.get(0);
+        assertEquals(403, notifications.size());
+        assertEquals(403, notifications.stream().map(NotificationDTO::getUserId).collect(Collectors.toSet()).size(),
+            "Each user should get exactly one notification");
+        NotificationDTO both = notifications.stream().filter(n -> n.getUserId() == 1L).findFirst().orElseThrow();
+        assertEquals(Set.of(Topics.club(CLUB_ID), Topics.participant(101L)), both.getTopics());
+        assertEquals(List.of(10L, 20L), both.getMatches().stream().map(MatchDTO::getId).toList());
+        assertEquals(2, both.getChanges(), "Two topics of one change should count once");
+
+        notificationService.flush();
+        assertTrue(sender.drain().isEmpty(), "Nothing should be left for the next window");
+        logger.info("Test passed: Result coalesced into one notification per user");
+    }
+
+    /**
+     * Test scenario: A user follows a mat after the registry is loaded, a match on the mat changes twice,
+     * then the user unfollows and the match changes again
+     * Expected: The two changes arrive as one notification with the latest match state, and none after unfollowing
+     */
+    @Test
+    @DisplayName("Should follow registry changes and keep the latest match state")
+    void testRegistryChanges_ShouldBeApplied() {
+        // Given
+        assertTrue(followRegistry.subscribers(Topics.mat(TOURNAMENT_ID, 1)).isEmpty());
+        followRegistry.onFollowChanged(new FollowChangedEvent(FollowChangedEvent.Type.FOLLOWED, 9L,
+            Topics.mat(TOURNAMENT_ID, 1)));
+
+        // When
+        MatchDTO scheduled = match(30L, 1, 301L, 302L);
+        MatchDTO decided = match(30L, 1, 301L, 302L);
+        decided.setWinnerId(302L);
+        notificationService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, scheduled, null, null));
+        notificationService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.RESULT_RECORDED,
+            decided, null, null));
+        notificationService.flush();
+
+        // Then
+        List<List<NotificationDTO>> batches = sender.drain();
+        assertEquals(1, batches.size());
+        NotificationDTO notification = batches.get(0).get(0);
+        logger.info("Notification: {}", notification);
+        assertEquals(9L, notification.getUserId());
+        assertEquals(1, notification.getMatches().size());
+        assertEquals(302L, notification.getMatches().get(0).getWinnerId(), "The latest state should be sent");
+        assertEquals(2, notification.getChanges());
+
+        followRegistry.onFollowChanged(new FollowChangedEvent(FollowChangedEvent.Type.UNFOLLOWED, 9L,
+            Topics.mat(TOURNAMENT_ID, 1)));
+        notificationService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, decided, null, null));
+        notificationService.flush();
+        assertTrue(sender.drain().isEmpty(), "Unfollowed topics should not notify");
+        logger.info("Test passed: Registry changes applied");
+    }
+
+    /**
+     * Test scenario: Brackets are generated for a tournament with two matches on two mats; one user follows
+     * mat 2, another follows an athlete fighting in both matches
+     * Expected: Each follower gets one notification for the whole rewrite, with only the matches they follow
+     */
+    @Test
+    @DisplayName("Should notify followers of matches written by bracket generation")
+    void testBracketsGenerated_ShouldNotifyMatAndParticipantFollowers() {
+        // Given
+        Tournament tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(2);
+        tournament = entityManager.persist(tournament);
+        Participant athlete = athlete("Athlete 1");
+        Match first = storedMatch(tournament, 1, athlete, athlete("Athlete 2"));
+        Match second = storedMatch(tournament, 2, athlete, athlete("Athlete 3"));
+        entityManager.flush();
+        followRepository.saveAll(List.of(
+            follow(1L, Follow.TargetType.MAT, Topics.mat(tournament.getId(), 2)),
+            follow(2L, Follow.TargetType.PARTICIPANT, Topics.participant(athlete.getId()))));
+
+        // When
+        notificationService.onTournamentChanged(new TournamentChangedEvent(tournament.getId(),
+            TournamentChangedEvent.Type.BRACKETS_GENERATED));
+        notificationService.onTournamentChanged(new TournamentChangedEvent(tournament.getId(),
+            TournamentChangedEvent.Type.UPDATED));
+        notificationService.flush();
+
+        // Then
+        List<NotificationDTO> notifications = sender.drain().stream().flatMap(List::stream).toList();
+        logger.info("Notifications: {}", notifications);
+        assertEquals(2, notifications.size());
+        NotificationDTO matFollower = notifications.stream().filter(n -> n.getUserId() == 1L).findFirst().orElseThrow();
+        assertEquals(List.of(second.getId()), matFollower.getMatches().stream().map(MatchDTO::getId).toList());
+        NotificationDTO athleteFollower = notifications.stream().filter(n -> n.getUserId() == 2L).findFirst()
+            .orElseThrow();
+        assertEquals(Set.of(first.getId(), second.getId()),
+            athleteFollower.getMatches().stream().map(MatchDTO::getId).collect(Collectors.toSet()));
+        assertEquals(1, athleteFollower.getChanges(), "The rewrite should count as one change");
+        logger.info("Test passed: Bracket generation notified followers");
+    }
+
+    private Participant athlete(String name) {
+        Participant participant = new Participant();
+        participant.setName(name);
+        participant.setAge(20);
+        participant.setGender(Gender.Male);
+        participant.setSkillLevel(SkillLevel.BLACK_BELT);
+        return entityManager.persist(participant);
+    }
+
+    private Match storedMatch(Tournament tournament, int matNumber, Participant participant1, Participant participant2) {
+        Match match = new Match();
+        match.setTournament(tournament);
+        match.setMatNumber(matNumber);
+        match.setMatchOrder(1);
+        match.setRound(Match.Round.QUARTER_FINAL);
+        match.setParticipant1(participant1);
+        match.setParticipant2(participant2);
+        return entityManager.persist(match);
+    }
+
+    private Follow follow(Long userId, Follow.TargetType targetType, String topic) {
+        Follow follow = new Follow();
+        follow.setUserId(userId);
+        follow.setTargetType(targetType);
+        follow.setTopic(topic);
+        follow.setCreatedAt(Instant.now());
+        return follow;
+    }
+
+    private MatchDTO match(Long id, Integer matNumber, Long participant1Id, Long participant2Id) {
+        MatchDTO match = new MatchDTO();
+        match.setId(id);
+        match.setTournamentId(TOURNAMENT_ID);
+        match.setMatNumber(matNumber);
+        match.setParticipant1Id(participant1Id);
+        match.setParticipant1ClubId(CLUB_ID);
+        if (participant2Id != null) {
+            match.setParticipant2Id(participant2Id);
+            match.setParticipant2ClubId(8L);
+        }
+        return match;
+    }
+}
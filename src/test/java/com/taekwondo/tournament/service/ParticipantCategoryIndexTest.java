@@ -0,0 +1,151 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for the ParticipantCategoryIndex.
+ * Tests category lookups against a plain filter, the reverse lookup, and updates from participant changes.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Participant Category Index Tests")
+class ParticipantCategoryIndexTest {
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantCategoryIndexTest.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    private ParticipantCategoryIndex categoryIndex;
+    private List<Participant> participants;
+
+    /**
+     * Set up test environment before each test.
+     * Persists 500 participants with random gender, belt and age; every 50th has no age.
+     */
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        participants = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(i % 50 == 0 ? null : 4 + random.nextInt(40));
+            participant.setGender(Gender.values()[random.nextInt(Gender.values().length)]);
+            participant.setSkillLevel(SkillLevel.values()[random.nextInt(SkillLevel.values().length)]);
+            participants.add(entityManager.persist(participant));
+        }
+        entityManager.flush();
+        categoryIndex = new ParticipantCategoryIndex(participantRepository);
+    }
+
+    /**
+     * Test scenario: Categories with and without gender, belt and age limits
+     * Expected: The index returns exactly the participants TournamentCategory.includes accepts, in id order
+     */
+    @Test
+    @DisplayName("Should find the same participants as filtering with the category")
+    void testParticipantIds_ShouldMatchCategoryFilter() {
+        // Given
+        List<Tournament.TournamentCategory> categories = List.of(
+            category(Gender.Male, 12, 15, SkillLevel.BLUE_BELT),
+            category(Gender.Female, 18, null, null),
+            category(null, null, 10, SkillLevel.WHITE_BELT),
+            category(null, 30, 30, null),
+            category(null, null, null, null),
+            category(Gender.Male, 20, 10, null));
+
+        for (Tournament.TournamentCategory category : categories) {
+            // When
+            long[] ids = categoryIndex.participantIds(category);
+
+            // Then
+            long[] expected = participants.stream()
+                .filter(category::includes)
+                .mapToLong(Participant::getId)
+                .sorted()
+                .toArray();
+            logger.info("{}: {} participants", category.getLabel(), ids.length);
+            assertArrayEquals(expected, ids, "Mismatch for " + category.getLabel());
+        }
+        Participant first = participants.get(1);
+        assertEquals(categories.stream().filter(category -> category.includes(first)).toList(),
+            categoryIndex.categoriesOf(first.getId(), categories));
+        logger.info("Test passed: Index agrees with the category filter");
+    }
+
+    /**
+     * Test scenario: A participant moves up a belt and ages a year, another is deleted
+     * Expected: Both leave their old categories and the first one appears in the new one
+     */
+    @Test
+    @DisplayName("Should follow participant updates and deletions")
+    void testParticipantChanges_ShouldUpdateIndex() {
+        // Given
+        Participant moved = participants.get(1);
+        Participant deleted = participants.get(2);
+        Tournament.TournamentCategory before = category(moved.getGender(), moved.getAge(), moved.getAge(),
+            moved.getSkillLevel());
+        Tournament.TournamentCategory after = category(moved.getGender(), moved.getAge() + 1, moved.getAge() + 1,
+            SkillLevel.BLACK_BELT);
+        assertTrue(contains(categoryIndex.participantIds(before), moved.getId()));
+
+        // When
+        logger.info("Promoting participant {} and deleting participant {}", moved.getId(), deleted.getId());
+        ParticipantDTO promoted = ParticipantDTO.from(moved);
+        promoted.setAge(moved.getAge() + 1);
+        promoted.setSkillLevel(SkillLevel.BLACK_BELT);
+        categoryIndex.onParticipantChanged(new ParticipantChangedEvent(ParticipantChangedEvent.Type.UPDATED, promoted));
+        categoryIndex.onParticipantChanged(new ParticipantChangedEvent(ParticipantChangedEvent.Type.DELETED,
+            ParticipantDTO.from(deleted)));
+
+        // Then
+        assertFalse(contains(categoryIndex.participantIds(before), moved.getId()), "Should leave the old category");
+        assertTrue(contains(categoryIndex.participantIds(after), moved.getId()), "Should join the new category");
+        assertFalse(categoryIndex.contains(deleted.getId()));
+        assertFalse(contains(categoryIndex.participantIds(category(null, null, null, null)), deleted.getId()));
+        logger.info("Test passed: Index follows participant changes");
+    }
+
+    private Tournament.TournamentCategory category(Gender gender, Integer minAge, Integer maxAge,
+                                                   SkillLevel skillLevel) {
+        Tournament.TournamentCategory category = new Tournament.TournamentCategory();
+        category.setGender(gender);
+        category.setMinAge(minAge);
+        category.setMaxAge(maxAge);
+        category.setSkillLevel(skillLevel);
+        return category;
+    }
+
+    private boolean contains(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,200 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.ImportResultDTO;
+import com.taekwondo.tournament.dto.NameSearchResultDTO;
+import com.taekwondo.tournament.event.ClubChangedEvent;
+import com.taekwondo.tournament.event.ParticipantsImportedEvent;
+import com.taekwondo.tournament.model.Club;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.repository.ClubRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Test class for the ParticipantImportService.
+ * Tests bulk CSV and JSON imports, club resolution, per-row error reporting and the events that keep
+ * the name search current.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Participant Import Service Tests")
+class ParticipantImportServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantImportServiceTest.class);
+
+    @Autowired
+    private ClubRepository clubRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ParticipantImportService importService;
+
+    /**
+     * Set up test environment before each test.
+     * Creates the import service with one existing club and a batch size of 500.
+     */
+    @BeforeEach
+    void setUp() {
+        importService = new ParticipantImportService(clubRepository, entityManager, transactionManager,
+            Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), event -> { }, 500);
+        Club existing = new Club();
+        existing.setName("Club 0");
+        clubRepository.save(existing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAllInBatch();
+        clubRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Test scenario: Registration file with 10,000 athletes from 50 clubs
+     * Expected: Every row is imported, only the 49 unknown clubs are created
+     */
+    @Test
+    @DisplayName("Should import 10,000 participants in batches")
+    void testLargeCsv_ShouldImportAllRows() throws Exception {
+        // Given
+        logger.info("Building a CSV file with 10,000 rows");
+        StringBuilder csv = new StringBuilder("Name,Age,Gender,Skill Level,Club\n");
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("Athlete ").append(i).append(',').append(6 + i % 30).append(',')
+                .append(i % 2 == 0 ? "Male" : "Female").append(',')
+                .append(SkillLevel.values()[i % SkillLevel.values().length].getDisplayName()).append(',')
+                .append(" club  ").append(i % 50).append('\n');
+        }
+
+        // When
+        logger.info("Importing CSV");
+        ImportResultDTO result = importService.importCsv(stream(csv.toString()));
+
+        // Then
+        logger.info("Imported {} rows in {} ms", result.getImported(), result.getDurationMillis());
+        assertEquals(10_000, result.getTotalRows());
+        assertEquals(10_000, result.getImported());
+        assertEquals(0, result.getFailed(), () -> "Unexpected errors: " + result.getErrors());
+        assertEquals(49, result.getClubsCreated(), "Club names should match ignoring case and spacing");
+        assertEquals(10_000, participantRepository.count());
+        assertEquals(50, clubRepository.count());
+        logger.info("Test passed: Large file imported");
+    }
+
+    /**
+     * Test scenario: CSV with invalid rows between valid ones
+     * Expected: Valid rows are stored and each invalid row is reported with its row number
+     * - Quoted club names may contain the separator
+     */
+    @Test
+    @DisplayName("Should report invalid rows without aborting the import")
+    void testInvalidRows_ShouldBeReportedPerRow() throws Exception {
+        // Given
+        logger.info("Building a CSV file with invalid rows");
+        String csv = String.join("\n",
+            "name;age;gender;skillLevel;club;clubLocation",
+            "Anna Berg;14;Female;BLUE_BELT;\"Dojang; Norr\";Umeå",
+            "Erik Lund;abc;Male;Red Belt;Club 0;",
+            "Sara Ek;12;Unknown;Red Belt;;",
+            ";12;Male;Red Belt;;",
+            "Omar Ali;25;male;black belt;Club 0;");
+
+        // When
+        logger.info("Importing CSV");
+        ImportResultDTO result = importService.importCsv(stream(csv));
+
+        // Then
+        logger.info("Checking reported errors");
+        assertEquals(5, result.getTotalRows());
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(2, 3, 4), result.getErrors().stream().map(ImportResultDTO.RowError::getRow).toList());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("age"));
+        Participant anna = participantRepository.findAll().stream()
+            .filter(participant -> participant.getName().equals("Anna Berg")).findFirst().orElseThrow();
+        assertEquals("Dojang; Norr", anna.getClub().getName());
+        logger.info("Test passed: Invalid rows reported individually");
+    }
+
+    /**
+     * Test scenario: JSON array upload
+     * Expected: Rows are read one by one and stored
+     */
+    @Test
+    @DisplayName("Should import a JSON array")
+    void testJsonArray_ShouldImport() throws Exception {
+        // Given
+        String json = "[{\"name\":\"Lina Sund\",\"age\":10,\"gender\":\"Female\",\"skillLevel\":\"Yellow Belt\","
+            + "\"club\":\"Club 0\"},{\"name\":\"Max Holm\",\"age\":200,\"gender\":\"Male\",\"skillLevel\":\"WHITE_BELT\"}]";
+
+        // When
+        logger.info("Importing JSON");
+        ImportResultDTO result = importService.importJson(stream(json));
+
+        // Then
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        logger.info("Test passed: JSON imported");
+    }
+
+    /**
+     * Test scenario: The name search is in use, then a row with an unknown club is imported
+     * Expected: The new club can be found by name, and its new member is listed with the club name
+     */
+    @Test
+    @DisplayName("Should make clubs created by an import searchable")
+    void testUnknownClub_ShouldBeSearchableAfterImport() throws Exception {
+        // Given
+        NameSearchService nameSearch = new NameSearchService(participantRepository, clubRepository);
+        assertTrue(nameSearch.search("Dojang", null, 10).isEmpty());
+        ParticipantImportService searchedImport = new ParticipantImportService(clubRepository, entityManager,
+            transactionManager, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), event -> {
+                if (event instanceof ClubChangedEvent club) {
+                    nameSearch.onClubChanged(club);
+                } else if (event instanceof ParticipantsImportedEvent imported) {
+                    nameSearch.onParticipantsImported(imported);
+                }
+            }, 500);
+
+        // When
+        logger.info("Importing a row with a new club");
+        searchedImport.importCsv(stream("Name,Age,Gender,Skill Level,Club\nMira Dahl,15,Female,Red Belt,Dojang Syd\n"));
+
+        // Then
+        List<NameSearchResultDTO> clubs = nameSearch.search("Dojang", NameSearchResultDTO.Type.CLUB, 10);
+        List<NameSearchResultDTO> members = nameSearch.search("Mira", NameSearchResultDTO.Type.PARTICIPANT, 10);
+        logger.info("Clubs: {}, members: {}", clubs, members);
+        assertEquals(List.of("Dojang Syd"), clubs.stream().map(NameSearchResultDTO::getName).toList());
+        assertEquals("Dojang Syd", members.get(0).getClubName());
+        logger.info("Test passed: Imported club searchable");
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,265 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.dto.TournamentRegistrationDTO;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.RegistrationRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test class for the RegistrationService.
+ * Tests in-memory admission under concurrent submissions, batched writes, and entrant listings.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Registration Service Tests")
+class RegistrationServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationServiceTest.class);
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    private RegistrationService registrationService;
+    private Tournament tournament;
+    private List<Participant> participants;
+    // Makes every write transaction fail to start while set
+    private final AtomicBoolean failWrites = new AtomicBoolean();
+
+    /**
+     * Set up test environment before each test.
+     * Persists a tournament capped at 50 entrants with a female blue belt category, and 80 participants,
+     * every fourth of them female. The service writes through a transaction manager that can be made to fail.
+     */
+    @BeforeEach
+    void setUp() {
+        ParticipantCategoryIndex categoryIndex = new ParticipantCategoryIndex(participantRepository);
+        ParticipantService participantService = new ParticipantService(participantRepository, tournamentRepository,
+            categoryIndex, event -> { });
+        registrationService = new RegistrationService(registrationRepository, tournamentRepository,
+            participantService, categoryIndex, entityManager, failingTransactionManager(), 20, 5_000);
+
+        Tournament.TournamentCategory female = new Tournament.TournamentCategory();
+        female.setGender(Gender.Female);
+        female.setSkillLevel(SkillLevel.BLUE_BELT);
+        tournament = new Tournament();
+        tournament.setName("National Championship");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(4);
+        tournament.setMaxParticipants(50);
+        tournament.getCategories().add(female);
+        tournament = testEntityManager.persist(tournament);
+        participants = new ArrayList<>();
+        for (int i = 0; i < 80; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(20);
+            participant.setGender(i % 4 == 0 ? Gender.Female : Gender.Male);
+            participant.setSkillLevel(SkillLevel.BLUE_BELT);
+            participants.add(testEntityManager.persist(participant));
+        }
+        testEntityManager.flush();
+    }
+
+    /**
+     * Test scenario: Eight club admins submit all 80 participants at once, each participant twice
+     * Expected: Exactly 50 are admitted, every other submission is rejected as full or duplicate, and the
+     * admitted registrations are stored by the batched writer
+     */
+    @Test
+    @DisplayName("Should admit exactly the capacity under concurrent submissions")
+    void testSubmitRegistration_ShouldEnforceCapacityConcurrently() throws Exception {
+        // Given
+        TournamentRegistrationDTO first = submitAndFlush(participants.get(0).getId());
+        assertEquals(tournament.getId(), first.getTournamentId());
+        ExecutorService admins = Executors.newFixedThreadPool(8);
+        ConcurrentLinkedQueue<CompletableFuture<TournamentRegistrationDTO>> admitted = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<String> rejections = new ConcurrentLinkedQueue<>();
+
+        // When
+        for (int admin = 0; admin < 8; admin++) {
+            int offset = admin;
+            admins.submit(() -> {
+                for (int i = 0; i < 20; i++) {
+                    Long participantId = participants.get((offset * 10 + i) % 80).getId();
+                    try {
+                        admitted.add(registrationService.submitRegistration(participantId, tournament.getId()));
+                    } catch (IllegalArgumentException e) {
+                        rejections.add(e.getMessage());
+                    }
+                }
+            });
+        }
+        admins.shutdown();
+        assertTrue(admins.awaitTermination(10, TimeUnit.SECONDS));
+        registrationService.flush();
+
+        // Then
+        logger.info("Admitted {}, rejected {}", admitted.size() + 1, rejections.size());
+        assertEquals(49, admitted.size(), "Only the remaining capacity should be admitted");
+        assertEquals(160 - 49, rejections.size());
+        assertTrue(rejections.stream().allMatch(message -> message.contains("is full")
+            || message.contains("already registered")));
+        assertTrue(admitted.stream().allMatch(CompletableFuture::isDone), "The writer should complete every request");
+        assertEquals(50, registrationRepository.findParticipantIdsByTournamentId(tournament.getId()).size());
+        assertEquals(50, registrationService.getEntrantCount(tournament.getId()));
+        logger.info("Test passed: Capacity enforced");
+    }
+
+    /**
+     * Test scenario: A full tournament frees a place when a participant unregisters, then entrants are
+     * listed for the whole tournament and for the female category
+     * Expected: The freed place can be taken, and the listings contain exactly the matching entrants
+     */
+    @Test
+    @DisplayName("Should free places on unregistering and list entrants per category")
+    void testUnregisterAndList_ShouldReflectEntrants() {
+        // Given
+        tournament.setMaxParticipants(2);
+        testEntityManager.flush();
+        submitAndFlush(participants.get(0).getId());
+        submitAndFlush(participants.get(1).getId());
+        assertThrows(IllegalArgumentException.class,
+            () -> registrationService.submitRegistration(participants.get(4).getId(), tournament.getId()));
+
+        // When
+        registrationService.submitUnregistration(participants.get(1).getId(), tournament.getId());
+        submitAndFlush(participants.get(4).getId());
+
+        // Then
+        List<ParticipantDTO> entrants = registrationService.getEntrants(tournament.getId(), null);
+        List<ParticipantDTO> females = registrationService.getEntrants(tournament.getId(), "female 0-99 blue belt");
+        logger.info("Entrants: {}", entrants.stream().map(ParticipantDTO::getName).toList());
+        assertEquals(Set.of(participants.get(0).getId(), participants.get(4).getId()),
+            Set.copyOf(entrants.stream().map(ParticipantDTO::getId).toList()));
+        assertEquals(2, females.size(), "Athletes 0 and 4 are both female");
+        assertEquals(2, registrationRepository.findParticipantIdsByTournamentId(tournament.getId()).size());
+        assertThrows(RuntimeException.class,
+            () -> registrationService.submitUnregistration(participants.get(1).getId(), tournament.getId()));
+        logger.info("Test passed: Entrants listed");
+    }
+
+    /**
+     * Test scenario: A participant registers, unregisters and registers again before the writer runs
+     * Expected: The three changes are stored as one batch, leaving a single stored registration
+     */
+    @Test
+    @DisplayName("Should store a re-registration within the same batch")
+    void testReRegisterInOneBatch_ShouldStoreOneRegistration() {
+        // Given
+        Long participantId = participants.get(0).getId();
+        CompletableFuture<TournamentRegistrationDTO> first =
+            registrationService.submitRegistration(participantId, tournament.getId());
+        CompletableFuture<Void> unregistered = registrationService.submitUnregistration(participantId, tournament.getId());
+        CompletableFuture<TournamentRegistrationDTO> second =
+            registrationService.submitRegistration(participantId, tournament.getId());
+
+        // When
+        registrationService.flush();
+
+        // Then
+        first.join();
+        unregistered.join();
+        assertEquals(participantId, second.join().getParticipantId());
+        assertEquals(List.of(participantId), registrationRepository.findParticipantIdsByTournamentId(tournament.getId()));
+        assertEquals(1, registrationService.getEntrantCount(tournament.getId()));
+        logger.info("Test passed: Re-registration stored in one batch");
+    }
+
+    /**
+     * Test scenario: A stored registration is withdrawn while the database cannot be written
+     * Expected: The withdrawal fails, and the participant is an entrant again both in memory and in storage
+     */
+    @Test
+    @DisplayName("Should keep the entrant when unregistering cannot be stored")
+    void testFailedUnregistration_ShouldRestoreEntrant() {
+        // Given
+        Long participantId = participants.get(0).getId();
+        submitAndFlush(participantId);
+        failWrites.set(true);
+
+        // When
+        CompletableFuture<Void> unregistered = registrationService.submitUnregistration(participantId, tournament.getId());
+        assertEquals(0, registrationService.getEntrantCount(tournament.getId()));
+        registrationService.flush();
+        failWrites.set(false);
+
+        // Then
+        assertTrue(unregistered.isCompletedExceptionally(), "The failed write should be reported");
+        assertEquals(1, registrationService.getEntrantCount(tournament.getId()));
+        assertEquals(List.of(participantId), registrationRepository.findParticipantIdsByTournamentId(tournament.getId()));
+        assertThrows(IllegalArgumentException.class,
+            () -> registrationService.submitRegistration(participantId, tournament.getId()));
+        logger.info("Test passed: Entrant restored after a failed unregistration");
+    }
+
+    private PlatformTransactionManager failingTransactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                if (failWrites.get()) {
+                    throw new CannotCreateTransactionException("Database unavailable");
+                }
+                return transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+    }
+
+    private TournamentRegistrationDTO submitAndFlush(Long participantId) {
+        CompletableFuture<TournamentRegistrationDTO> registration =
+            registrationService.submitRegistration(participantId, tournament.getId());
+        registrationService.flush();
+        return registration.join();
+    }
+}
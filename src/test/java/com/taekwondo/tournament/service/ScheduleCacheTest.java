@@ -0,0 +1,162 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import com.taekwondo.tournament.model.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Test class for the ScheduleCache.
+ * Tests that schedule views are served from memory and dropped only when a change touches them.
+ */
+@DisplayName("Schedule Cache Tests")
+class ScheduleCacheTest {
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleCacheTest.class);
+    private ScheduleCache cache;
+    private AtomicInteger loads;
+
+    /**
+     * Set up test environment before each test.
+     * Creates an empty cache and resets the load counter.
+     */
+    @BeforeEach
+    void setUp() {
+        cache = new ScheduleCache(1000, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    /**
+     * Test scenario: Same mat schedule read twice
+     * Expected: The database loader runs once and the second read is a hit
+     */
+    @Test
+    @DisplayName("Should serve repeated reads from memory")
+    void testRepeatedRead_ShouldHitCache() {
+        // Given
+        logger.info("Reading mat 1 of tournament 1 twice");
+        cache.mat(1L, 1, loader(match(10L, 1L, 1, Match.Round.FINAL)));
+
+        // When
+        List<MatchDTO> second = cache.mat(1L, 1, loader(match(10L, 1L, 1, Match.Round.FINAL)));
+
+        // Then
+        logger.info("Checking loader calls and stats");
+        assertEquals(1, second.size());
+        assertEquals(1, loads.get(), "Second read should not hit the database");
+        assertEquals(1, cache.getStats().getHitCount());
+        assertEquals(1, cache.getStats().getMissCount());
+        logger.info("Test passed: Repeated read served from memory");
+    }
+
+    /**
+     * Test scenario: Match moved from mat 1 to mat 2
+     * Expected: Tournament, mat 1 and mat 2 views are dropped, mat 3 and other tournaments are kept
+     */
+    @Test
+    @DisplayName("Should only drop views touched by a match change")
+    void testMatchMoved_ShouldInvalidateAffectedViews() {
+        // Given
+        logger.info("Caching several views");
+        cache.tournament(1L, loader());
+        cache.mat(1L, 1, loader());
+        cache.mat(1L, 2, loader());
+        cache.mat(1L, 3, loader());
+        cache.mat(2L, 1, loader());
+        loads.set(0);
+
+        // When
+        logger.info("Moving a match from mat 1 to mat 2");
+        cache.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED,
+            match(10L, 1L, 2, Match.Round.FINAL), 1, null));
+
+        // Then
+        logger.info("Checking which views reload");
+        cache.mat(1L, 3, loader());
+        cache.mat(2L, 1, loader());
+        assertEquals(0, loads.get(), "Untouched views should stay cached");
+        cache.tournament(1L, loader());
+        cache.mat(1L, 1, loader());
+        cache.mat(1L, 2, loader());
+        assertEquals(3, loads.get(), "Touched views should reload");
+        logger.info("Test passed: Only affected views invalidated");
+    }
+
+    /**
+     * Test scenario: A semi-final of tournament 2 on mat 3, cached in both views, is moved into the final of
+     * tournament 1 on mat 1
+     * Expected: Only the views that held the match or now hold it reload; the quarter-final view stays cached
+     */
+    @Test
+    @DisplayName("Should find the views a match was moved out of")
+    void testMatchMovedAcrossViews_ShouldInvalidateHoldingViews() {
+        // Given
+        MatchDTO before = match(10L, 2L, 3, Match.Round.SEMI_FINAL);
+        cache.round(2L, Match.Round.SEMI_FINAL, loader(before));
+        cache.round(1L, Match.Round.QUARTER_FINAL, loader(match(11L, 1L, 1, Match.Round.QUARTER_FINAL)));
+        cache.mat(2L, 3, loader(before));
+        loads.set(0);
+
+        // When
+        cache.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED,
+            match(10L, 1L, 1, Match.Round.FINAL), null, null));
+        cache.round(1L, Match.Round.QUARTER_FINAL, loader());
+
+        // Then
+        assertEquals(0, loads.get(), "A view without the match should stay cached");
+        cache.round(2L, Match.Round.SEMI_FINAL, loader());
+        cache.mat(2L, 3, loader());
+        assertEquals(2, loads.get(), "Views the match left should reload");
+        logger.info("Test passed: Holding views invalidated");
+    }
+
+    /**
+     * Test scenario: Brackets regenerated for a tournament
+     * Expected: Every view of that tournament reloads
+     */
+    @Test
+    @DisplayName("Should drop every view of a regenerated tournament")
+    void testTournamentChanged_ShouldInvalidateTournament() {
+        // Given
+        logger.info("Caching round and mat views");
+        cache.round(1L, Match.Round.FINAL, loader());
+        cache.mat(1L, 4, loader());
+        loads.set(0);
+
+        // When
+        logger.info("Regenerating brackets");
+        cache.onTournamentChanged(new TournamentChangedEvent(1L, TournamentChangedEvent.Type.BRACKETS_GENERATED));
+        cache.round(1L, Match.Round.FINAL, loader());
+        cache.mat(1L, 4, loader());
+
+        // Then
+        assertEquals(2, loads.get(), "All views of the tournament should reload");
+        logger.info("Test passed: Tournament views invalidated");
+    }
+
+    private Supplier<List<MatchDTO>> loader(MatchDTO... matches) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(matches);
+        };
+    }
+
+    private MatchDTO match(Long id, Long tournamentId, Integer matNumber, Match.Round round) {
+        MatchDTO match = new MatchDTO();
+        match.setId(id);
+        match.setTournamentId(tournamentId);
+        match.setMatNumber(matNumber);
+        match.setRound(round);
+        return match;
+    }
+}
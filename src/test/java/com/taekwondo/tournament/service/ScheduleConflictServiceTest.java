@@ -0,0 +1,165 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.ConflictReportDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ScheduleConflictDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the ScheduleConflictService.
+ * Tests double-booking and rest checks on schedule changes, and the tournament conflict report.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Schedule Conflict Service Tests")
+class ScheduleConflictServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleConflictServiceTest.class);
+    private static final LocalDateTime DAY_START = LocalDateTime.of(2026, 5, 1, 9, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private ScheduleConflictService conflictService;
+    private Tournament tournament;
+    private List<Participant> participants;
+
+    /**
+     * Set up test environment before each test.
+     * Persists a tournament with four participants; matches last 6 minutes and need 20 minutes rest.
+     */
+    @BeforeEach
+    void setUp() {
+        conflictService = new ScheduleConflictService(matchRepository, Duration.ofMinutes(6), Duration.ofMinutes(20));
+        tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(2);
+        tournament = entityManager.persist(tournament);
+        participants = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(20);
+            participant.setGender(Gender.Male);
+            participant.setSkillLevel(SkillLevel.BLUE_BELT);
+            participants.add(entityManager.persist(participant));
+        }
+    }
+
+    /**
+     * Test scenario: Athlete 0 fights on mat 1 at 09:00 and is then booked on mat 2 at various times
+     * Expected: Overlapping and short-rest slots are rejected, a slot after the full rest is accepted,
+     * and committed changes are picked up by later checks
+     */
+    @Test
+    @DisplayName("Should reject double bookings and short rest on schedule changes")
+    void testCheck_ShouldRejectClashingSlots() {
+        // Given
+        logger.info("Scheduling athletes 0 and 1 on mat 1 at 09:00");
+        Match first = persistMatch(1, DAY_START, 0, 1);
+        entityManager.flush();
+
+        // When / Then
+        IllegalArgumentException overlap = assertThrows(IllegalArgumentException.class,
+            () -> conflictService.check(null, match(2, DAY_START.plusMinutes(3), 2, 0)));
+        logger.info("Overlap rejected: {}", overlap.getMessage());
+        assertTrue(overlap.getMessage().contains("already scheduled on mat 1"));
+
+        IllegalArgumentException shortRest = assertThrows(IllegalArgumentException.class,
+            () -> conflictService.check(null, match(2, DAY_START.plusMinutes(20), 0, 2)));
+        logger.info("Short rest rejected: {}", shortRest.getMessage());
+        assertTrue(shortRest.getMessage().contains("rest only 14 minutes"));
+
+        assertDoesNotThrow(() -> conflictService.check(null, match(2, DAY_START.plusMinutes(26), 0, 2)),
+            "Exactly the minimum rest should be allowed");
+        assertDoesNotThrow(() -> conflictService.check(first.getId(), match(1, DAY_START.plusMinutes(10), 0, 1)),
+            "A match should not clash with its own previous slot");
+
+        logger.info("Committing a match for athletes 0 and 2 at 09:26");
+        Match second = persistMatch(2, DAY_START.plusMinutes(26), 0, 2);
+        conflictService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.CREATED,
+            MatchDTO.from(second), null, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> conflictService.check(null, match(1, DAY_START.plusMinutes(40), 3, 2)),
+            "Athlete 2 now needs rest after 09:26");
+        logger.info("Test passed: Clashing slots rejected");
+    }
+
+    /**
+     * Test scenario: Matches stored directly put athlete 0 on two mats three minutes apart and athlete 1 back
+     * on the mat after ten minutes of rest
+     * Expected: The report lists one double booking and one short rest in start order
+     */
+    @Test
+    @DisplayName("Should report every conflict in a tournament")
+    void testReport_ShouldListConflicts() {
+        // Given
+        logger.info("Persisting a clashing schedule");
+        persistMatch(1, DAY_START, 0, 1);
+        persistMatch(2, DAY_START.plusMinutes(3), 0, 2);
+        persistMatch(1, DAY_START.plusMinutes(16), 1, 3);
+        persistMatch(2, DAY_START.plusHours(1), 0, 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        ConflictReportDTO report = conflictService.getReport(tournament.getId());
+
+        // Then
+        logger.info("Conflicts: {}", report.getConflicts());
+        assertEquals(4, report.getScheduledMatches());
+        assertEquals(2, report.getConflicts().size());
+        ScheduleConflictDTO doubleBooked = report.getConflicts().get(0);
+        assertEquals(ScheduleConflictDTO.Type.DOUBLE_BOOKED, doubleBooked.getType());
+        assertEquals(participants.get(0).getId(), doubleBooked.getParticipantId());
+        assertEquals(-3, doubleBooked.getRestMinutes());
+        ScheduleConflictDTO shortRest = report.getConflicts().get(1);
+        assertEquals(ScheduleConflictDTO.Type.SHORT_REST, shortRest.getType());
+        assertEquals(participants.get(1).getId(), shortRest.getParticipantId());
+        assertEquals(10, shortRest.getRestMinutes());
+        logger.info("Test passed: Conflicts reported");
+    }
+
+    private Match persistMatch(int matNumber, LocalDateTime start, int first, int second) {
+        Match match = match(matNumber, start, first, second);
+        match.setRound(Match.Round.ROUND_OF_32);
+        match.setMatchOrder(1);
+        return entityManager.persist(match);
+    }
+
+    private Match match(int matNumber, LocalDateTime start, int first, int second) {
+        Match match = new Match();
+        match.setTournament(tournament);
+        match.setMatNumber(matNumber);
+        match.setScheduledTime(start);
+        match.setParticipant1(participants.get(first));
+        match.setParticipant2(participants.get(second));
+        return match;
+    }
+}
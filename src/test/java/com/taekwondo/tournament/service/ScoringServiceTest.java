@@ -0,0 +1,213 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.LiveScoreDTO;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ScoringEventDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.MatchEvent;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.MatchEventRepository;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Test class for the ScoringService.
+ * Tests that live scores follow mat moves, are released once the match is decided and stored, and that
+ * events of deleted matches are discarded before they are written.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Scoring Service Tests")
+class ScoringServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(ScoringServiceTest.class);
+
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private MatchEventRepository matchEventRepository;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ScoringService scoringService;
+    private Match match;
+
+    /**
+     * Set up test environment before each test.
+     * Stores a tournament with one match between two athletes on mat 1.
+     */
+    @BeforeEach
+    void setUp() {
+        scoringService = new ScoringService(matchRepository, matchEventRepository, entityManager, transactionManager,
+            new LiveFeedService(new ObjectMapper(), 1000), 64, 500);
+        Tournament tournament = new Tournament();
+        tournament.setName("Open");
+        tournament.setDate(LocalDate.of(2026, 5, 1));
+        tournament.setNumberOfMats(2);
+        tournament = tournamentRepository.save(tournament);
+        match = new Match();
+        match.setTournament(tournament);
+        match.setMatNumber(1);
+        match.setMatchOrder(1);
+        match.setRound(Match.Round.FINAL);
+        match.setParticipant1(athlete("Athlete 1"));
+        match.setParticipant2(athlete("Athlete 2"));
+        match = matchRepository.save(match);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchEventRepository.deleteAllInBatch();
+        matchRepository.deleteAllInBatch();
+        tournamentRepository.deleteAll();
+        participantRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Test scenario: A point is scored on mat 1, the match is moved to mat 2 and another point is scored
+     * Expected: The second event is stored and published for mat 2
+     */
+    @Test
+    @DisplayName("Should queue events for the mat the match was moved to")
+    void testMatMove_ShouldRefreshLiveScoreMat() {
+        // Given
+        scoringService.ingest(match.getId(), List.of(kick()));
+
+        // When
+        logger.info("Moving match {} to mat 2", match.getId());
+        scoringService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, dto(2, null), 1, null));
+        scoringService.ingest(match.getId(), List.of(kick()));
+        scoringService.flush();
+
+        // Then
+        List<Integer> mats = matchEventRepository.findByMatchIdOrderByIdAsc(match.getId()).stream()
+            .map(MatchEvent::getMatNumber)
+            .toList();
+        logger.info("Stored events on mats {}", mats);
+        assertEquals(List.of(1, 2), mats);
+        assertEquals(2, scoringService.getLiveScore(match.getId()).getMatNumber());
+        logger.info("Test passed: Live score follows the mat move");
+    }
+
+    /**
+     * Test scenario: Points are scored and the match gets a winner before the writer runs
+     * Expected: The live score stays in memory until its events are stored, is then released, and is
+     * rebuilt from the stored events when asked for again
+     */
+    @Test
+    @DisplayName("Should release the live score once the decided match is stored")
+    void testDecidedMatch_ShouldEvictLiveScoreAfterFlush() {
+        // Given
+        scoringService.ingest(match.getId(), List.of(kick(), kick()));
+        LiveScoreDTO live = scoringService.getLiveScore(match.getId());
+
+        // When
+        scoringService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.RESULT_RECORDED,
+            dto(1, match.getParticipant1().getId()), null, null));
+        int beforeFlush = scoringService.getLiveScoreCount();
+        scoringService.flush();
+
+        // Then
+        logger.info("Live scores before flush: {}, after: {}", beforeFlush, scoringService.getLiveScoreCount());
+        assertEquals(1, beforeFlush, "Buffered events keep the score in memory");
+        assertEquals(0, scoringService.getLiveScoreCount());
+        LiveScoreDTO reloaded = scoringService.getLiveScore(match.getId());
+        assertEquals(live.getScore1(), reloaded.getScore1());
+        assertEquals(2, reloaded.getEventCount());
+        logger.info("Test passed: Decided match released");
+    }
+
+    /**
+     * Test scenario: Points are scored in two matches on different mats, then the first match is deleted
+     * before the writer runs
+     * Expected: The deleted match's events are discarded, and the other match's events are stored
+     */
+    @Test
+    @DisplayName("Should discard buffered events of a deleted match and store the rest")
+    void testDeletedMatch_ShouldDiscardItsBufferedEvents() {
+        // Given
+        Match other = new Match();
+        other.setTournament(match.getTournament());
+        other.setMatNumber(2);
+        other.setMatchOrder(1);
+        other.setRound(Match.Round.FINAL);
+        other.setParticipant1(athlete("Athlete 3"));
+        other.setParticipant2(athlete("Athlete 4"));
+        other = matchRepository.save(other);
+        ScoringEventDTO otherKick = kick();
+        otherKick.setParticipantId(other.getParticipant1().getId());
+        scoringService.ingest(match.getId(), List.of(kick(), kick()));
+        scoringService.ingest(other.getId(), List.of(otherKick));
+
+        // When
+        matchRepository.deleteById(match.getId());
+        scoringService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.DELETED, dto(1, null), null, null));
+        scoringService.flush();
+
+        // Then
+        logger.info("Pending after flush: {}", scoringService.getPendingEventCount());
+        assertTrue(matchEventRepository.findByMatchIdOrderByIdAsc(match.getId()).isEmpty());
+        assertEquals(1, matchEventRepository.findByMatchIdOrderByIdAsc(other.getId()).size());
+        assertEquals(0, scoringService.getPendingEventCount());
+        assertEquals(1, scoringService.getLiveScoreCount(), "Only the other match is still scored");
+        logger.info("Test passed: Deleted match's events discarded");
+    }
+
+    private Participant athlete(String name) {
+        Participant participant = new Participant();
+        participant.setName(name);
+        participant.setAge(20);
+        participant.setGender(Gender.Male);
+        participant.setSkillLevel(SkillLevel.BLACK_BELT);
+        return participantRepository.save(participant);
+    }
+
+    private ScoringEventDTO kick() {
+        ScoringEventDTO event = new ScoringEventDTO();
+        event.setType(MatchEvent.Type.HEAD_KICK);
+        event.setParticipantId(match.getParticipant1().getId());
+        return event;
+    }
+
+    private MatchDTO dto(int matNumber, Long winnerId) {
+        MatchDTO dto = new MatchDTO();
+        dto.setId(match.getId());
+        dto.setTournamentId(match.getTournament().getId());
+        dto.setMatNumber(matNumber);
+        dto.setParticipant1Id(match.getParticipant1().getId());
+        dto.setParticipant2Id(match.getParticipant2().getId());
+        dto.setWinnerId(winnerId);
+        return dto;
+    }
+}
@@ -0,0 +1,211 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.StandingsDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.model.Club;
+import com.taekwondo.tournament.model.Gender;
+import com.taekwondo.tournament.model.Match;
+import com.taekwondo.tournament.model.Participant;
+import com.taekwondo.tournament.model.SkillLevel;
+import com.taekwondo.tournament.model.Tournament;
+import com.taekwondo.tournament.repository.ClubRepository;
+import com.taekwondo.tournament.repository.MatchRepository;
+import com.taekwondo.tournament.repository.ParticipantRepository;
+import com.taekwondo.tournament.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the StandingsService.
+ * Tests medal and win/loss counts kept from result events, corrected results, and the parallel rebuild.
+ * Data is committed so the rebuild's worker threads can read it.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Standings Service Tests")
+class StandingsServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(StandingsServiceTest.class);
+
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+
+    private StandingsService standingsService;
+    private Club dragons;
+    private Club tigers;
+    private List<Participant> participants;
+    private int matchOrder;
+
+    /**
+     * Set up test environment before each test.
+     * Stores two clubs and four participants: athletes 0 and 2 train with the Dragons, 1 and 3 with the Tigers.
+     */
+    @BeforeEach
+    void setUp() {
+        standingsService = new StandingsService(matchRepository, tournamentRepository, clubRepository, 2);
+        dragons = club("Dragons");
+        tigers = club("Tigers");
+        participants = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Participant participant = new Participant();
+            participant.setName("Athlete " + i);
+            participant.setAge(20);
+            participant.setGender(Gender.Male);
+            participant.setSkillLevel(SkillLevel.BLACK_BELT);
+            participant.setClub(i % 2 == 0 ? dragons : tigers);
+            participants.add(participantRepository.save(participant));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        standingsService.shutdown();
+        matchRepository.deleteAllInBatch();
+        tournamentRepository.deleteAll();
+        participantRepository.deleteAllInBatch();
+        clubRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Test scenario: Athletes 0 and 3 win their semi-finals and athlete 0 wins the final; the final is then
+     * corrected in favour of athlete 3, and the final is moved to another mat
+     * Expected: Gold, silver and both bronzes are counted per participant and club, the correction swaps
+     * gold and silver, and the mat move keeps the entity tag
+     */
+    @Test
+    @DisplayName("Should count medals from results and take back corrected ones")
+    void testResults_ShouldUpdateMedalTable() {
+        // Given
+        Tournament tournament = tournament("Open");
+        Match finalMatch = match(tournament, Match.Round.FINAL, 0, 3, null);
+        Match firstSemi = match(tournament, Match.Round.SEMI_FINAL, 0, 1, null);
+        Match secondSemi = match(tournament, Match.Round.SEMI_FINAL, 2, 3, null);
+        assertTrue(standingsService.getStandings(tournament.getId()).getClubs().isEmpty());
+
+        // When
+        record(firstSemi, 0);
+        record(secondSemi, 3);
+        record(finalMatch, 0);
+        StandingsDTO afterFinal = standingsService.getStandings(tournament.getId());
+        record(finalMatch, 3);
+        StandingsDTO corrected = standingsService.getStandings(tournament.getId());
+        String etag = standingsService.etag(tournament.getId());
+        MatchDTO moved = MatchDTO.from(finalMatch);
+        moved.setMatNumber(2);
+        standingsService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, moved, 1, null));
+
+        // Then
+        logger.info("Club table: {}", corrected.getClubs());
+        StandingsDTO.ClubStanding leader = afterFinal.getClubs().get(0);
+        assertEquals("Dragons", leader.getClubName());
+        assertEquals(List.of(1, 0, 1, 2, 1),
+            List.of(leader.getGold(), leader.getSilver(), leader.getBronze(), leader.getWins(), leader.getLosses()));
+        assertEquals(participants.get(0).getId(), afterFinal.getParticipants().get(0).getParticipantId());
+        StandingsDTO.ClubStanding newLeader = corrected.getClubs().get(0);
+        assertEquals("Tigers", newLeader.getClubName());
+        assertEquals(List.of(1, 0, 1, 2, 1), List.of(newLeader.getGold(), newLeader.getSilver(),
+            newLeader.getBronze(), newLeader.getWins(), newLeader.getLosses()));
+        assertEquals(2, corrected.getClubs().get(1).getRank());
+        assertEquals(1, corrected.getClubs().get(1).getSilver());
+        assertEquals(List.of(1, 2, 3, 3), corrected.getParticipants().stream()
+            .map(StandingsDTO.ParticipantStanding::getRank).toList(), "Both bronze medallists should share third");
+        assertEquals(etag, standingsService.etag(tournament.getId()), "A mat move should not change the standings");
+        logger.info("Test passed: Medal table updated incrementally");
+    }
+
+    /**
+     * Test scenario: Two finished tournaments are rebuilt from their stored results in parallel
+     * Expected: Both are counted, each tournament's table holds only its own medals, and the rebuilt
+     * tables are then served without reloading
+     */
+    @Test
+    @DisplayName("Should rebuild historical tournaments in parallel")
+    void testRebuild_ShouldRecountStoredResults() {
+        // Given
+        Tournament spring = tournament("Spring Cup");
+        match(spring, Match.Round.FINAL, 0, 1, 0);
+        match(spring, Match.Round.QUARTER_FINAL, 2, 3, 3);
+        Tournament autumn = tournament("Autumn Cup");
+        match(autumn, Match.Round.FINAL, 2, 1, 1);
+        match(autumn, Match.Round.SEMI_FINAL, 0, 1, 1);
+
+        // When
+        int rebuilt = standingsService.rebuild(List.of(spring.getId(), autumn.getId()));
+        String etag = standingsService.etag(autumn.getId());
+
+        // Then
+        StandingsDTO springTable = standingsService.getStandings(spring.getId());
+        StandingsDTO autumnTable = standingsService.getStandings(autumn.getId());
+        logger.info("Spring: {}, autumn: {}", springTable.getClubs(), autumnTable.getClubs());
+        assertEquals(2, rebuilt);
+        assertEquals("Dragons", springTable.getClubs().get(0).getClubName());
+        assertEquals(1, springTable.getClubs().get(0).getGold());
+        assertEquals(1, springTable.getClubs().get(1).getSilver());
+        assertEquals(1, springTable.getClubs().get(1).getWins(), "Quarter-final wins count without a medal");
+        StandingsDTO.ClubStanding autumnLeader = autumnTable.getClubs().get(0);
+        assertEquals("Tigers", autumnLeader.getClubName());
+        assertEquals(List.of(1, 0, 0, 2, 0), List.of(autumnLeader.getGold(), autumnLeader.getSilver(),
+            autumnLeader.getBronze(), autumnLeader.getWins(), autumnLeader.getLosses()));
+        assertEquals(List.of(0, 1, 1), List.of(autumnTable.getClubs().get(1).getGold(),
+            autumnTable.getClubs().get(1).getSilver(), autumnTable.getClubs().get(1).getBronze()));
+        assertEquals(etag, standingsService.etag(autumn.getId()), "Rebuilt standings should be served as they are");
+        assertThrows(RuntimeException.class, () -> standingsService.rebuild(List.of(-1L)));
+        logger.info("Test passed: Historical tournaments rebuilt");
+    }
+
+    private void record(Match match, int winner) {
+        match.setWinner(participants.get(winner));
+        standingsService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.RESULT_RECORDED,
+            MatchDTO.from(match), null, null));
+    }
+
+    private Club club(String name) {
+        Club club = new Club();
+        club.setName(name);
+        return clubRepository.save(club);
+    }
+
+    private Tournament tournament(String name) {
+        Tournament tournament = new Tournament();
+        tournament.setName(name);
+        tournament.setDate(LocalDate.of(2025, 10, 4));
+        tournament.setNumberOfMats(1);
+        return tournamentRepository.save(tournament);
+    }
+
+    private Match match(Tournament tournament, Match.Round round, int first, int second, Integer winner) {
+        Match match = new Match();
+        match.setTournament(tournament);
+        match.setCategory("male 18-35 black belt");
+        match.setRound(round);
+        match.setMatNumber(1);
+        match.setMatchOrder(++matchOrder);
+        match.setParticipant1(participants.get(first));
+        match.setParticipant2(participants.get(second));
+        match.setWinner(winner != null ? participants.get(winner) : null);
+        return matchRepository.save(match);
+    }
+}
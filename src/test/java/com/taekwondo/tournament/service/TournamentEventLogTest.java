@@ -0,0 +1,166 @@
+package com.taekwondo.tournament.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taekwondo.tournament.dto.EventLogEntry;
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Test class for the TournamentEventLog.
+ * Tests recovery from snapshots and log replay, and handling of a torn tail record.
+ */
+@DisplayName("Tournament Event Log Tests")
+class TournamentEventLogTest {
+    private static final Logger logger = LoggerFactory.getLogger(TournamentEventLogTest.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    @TempDir
+    Path directory;
+    private TournamentEventLog eventLog;
+
+    /**
+     * Set up test environment before each test.
+     * Opens an event log on an empty temporary directory.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        eventLog = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        eventLog.close();
+    }
+
+    /**
+     * Test scenario: Matches created, one reassigned to another mat and one result recorded, then a crash
+     * Expected: The restarted log holds the same match state and reports the reassignment in the audit trail
+     */
+    @Test
+    @DisplayName("Should rebuild match state by replaying the log after a restart")
+    void testRestart_ShouldReplayLog() throws IOException {
+        // Given
+        logger.info("Logging 100 matches, a mat reassignment and a result");
+        for (long id = 1; id <= 100; id++) {
+            eventLog.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.CREATED, match(id, 1, null), null, null));
+        }
+        eventLog.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, match(7, 3, null), 1, null));
+        eventLog.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.RESULT_RECORDED, match(8, 1, 1008L), null, null));
+
+        // When
+        logger.info("Restarting the event log after a crash");
+        // A crash skips the snapshot taken on a clean shutdown
+        eventLog = open();
+
+        // Then
+        assertEquals(102, eventLog.getStatus().getReplayedEvents(), "Without a snapshot every event is replayed");
+        assertEquals(100, eventLog.getTournamentMatches(1L).size());
+        assertEquals(1L, eventLog.getTournamentMatches(1L).get(0).getId(), "Matches are served in id order");
+        assertEquals(3, eventLog.getMatch(7L).getMatNumber());
+        assertEquals(1008L, eventLog.getMatch(8L).getWinnerId());
+        List<EventLogEntry> audit = eventLog.getEntries(100, 10, 1L);
+        assertEquals(List.of(EventLogEntry.Type.MAT_REASSIGNED, EventLogEntry.Type.RESULT_RECORDED),
+            audit.stream().map(EventLogEntry::getType).toList());
+        assertEquals(1, audit.get(0).getPreviousMatNumber());
+        logger.info("Test passed: State rebuilt from the log");
+    }
+
+    /**
+     * Test scenario: A snapshot is taken after 1,000 events and 5 more events follow before a crash
+     * Expected: Only the 5 events after the snapshot are replayed, and the participant rename reaches the matches
+     */
+    @Test
+    @DisplayName("Should load the snapshot and replay only the tail")
+    void testSnapshot_ShouldReplayOnlyTail() throws IOException {
+        // Given
+        logger.info("Logging 1,000 matches and taking a snapshot");
+        for (long id = 1; id <= 1000; id++) {
+            eventLog.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.CREATED, match(id, 1, null), null, null));
+        }
+        eventLog.snapshot();
+        for (long id = 1001; id <= 1004; id++) {
+            eventLog.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.CREATED, match(id, 2, null), null, null));
+        }
+        ParticipantDTO renamed = new ParticipantDTO();
+        renamed.setId(1010L);
+        renamed.setName("Renamed Athlete");
+        eventLog.onParticipantChanged(new ParticipantChangedEvent(ParticipantChangedEvent.Type.UPDATED, renamed));
+
+        // When
+        logger.info("Restarting the event log after a crash");
+        // A crash skips the snapshot taken on a clean shutdown
+        eventLog = open();
+
+        // Then
+        assertEquals(1000, eventLog.getStatus().getSnapshotSequence());
+        assertEquals(5, eventLog.getStatus().getReplayedEvents(), "Only events after the snapshot should be replayed");
+        assertEquals(1004, eventLog.getTournamentMatches(1L).size());
+        assertEquals("Renamed Athlete", eventLog.getMatch(10L).getParticipant1Name());
+        logger.info("Recovered in {} ms", eventLog.getStatus().getRecoveryMillis());
+        logger.info("Test passed: Snapshot plus tail replay");
+    }
+
+    /**
+     * Test scenario: The process crashed halfway through writing a record
+     * Expected: The partial record is cut off on open and new records are appended readable after it
+     */
+    @Test
+    @DisplayName("Should truncate a torn record at the tail of the log")
+    void testTornTail_ShouldBeTruncated() throws IOException {
+        // Given
+        logger.info("Logging 3 matches and appending half a record");
+        for (long id = 1; id <= 3; id++) {
+            eventLog.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.CREATED, match(id, 1, null), null, null));
+        }
+        eventLog.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // When
+        eventLog = open();
+        eventLog.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.CREATED, match(4, 1, null), null, null));
+
+        // Then
+        List<EventLogEntry> entries = eventLog.getEntries(0, 10, null);
+        assertEquals(List.of(1L, 2L, 3L, 4L), entries.stream().map(EventLogEntry::getSequence).toList());
+        logger.info("Test passed: Torn record removed");
+    }
+
+    private TournamentEventLog open() throws IOException {
+        TournamentEventLog log = new TournamentEventLog(null, null, objectMapper, true, directory.toString(), 1);
+        log.recover();
+        return log;
+    }
+
+    private MatchDTO match(long id, int matNumber, Long winnerId) {
+        MatchDTO match = new MatchDTO();
+        match.setId(id);
+        match.setTournamentId(1L);
+        match.setMatNumber(matNumber);
+        match.setMatchOrder((int) id);
+        match.setParticipant1Id(1000 + id);
+        match.setParticipant1Name("Athlete " + id);
+        match.setParticipant2Id(2000 + id);
+        match.setWinnerId(winnerId);
+        return match;
+    }
+}
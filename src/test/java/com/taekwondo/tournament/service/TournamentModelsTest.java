@@ -0,0 +1,75 @@
+package com.taekwondo.tournament.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for TournamentModels.
+ * Tests that a load is only retried when a change to its own tournament races with it.
+ */
+@DisplayName("Tournament Models Tests")
+class TournamentModelsTest {
+    private static final Logger logger = LoggerFactory.getLogger(TournamentModelsTest.class);
+    private TournamentModels<String> models;
+    private AtomicInteger loads;
+
+    /**
+     * Set up test environment before each test.
+     * Creates an empty set of models and a load counter.
+     */
+    @BeforeEach
+    void setUp() {
+        models = new TournamentModels<>();
+        loads = new AtomicInteger();
+    }
+
+    /**
+     * Test scenario: While tournament 1 loads, a change to tournament 2 commits
+     * Expected: The load is kept on the first attempt
+     */
+    @Test
+    @DisplayName("Should keep a load that raced only with other tournaments")
+    void testOtherTournamentChanged_ShouldKeepLoad() {
+        // When
+        String model = models.getOrLoad(1L, id -> {
+            models.changed(2L);
+            return "tournament " + id + " load " + loads.incrementAndGet();
+        });
+
+        // Then
+        logger.info("Loaded '{}'", model);
+        assertEquals(1, loads.get());
+        assertSame(model, models.get(1L));
+        logger.info("Test passed: Unrelated change did not retry the load");
+    }
+
+    /**
+     * Test scenario: While tournament 1 loads, a change to tournament 1 commits once; later every
+     * tournament is invalidated
+     * Expected: The first load is discarded and retried, and the invalidation drops the model
+     */
+    @Test
+    @DisplayName("Should retry a load that raced with a change to its tournament")
+    void testOwnTournamentChanged_ShouldRetryLoad() {
+        // When
+        String model = models.getOrLoad(1L, id -> {
+            if (loads.incrementAndGet() == 1) {
+                models.changed(1L);
+            }
+            return "tournament " + id + " load " + loads.get();
+        });
+
+        // Then
+        logger.info("Loaded '{}'", model);
+        assertEquals("tournament 1 load 2", model);
+        models.invalidateAll();
+        assertNull(models.get(1L));
+        logger.info("Test passed: Racing change retried the load");
+    }
+}
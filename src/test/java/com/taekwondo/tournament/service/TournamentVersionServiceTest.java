@@ -0,0 +1,110 @@
+package com.taekwondo.tournament.service;
+
+import com.taekwondo.tournament.dto.MatchDTO;
+import com.taekwondo.tournament.dto.ParticipantDTO;
+import com.taekwondo.tournament.event.MatchChangedEvent;
+import com.taekwondo.tournament.event.ParticipantChangedEvent;
+import com.taekwondo.tournament.event.TournamentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the TournamentVersionService.
+ * Tests that ETags only change when a write touches the tagged data.
+ */
+@DisplayName("Tournament Version Service Tests")
+class TournamentVersionServiceTest {
+    private static final Logger logger = LoggerFactory.getLogger(TournamentVersionServiceTest.class);
+    private TournamentVersionService versionService;
+
+    /**
+     * Set up test environment before each test.
+     * Creates a version service with no recorded writes.
+     */
+    @BeforeEach
+    void setUp() {
+        versionService = new TournamentVersionService();
+    }
+
+    /**
+     * Test scenario: Match of tournament 1 changes
+     * Expected: Tags of tournament 1 and the global tag change, tournament 2 keeps its tag
+     */
+    @Test
+    @DisplayName("Should change only the tags a match write touches")
+    void testMatchChanged_ShouldBumpOwnTournament() {
+        // Given
+        logger.info("Recording tags before the write");
+        String tournament1 = versionService.tournamentETag(1L);
+        String tournament2 = versionService.tournamentETag(2L);
+        String global = versionService.globalETag();
+        MatchDTO match = new MatchDTO();
+        match.setTournamentId(1L);
+
+        // When
+        logger.info("Committing a match change in tournament 1");
+        versionService.onMatchChanged(new MatchChangedEvent(MatchChangedEvent.Type.UPDATED, match, null, null));
+
+        // Then
+        assertNotEquals(tournament1, versionService.tournamentETag(1L), "Tournament 1 tag should change");
+        assertEquals(tournament2, versionService.tournamentETag(2L), "Tournament 2 tag should be unchanged");
+        assertNotEquals(global, versionService.globalETag(), "Global tag should change");
+        logger.info("Test passed: Only affected tags changed");
+    }
+
+    /**
+     * Test scenario: Brackets regenerated twice
+     * Expected: Each write yields a new strong tag
+     */
+    @Test
+    @DisplayName("Should produce a new strong tag for every write")
+    void testTournamentChanged_ShouldProduceNewStrongTag() {
+        // Given
+        logger.info("Recording initial tag");
+        String before = versionService.tournamentETag(5L);
+
+        // When
+        versionService.onTournamentChanged(new TournamentChangedEvent(5L, TournamentChangedEvent.Type.BRACKETS_GENERATED));
+        String first = versionService.tournamentETag(5L);
+        versionService.onTournamentChanged(new TournamentChangedEvent(5L, TournamentChangedEvent.Type.SCHEDULED));
+        String second = versionService.tournamentETag(5L);
+
+        // Then
+        assertNotEquals(before, first);
+        assertNotEquals(first, second);
+        assertTrue(second.startsWith("\"") && !second.startsWith("W/"), "Tag should be strong and quoted");
+        logger.info("Test passed: Tags are strong and monotonic");
+    }
+
+    /**
+     * Test scenario: A client reads the matches of a tournament nobody has written to since boot, then a
+     * participant is renamed and the client asks again with the tag it got
+     * Expected: The conditional GET is answered with the new body instead of 304
+     */
+    @Test
+    @DisplayName("Should change every tournament tag when a participant is renamed")
+    void testParticipantRenamed_ShouldInvalidateUntouchedTournament() {
+        // Given
+        String etag = versionService.tournamentETag(7L);
+        logger.info("First GET answered with {}", etag);
+        ParticipantDTO participant = new ParticipantDTO();
+        participant.setId(3L);
+        participant.setName("Renamed Athlete");
+
+        // When
+        versionService.onParticipantChanged(new ParticipantChangedEvent(ParticipantChangedEvent.Type.UPDATED, participant));
+        MockHttpServletRequest conditionalGet = new MockHttpServletRequest("GET", "/api/matches/tournament/7");
+        conditionalGet.addHeader("If-None-Match", etag);
+        boolean notModified = new ServletWebRequest(conditionalGet).checkNotModified(versionService.tournamentETag(7L));
+
+        // Then
+        assertFalse(notModified, "The conditional GET should be answered with 200");
+        logger.info("Test passed: Rename invalidated the tag of an untouched tournament");
+    }
+}